@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { useParams, Link as RouterLink } from 'react-router-dom';
+import { useParams, useLocation, Link as RouterLink } from 'react-router-dom';
 import {
     Container, Paper, Typography, CircularProgress, Alert, Button, Box, Stack,
     Table, TableBody, TableCell, TableContainer, TableHead, TableRow, Chip,
@@ -13,6 +13,7 @@ import quizService from '../services/quizService';
 
 const StudentQuizResultsPage = () => {
     const { quizId } = useParams();
+    const attempt = useLocation().state?.attempt;
     const [quizDetails, setQuizDetails] = useState(null);
     const [results, setResults] = useState(null);
     const [isLoading, setIsLoading] = useState(true);
@@ -116,6 +117,32 @@ const StudentQuizResultsPage = () => {
                     </Box>
                     <Divider />
 
+                    {attempt && (
+                        <>
+                            <Typography variant="h6" component="h2" sx={{ mt: 2 }}>Your Score</Typography>
+                            <Grid container spacing={2} sx={{p:2, border: '1px solid', borderColor: 'divider', borderRadius: 1}}>
+                                <Grid item xs={12} sm={4}>
+                                    <Typography variant="body1">Score:</Typography>
+                                    <Typography variant="h5" component="p" color={attempt.score >= 50 ? "success.main" : "error.main"} sx={{fontWeight: 'bold'}}>
+                                        {(attempt.score ?? 0).toFixed(1)}%
+                                    </Typography>
+                                </Grid>
+                                <Grid item xs={12} sm={4}>
+                                    <Typography variant="body1">Points:</Typography>
+                                    <Typography variant="h5" component="p" sx={{fontWeight: 'bold'}}>
+                                        {attempt.earnedPoints ?? 0} / {attempt.possiblePoints ?? 0}
+                                    </Typography>
+                                </Grid>
+                                <Grid item xs={12} sm={4}>
+                                    <Typography variant="body1">Correct Answers:</Typography>
+                                    <Typography variant="h5" component="p" color="success.main" sx={{fontWeight: 'bold'}}>
+                                        {attempt.correctAnswers ?? 0}
+                                    </Typography>
+                                </Grid>
+                            </Grid>
+                        </>
+                    )}
+
                      <Typography variant="h6" component="h2" sx={{ mt: 2 }}>Overall Performance</Typography>
                     <Grid container spacing={2} sx={{p:2, border: '1px solid', borderColor: 'divider', borderRadius: 1}}>
                         <Grid item xs={12} sm={6} md={3}>
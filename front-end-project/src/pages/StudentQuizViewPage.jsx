@@ -8,7 +8,7 @@ import PlayArrowIcon from '@mui/icons-material/PlayArrow';
 import RateReviewIcon from '@mui/icons-material/RateReview'; 
 import quizService from '../services/quizService';
 import QuizAttemptInterface from '../components/QuizAttemptInterface';
-import { startQuizAttempt } from '../services/quizAttemptService';
+import { startQuizAttempt, completeQuizAttempt } from '../services/quizAttemptService';
 
 const StudentQuizViewPage = () => {
     const { quizId } = useParams();
@@ -71,9 +71,15 @@ const StudentQuizViewPage = () => {
         setIsStartingAttempt(false);
     };
 
-    const handleAttemptComplete = () => {
+    // The server closes the attempt and scores it by question points
+    const handleAttemptComplete = async () => {
         setShowAttemptInterface(false);
-        navigate(`/student/quizzes/${quizId}/results`);
+        try {
+            const completedAttempt = await completeQuizAttempt(attemptId);
+            navigate(`/student/quizzes/${quizId}/results`, { state: { attempt: completedAttempt } });
+        } catch (err) {
+            setAttemptError(err.message || 'Could not complete the quiz attempt.');
+        }
     };
 
    
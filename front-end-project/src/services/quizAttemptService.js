@@ -10,6 +10,10 @@ export const submitStudentAnswer = (attemptId, questionId, submissionDTO) => {
   return post(`${SERVICE_RELATIVE_PATH}/${attemptId}/questions/${questionId}/submit-answer`, submissionDTO);
 };
 
+export const completeQuizAttempt = (attemptId) => {
+  return post(`${SERVICE_RELATIVE_PATH}/${attemptId}/complete`);
+};
+
 
 export const getQuizAttemptDetails = (attemptId) => {
   return get(`${SERVICE_RELATIVE_PATH}/${attemptId}`);
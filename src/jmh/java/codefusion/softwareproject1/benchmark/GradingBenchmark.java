@@ -0,0 +1,148 @@
+package codefusion.softwareproject1.benchmark;
+
+import codefusion.softwareproject1.dto.AnswerOptionKeyDTO;
+import codefusion.softwareproject1.dto.AttemptScoreDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.QuizSubmissionResultDTO;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.repo.AnswerOptionRepo;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
+import codefusion.softwareproject1.service.analytics.AnalyticsPipeline;
+import codefusion.softwareproject1.service.attempt.AttemptJournal;
+import codefusion.softwareproject1.service.attempt.AttemptSession;
+import codefusion.softwareproject1.service.attempt.AttemptSessionStore;
+import codefusion.softwareproject1.service.attempt.AttemptSessionWriter;
+import codefusion.softwareproject1.service.grading.AnswerKeyCache;
+import codefusion.softwareproject1.service.grading.CompiledAnswerKey;
+import codefusion.softwareproject1.service.impl.QuizAttemptServiceImpl;
+import codefusion.softwareproject1.service.results.QuestionResultsSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Grading of a full quiz submission against a cached answer key, including the
+ * journal append of the attempt session, plus the one-off cost of compiling
+ * that key. Every submission goes to a new attempt, since answers are final;
+ * database writes of evicted sessions are stubbed out and the analytics
+ * pipeline is never started, so its events are dropped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GradingBenchmark {
+
+    @Param({"10", "100"})
+    private int questions;
+
+    @Param({"4"})
+    private int optionsPerQuestion;
+
+    private QuizAttemptServiceImpl quizAttemptService;
+    private QuizAnswerSubmissionDTO submission;
+    private List<AnswerOptionKeyDTO> answerKeys;
+    private AttemptJournal journal;
+    private Path journalDirectory;
+    private final AtomicLong attemptIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Quiz quiz = SyntheticQuizzes.quiz(questions, optionsPerQuestion);
+        answerKeys = SyntheticQuizzes.answerKeys(quiz);
+
+        AnswerKeyCache answerKeyCache = new AnswerKeyCache(Stubs.of(AnswerOptionRepo.class,
+                Map.of("findKeysByQuizId", args -> answerKeys)), 1000);
+        answerKeyCache.compile(quiz.getId());
+
+        QuizAttemptRepo quizAttemptRepo = Stubs.of(QuizAttemptRepo.class, Map.of("findById", args -> {
+            QuizAttempt attempt = new QuizAttempt();
+            attempt.setId((Long) args[0]);
+            attempt.setQuiz(quiz);
+            return Optional.of(attempt);
+        }));
+
+        journalDirectory = Files.createTempDirectory("attempt-journal");
+        journal = new AttemptJournal(journalDirectory.resolve("journal.log").toString(), false);
+        AttemptSessionWriter writer = new AttemptSessionWriter(null, null, null, journal, null, null) {
+            @Override
+            public void flush(AttemptSession session) {
+            }
+
+            @Override
+            public AttemptScoreDTO complete(AttemptSession session) {
+                return new AttemptScoreDTO(0L, 0L, 0L, 0L);
+            }
+        };
+        AttemptSessionStore attemptSessionStore = new AttemptSessionStore(quizAttemptRepo, Stubs.of(StudentAnswerRepo.class),
+                writer, journal, 10_000, Duration.ofHours(1), DataSize.ofMegabytes(64));
+        attemptSessionStore.recover();
+
+        quizAttemptService = new QuizAttemptServiceImpl(
+                Stubs.of(QuizRepo.class),
+                quizAttemptRepo,
+                answerKeyCache,
+                attemptSessionStore,
+                Stubs.of(QuestionResultsSource.class),
+                Stubs.of(QuestionResultCounterService.class),
+                new AnalyticsPipeline(null, new SimpleMeterRegistry(), false, 1, 1, Duration.ZERO),
+                null);
+
+        // Every student picks the second option, so most answers are wrong
+        Map<Long, Long> answers = new LinkedHashMap<>();
+        for (Question question : quiz.getQuestions()) {
+            answers.put(question.getId(), question.getAnswerOptions().get(1 % optionsPerQuestion).getId());
+        }
+        submission = new QuizAnswerSubmissionDTO(quiz.getId(), 1L, answers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public QuizSubmissionResultDTO submitAnswers() {
+        return quizAttemptService.submitStudentAnswers(attemptIds.incrementAndGet(), submission);
+    }
+
+    @Benchmark
+    public CompiledAnswerKey compileAnswerKey() {
+        return CompiledAnswerKey.compile(SyntheticQuizzes.QUIZ_ID, answerKeys);
+    }
+}
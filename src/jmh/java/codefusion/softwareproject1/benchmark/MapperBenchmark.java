@@ -0,0 +1,99 @@
+package codefusion.softwareproject1.benchmark;
+
+import codefusion.softwareproject1.dto.AnswerOptionDTO;
+import codefusion.softwareproject1.dto.QuestionDTO;
+import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.ReviewDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.Review;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.mapper.AnswerOptionMapper;
+import codefusion.softwareproject1.service.mapper.CategoryMapper;
+import codefusion.softwareproject1.service.mapper.QuestionMapper;
+import codefusion.softwareproject1.service.mapper.QuizMapper;
+import codefusion.softwareproject1.service.mapper.ReviewMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of a whole quiz graph, as done on every catalog read
+ * that misses the quiz cache, of one question and one answer option, as done
+ * when they are created or edited, and of a review page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "50"})
+    private int questions;
+
+    @Param({"4"})
+    private int optionsPerQuestion;
+
+    private QuizMapper quizMapper;
+    private QuestionMapper questionMapper;
+    private AnswerOptionMapper answerOptionMapper;
+    private ReviewMapper reviewMapper;
+    private Quiz quiz;
+    private Question question;
+    private AnswerOption answerOption;
+    private List<Review> reviews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        QuizRepo quizRepo = Stubs.of(QuizRepo.class);
+        answerOptionMapper = new AnswerOptionMapper();
+        questionMapper = new QuestionMapper(quizRepo, answerOptionMapper);
+        quizMapper = new QuizMapper(Stubs.of(CategoryRepo.class), new CategoryMapper(), questionMapper);
+        reviewMapper = new ReviewMapper(quizRepo);
+
+        quiz = SyntheticQuizzes.quiz(questions, optionsPerQuestion);
+        question = quiz.getQuestions().get(0);
+        answerOption = question.getAnswerOptions().get(0);
+        reviews = SyntheticQuizzes.reviews(quiz, questions);
+    }
+
+    @Benchmark
+    public QuizDTO quizToDto() {
+        return quizMapper.toDto(quiz);
+    }
+
+    @Benchmark
+    public QuestionDTO questionToDto() {
+        return questionMapper.toDto(question);
+    }
+
+    @Benchmark
+    public AnswerOptionDTO answerOptionToDto() {
+        return answerOptionMapper.toDto(answerOption);
+    }
+
+    @Benchmark
+    public void reviewsToDto(Blackhole blackhole) {
+        for (Review review : reviews) {
+            ReviewDTO dto = reviewMapper.toDto(review);
+            blackhole.consume(dto);
+        }
+    }
+}
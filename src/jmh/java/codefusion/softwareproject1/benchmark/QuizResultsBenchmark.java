@@ -0,0 +1,88 @@
+package codefusion.softwareproject1.benchmark;
+
+import codefusion.softwareproject1.dto.QuestionAnswerCountDTO;
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.results.AggregateQuestionResultsSource;
+import codefusion.softwareproject1.service.results.InMemoryQuestionResultsSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Java-side cost of the two query-time results strategies once their rows are
+ * loaded: grouping every answer in memory versus merging per-question totals.
+ * Row transfer and database time are not included; see QuizResultsBenchmarkTest
+ * for the end-to-end comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizResultsBenchmark {
+
+    @Param({"20"})
+    private int questions;
+
+    @Param({"10000", "100000"})
+    private int answers;
+
+    private InMemoryQuestionResultsSource inMemorySource;
+    private AggregateQuestionResultsSource aggregateSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Quiz quiz = SyntheticQuizzes.quiz(questions, 4);
+        List<Question> quizQuestions = quiz.getQuestions();
+        List<StudentAnswer> studentAnswers = SyntheticQuizzes.studentAnswers(quiz, answers);
+
+        Map<Long, QuestionAnswerCountDTO> counts = new LinkedHashMap<>();
+        for (StudentAnswer answer : studentAnswers) {
+            QuestionAnswerCountDTO count = counts.computeIfAbsent(answer.getQuestion().getId(),
+                    questionId -> new QuestionAnswerCountDTO(questionId, 0L, 0L));
+            count.setTotalAnswers(count.getTotalAnswers() + 1);
+            if (answer.isCorrect()) {
+                count.setCorrectAnswers(count.getCorrectAnswers() + 1);
+            }
+        }
+        List<QuestionAnswerCountDTO> aggregatedCounts = List.copyOf(counts.values());
+
+        QuestionRepo questionRepo = Stubs.of(QuestionRepo.class, Map.of("findByQuizId", args -> quizQuestions));
+        StudentAnswerRepo studentAnswerRepo = Stubs.of(StudentAnswerRepo.class, Map.of(
+                "findByQuestionIdIn", args -> studentAnswers,
+                "countAnswersByQuestionForQuiz", args -> aggregatedCounts));
+
+        inMemorySource = new InMemoryQuestionResultsSource(questionRepo, studentAnswerRepo);
+        aggregateSource = new AggregateQuestionResultsSource(questionRepo, studentAnswerRepo);
+    }
+
+    @Benchmark
+    public List<QuestionResultDTO> inMemory() {
+        return inMemorySource.loadResults(SyntheticQuizzes.QUIZ_ID);
+    }
+
+    @Benchmark
+    public List<QuestionResultDTO> aggregate() {
+        return aggregateSource.loadResults(SyntheticQuizzes.QUIZ_ID);
+    }
+}
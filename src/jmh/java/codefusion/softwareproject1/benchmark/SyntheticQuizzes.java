@@ -0,0 +1,119 @@
+package codefusion.softwareproject1.benchmark;
+
+import codefusion.softwareproject1.dto.AnswerOptionKeyDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Category;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.entity.Review;
+import codefusion.softwareproject1.entity.StudentAnswer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Builds detached entity graphs of a given size for the benchmarks.
+ * Ids are assigned sequentially: question q of the quiz has id q + 1 and its
+ * option o has id q * optionsPerQuestion + o + 1; option 0 is the correct one.
+ */
+final class SyntheticQuizzes {
+
+    static final long QUIZ_ID = 1L;
+
+    private SyntheticQuizzes() {
+    }
+
+    static Quiz quiz(int questions, int optionsPerQuestion) {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Benchmarks");
+        category.setCreatedAt(LocalDateTime.now());
+
+        Quiz quiz = new Quiz();
+        quiz.setId(QUIZ_ID);
+        quiz.setTitle("Synthetic quiz");
+        quiz.setDescription("Generated for benchmarking");
+        quiz.setCourseCode("BENCH-101");
+        quiz.setPublished(true);
+        quiz.setCategory(category);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>(questions));
+
+        for (int q = 0; q < questions; q++) {
+            Question question = new Question();
+            question.setId((long) q + 1);
+            question.setQuestionText("Question " + q);
+            question.setDifficultyLevel(Question.DifficultyLevel.values()[q % 3]);
+            question.setQuiz(quiz);
+            question.setCreatedAt(new Date());
+            question.setAnswerOptions(new ArrayList<>(optionsPerQuestion));
+            for (int o = 0; o < optionsPerQuestion; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setId((long) q * optionsPerQuestion + o + 1);
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                option.setCreatedAt(new Date());
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quiz;
+    }
+
+    static List<AnswerOptionKeyDTO> answerKeys(Quiz quiz) {
+        List<AnswerOptionKeyDTO> keys = new ArrayList<>();
+        for (Question question : quiz.getQuestions()) {
+            for (AnswerOption option : question.getAnswerOptions()) {
+                keys.add(new AnswerOptionKeyDTO(option.getId(), question.getId(), quiz.getId(),
+                        option.getIsCorrect(), option.getText(), question.getQuestionText()));
+            }
+        }
+        return keys;
+    }
+
+    static List<Review> reviews(Quiz quiz, int count) {
+        List<Review> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Review review = new Review();
+            review.setId((long) i + 1);
+            review.setQuiz(quiz);
+            review.setStudentNickname("student" + i);
+            review.setRating(i % 5 + 1);
+            review.setReviewText("Synthetic review number " + i);
+            review.setCreatedAt(LocalDateTime.now());
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    /**
+     * One attempt per questions-sized block of answers; every attempt answers every question,
+     * cycling through the options so roughly 1 in optionsPerQuestion answers is correct.
+     */
+    static List<StudentAnswer> studentAnswers(Quiz quiz, int count) {
+        List<Question> questions = quiz.getQuestions();
+        List<StudentAnswer> answers = new ArrayList<>(count);
+        QuizAttempt attempt = null;
+        for (int i = 0; i < count; i++) {
+            if (i % questions.size() == 0) {
+                attempt = new QuizAttempt();
+                attempt.setId((long) i / questions.size() + 1);
+                attempt.setQuiz(quiz);
+            }
+            Question question = questions.get(i % questions.size());
+            AnswerOption chosen = question.getAnswerOptions().get((i / questions.size()) % question.getAnswerOptions().size());
+
+            StudentAnswer answer = new StudentAnswer();
+            answer.setId((long) i + 1);
+            answer.setAttempt(attempt);
+            answer.setQuestion(question);
+            answer.setChosenAnswer(chosen);
+            answer.setCorrect(chosen.getIsCorrect());
+            answers.add(answer);
+        }
+        return answers;
+    }
+}
@@ -0,0 +1,40 @@
+package codefusion.softwareproject1.config;
+
+import codefusion.softwareproject1.service.cache.CopyingCaffeineCache;
+import codefusion.softwareproject1.service.cache.QuizCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Bounded Caffeine caches for quiz content. The caches are declared up front
+ * so actuator binds their hit, miss and eviction metrics at startup; QuizCache
+ * defers the evictions issued inside a transaction until it commits.
+ * Entries are copied on put and on get, so cached DTOs are never shared.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${quiz.cache.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CopyingCaffeineCache(name, cache, isAllowNullValues(), QuizCache::copyOf);
+            }
+        };
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(
+                QuizCache.QUIZ_BY_ID, QuizCache.PUBLISHED_QUIZZES, QuizCache.PUBLISHED_QUIZZES_BY_CATEGORY,
+                QuizCache.QUIZ_ETAGS, QuizCache.QUIZ_LIST_ETAGS));
+        return cacheManager;
+    }
+}
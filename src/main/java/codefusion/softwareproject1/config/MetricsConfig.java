@@ -0,0 +1,54 @@
+package codefusion.softwareproject1.config;
+
+import codefusion.softwareproject1.metrics.QueryCountFilter;
+import codefusion.softwareproject1.metrics.QueryCountingDataSource;
+import codefusion.softwareproject1.metrics.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Application metrics on top of what actuator binds on its own (HTTP requests,
+ * Spring Data repository invocations, Hibernate statistics, caches, pool):
+ * service method timers and JDBC statements per request. The X-Query-Count
+ * response header is opt-in through metrics.query-count-header.enabled, for
+ * development and tests; it is off by default so clients never see it.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.query-count-header.enabled:false}") boolean exposeHeader) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry, exposeHeader));
+        // Outermost, so the count also covers statements run by other filters
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
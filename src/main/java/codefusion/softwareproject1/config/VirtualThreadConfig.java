@@ -0,0 +1,50 @@
+package codefusion.softwareproject1.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Active when spring.threads.virtual.enabled=true. Boot then runs Tomcat
+ * requests, @Async tasks and @Scheduled jobs on virtual threads, which no
+ * longer bound how many requests reach the database at once, so the API is
+ * limited to fewer concurrent requests than the Hikari pool has connections.
+ * A request keeps one connection open for the view, and the pool also serves
+ * work that takes no request slot: the outbox relay, the analytics consumer,
+ * attempt-session write-behind, the leaderboard snapshot job and the search
+ * re-index after a quiz change, which opens a second transaction inside the
+ * request. reserved-connections are kept free for that work; set
+ * max-concurrent-requests to size the limit explicitly.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${quiz.threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${quiz.threads.reserved-connections:2}") int reservedConnections,
+            @Value("${quiz.threads.acquire-timeout:5s}") Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        int permits = maxConcurrentRequests > 0 ? maxConcurrentRequests : Math.max(1, poolSize - reservedConnections);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(permits, acquireTimeout);
+        Gauge.builder("quiz.threads.request.slots.available", filter, ConcurrencyLimitFilter::availablePermits)
+                .description("Free request slots in front of the connection pool")
+                .register(meterRegistry);
+        Gauge.builder("quiz.threads.request.slots.waiting", filter, ConcurrencyLimitFilter::queueLength)
+                .description("Requests waiting for a request slot")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
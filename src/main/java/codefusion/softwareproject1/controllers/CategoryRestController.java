@@ -1,6 +1,7 @@
 package codefusion.softwareproject1.controllers;
 
 import codefusion.softwareproject1.dto.CategoryDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
 import codefusion.softwareproject1.service.CategoryService;
 import codefusion.softwareproject1.service.QuizService;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -33,20 +35,47 @@ public class CategoryRestController {
     @Operation(summary = "Get all categories")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of categories")
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<CategoryDTO> categories = categoryService.getAllCategories();
+    public ResponseEntity<List<CategoryDTO>> getAllCategories(WebRequest request) {
+        return ConditionalResponses.withETag(request, categoryService.getAllCategoriesETag(),
+                () -> ResponseEntity.ok(categoryService.getAllCategories()));
+    }
+
+    @Operation(summary = "Get a page of categories ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of categories"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<CategoryDTO>> getCategoriesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<CategoryDTO> page = categoryService.getCategoriesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Search categories by name and description, best match first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching categories"),
+            @ApiResponse(responseCode = "400", description = "Search text without words")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<CategoryDTO>> searchCategories(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer size) {
+        List<CategoryDTO> categories = categoryService.searchCategories(q, size);
         return ResponseEntity.ok(categories);
     }
 
     @Operation(summary = "Get category by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved category"),
+            @ApiResponse(responseCode = "304", description = "Category unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id) {
-        CategoryDTO categoryDTO = categoryService.getCategoryById(id);
-        return ResponseEntity.ok(categoryDTO);
+    public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.withETag(request, categoryService.getCategoryETag(id),
+                () -> ResponseEntity.ok(categoryService.getCategoryById(id)));
     }
 
     @Operation(summary = "Create a new category")
@@ -89,8 +118,22 @@ public class CategoryRestController {
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}/quizzes")
-    public ResponseEntity<List<QuizDTO>> getPublishedQuizzesByCategoryId(@PathVariable Long id) {
-        List<QuizDTO> quizzes = quizService.getPublishedQuizzesByCategoryId(id);
-        return ResponseEntity.ok(quizzes);
+    public ResponseEntity<List<QuizDTO>> getPublishedQuizzesByCategoryId(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.withETag(request, quizService.getPublishedQuizzesByCategoryIdETag(id),
+                () -> quizService.getPublishedQuizzesByCategoryIdWithETag(id), ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get a page of published quizzes for a specific category")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of published quizzes for the category"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/{id}/quizzes/page")
+    public ResponseEntity<CursorPageDTO<QuizDTO>> getPublishedQuizzesByCategoryIdPage(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<QuizDTO> page = quizService.getPublishedQuizzesByCategoryIdPage(id, cursor, size);
+        return ResponseEntity.ok(page);
     }
-} 
\ No newline at end of file
+}
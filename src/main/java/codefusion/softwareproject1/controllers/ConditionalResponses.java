@@ -0,0 +1,70 @@
+package codefusion.softwareproject1.controllers;
+
+import codefusion.softwareproject1.service.cache.ETagged;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support: answers 304 Not Modified when the client's
+ * If-None-Match already holds the current ETag, before the body is built.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> withETag(WebRequest request, String etag, Supplier<ResponseEntity<T>> response) {
+        if (isNotModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return withETag(etag, response.get());
+    }
+
+    /**
+     * Same, for content loaded together with its own ETag. A change committed
+     * between the check and the load makes the two differ; the response then
+     * carries the ETag of the body that is sent.
+     */
+    static <T, R> ResponseEntity<R> withETag(WebRequest request, String etag, Supplier<ETagged<T>> content,
+                                             Function<T, ResponseEntity<R>> response) {
+        if (isNotModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ETagged<T> current = content.get();
+        return withETag(current.etag(), response.apply(current.body()));
+    }
+
+    private static <T> ResponseEntity<T> withETag(String etag, ResponseEntity<T> fresh) {
+        if (!fresh.getStatusCode().is2xxSuccessful()) {
+            return fresh;
+        }
+        return ResponseEntity.status(fresh.getStatusCode()).headers(fresh.getHeaders()).eTag(etag).body(fresh.getBody());
+    }
+
+    // Weak comparison, as If-None-Match requires. Unlike WebRequest.checkNotModified this does not
+    // write the ETag to the response, which must be the one of the body actually sent
+    private static boolean isNotModified(WebRequest request, String etag) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(quoted)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
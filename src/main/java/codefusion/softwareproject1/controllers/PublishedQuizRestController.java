@@ -1,12 +1,16 @@
 package codefusion.softwareproject1.controllers;
 
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.dto.CategoryDTO;
 import codefusion.softwareproject1.service.QuizService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -38,8 +42,10 @@ public class PublishedQuizRestController {
 
     /**
      * Get all published quizzes.
+     * Supports conditional GET: a matching If-None-Match yields 304 without loading the quizzes.
      * 
-     * @return list of published quiz DTOs with their associated categories
+     * @param request the current request, for If-None-Match
+     * @return list of published quiz DTOs with their associated categories, empty when there are none
      */
     @GetMapping("/published-quizzes")
     @Operation(
@@ -55,16 +61,91 @@ public class PublishedQuizRestController {
                 array = @ArraySchema(schema = @Schema(implementation = QuizDTO.class))
             )
         ),
-        @ApiResponse(responseCode = "404", description = "No published quizzes found")
+        @ApiResponse(responseCode = "304", description = "Published quizzes unchanged since the ETag in If-None-Match")
     })
-    public ResponseEntity<List<QuizDTO>> getPublishedQuizzes() {
-        List<QuizDTO> publishedQuizzes = quizService.getPublishedQuizzes();
-        
-        if (publishedQuizzes.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-        
-        return new ResponseEntity<>(publishedQuizzes, HttpStatus.OK);
+    public ResponseEntity<List<QuizDTO>> getPublishedQuizzes(WebRequest request) {
+        return ConditionalResponses.withETag(request, quizService.getPublishedQuizzesETag(),
+                quizService::getPublishedQuizzesWithETag,
+                publishedQuizzes -> new ResponseEntity<>(publishedQuizzes, HttpStatus.OK));
+    }
+
+    /**
+     * Get one page of published quizzes.
+     * 
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of published quiz DTOs ordered by ID
+     */
+    @GetMapping("/published-quizzes/page")
+    @Operation(
+        summary = "Get a page of published quizzes", 
+        description = "Retrieves published quizzes ordered by ID using keyset pagination"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of published quizzes"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<QuizDTO>> getPublishedQuizzesPage(
+            @Parameter(description = "Cursor returned by the previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") 
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<QuizDTO> page = quizService.getPublishedQuizzesPage(cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Full-text search over published quizzes.
+     *
+     * @param q the search text; every word matches as a prefix
+     * @param categoryId optional category to search in
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of matching published quizzes, best match first
+     */
+    @GetMapping("/published-quizzes/search")
+    @Operation(
+        summary = "Search published quizzes",
+        description = "Full-text search over title, course code, description, category name and question text, best match first"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of matching published quizzes"),
+        @ApiResponse(responseCode = "400", description = "Search text without words, or invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<QuizSearchResultDTO>> searchPublishedQuizzes(
+            @Parameter(description = "Search text")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Only search quizzes of this category")
+            @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<QuizSearchResultDTO> page = quizService.searchQuizzes(q, categoryId, true, cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Get lightweight summaries of all published quizzes.
+     * 
+     * @return list of published quiz summaries without nested questions
+     */
+    @GetMapping("/published-quizzes/summaries")
+    @Operation(
+        summary = "Get published quiz summaries", 
+        description = "Retrieves title, course code, category, question count and average rating of every published quiz"
+    )
+    @ApiResponse(
+        responseCode = "200", 
+        description = "Successfully retrieved list of published quiz summaries",
+        content = @Content(
+            mediaType = "application/json", 
+            array = @ArraySchema(schema = @Schema(implementation = QuizSummaryDTO.class))
+        )
+    )
+    public ResponseEntity<List<QuizSummaryDTO>> getPublishedQuizSummaries() {
+        List<QuizSummaryDTO> summaries = quizService.getPublishedQuizSummaries();
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
     }
     
     /**
@@ -1,23 +1,35 @@
 package codefusion.softwareproject1.controllers;
 
 import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.AttemptRankDTO;
+import codefusion.softwareproject1.dto.LeaderboardEntryDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
 import codefusion.softwareproject1.dto.QuizAttemptDTO;
 import codefusion.softwareproject1.dto.StudentAnswerDTO;
 import codefusion.softwareproject1.dto.QuizResultDTO;
-import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.dto.QuizStatisticsDTO;
+import codefusion.softwareproject1.dto.QuizSubmissionResultDTO;
+import codefusion.softwareproject1.service.AttemptExportService;
+import codefusion.softwareproject1.service.LeaderboardService;
 import codefusion.softwareproject1.service.QuizAttemptService;
-import codefusion.softwareproject1.service.mapper.StudentAnswerMapper;
+import codefusion.softwareproject1.service.QuizStatisticsService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -26,12 +38,17 @@ import java.util.Map;
 public class QuizAttemptRestController {
 
     private final QuizAttemptService quizAttemptService;
-    private final StudentAnswerMapper studentAnswerMapper;
+    private final LeaderboardService leaderboardService;
+    private final AttemptExportService attemptExportService;
+    private final QuizStatisticsService quizStatisticsService;
 
     @Autowired
-    public QuizAttemptRestController(QuizAttemptService quizAttemptService, StudentAnswerMapper studentAnswerMapper) {
+    public QuizAttemptRestController(QuizAttemptService quizAttemptService, LeaderboardService leaderboardService,
+                                     AttemptExportService attemptExportService, QuizStatisticsService quizStatisticsService) {
         this.quizAttemptService = quizAttemptService;
-        this.studentAnswerMapper = studentAnswerMapper;
+        this.leaderboardService = leaderboardService;
+        this.attemptExportService = attemptExportService;
+        this.quizStatisticsService = quizStatisticsService;
     }
 
     @Operation(summary = "Start a new quiz attempt")
@@ -54,8 +71,8 @@ public class QuizAttemptRestController {
     @Operation(summary = "Submit an answer for a question in an attempt")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Answer submitted successfully, returns StudentAnswerDTO"),
-            @ApiResponse(responseCode = "400", description = "Invalid input or submission error"),
-            @ApiResponse(responseCode = "404", description = "Attempt, Question, or AnswerOption not found")
+            @ApiResponse(responseCode = "400", description = "Invalid input, question already answered or attempt completed"),
+            @ApiResponse(responseCode = "404", description = "Attempt not found")
     })
     @PostMapping("/{attemptId}/questions/{questionId}/submit-answer")
     public ResponseEntity<StudentAnswerDTO> submitAnswer(
@@ -64,11 +81,35 @@ public class QuizAttemptRestController {
             @Valid @RequestBody AnswerSubmissionDTO submissionDTO) {
 
         Long studentId = 1L; // Default studentId for the operation
-        StudentAnswer savedStudentAnswerEntity = quizAttemptService.submitStudentAnswer(attemptId, questionId, submissionDTO, studentId);
+        StudentAnswerDTO responseDto = quizAttemptService.submitStudentAnswer(attemptId, questionId, submissionDTO, studentId);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @Operation(summary = "Submit all answers of an attempt in one request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Answers graded and stored, returns per-question correctness"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, or an answer does not belong to the attempt's quiz"),
+            @ApiResponse(responseCode = "404", description = "Attempt or AnswerOption not found")
+    })
+    @PostMapping("/{attemptId}/submit-answers")
+    public ResponseEntity<QuizSubmissionResultDTO> submitAnswers(
+            @PathVariable Long attemptId,
+            @Valid @RequestBody QuizAnswerSubmissionDTO submissionDTO) {
 
-        StudentAnswerDTO responseDto = studentAnswerMapper.toDto(savedStudentAnswerEntity);
+        QuizSubmissionResultDTO result = quizAttemptService.submitStudentAnswers(attemptId, submissionDTO);
+        return ResponseEntity.ok(result);
+    }
 
-        return ResponseEntity.ok(responseDto);
+    @Operation(summary = "Complete an attempt, storing its answers and points-weighted score")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Attempt completed, returns the attempt with its score"),
+            @ApiResponse(responseCode = "400", description = "Attempt already completed"),
+            @ApiResponse(responseCode = "404", description = "Attempt not found")
+    })
+    @PostMapping("/{attemptId}/complete")
+    public ResponseEntity<QuizAttemptDTO> completeQuizAttempt(@PathVariable Long attemptId) {
+        QuizAttemptDTO attempt = quizAttemptService.completeQuizAttempt(attemptId);
+        return ResponseEntity.ok(attempt);
     }
 
     @Operation(summary = "Get aggregated results for a specific quiz")
@@ -81,4 +122,86 @@ public class QuizAttemptRestController {
         QuizResultDTO results = quizAttemptService.getQuizResults(quizId);
         return ResponseEntity.ok(results);
     }
+
+    @Operation(summary = "Get item analysis statistics for a specific quiz",
+            description = "Difficulty, discrimination, answer time and option frequencies per question, "
+                    + "maintained asynchronously, so the latest answers may not be counted yet")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved quiz statistics"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/quizzes/{quizId}/statistics")
+    public ResponseEntity<QuizStatisticsDTO> getQuizStatistics(@PathVariable Long quizId) {
+        QuizStatisticsDTO statistics = quizStatisticsService.getQuizStatistics(quizId);
+        return ResponseEntity.ok(statistics);
+    }
+
+    @Operation(summary = "Export the attempts of a quiz or course with every stored answer as CSV",
+            description = "Streams one row per answer, ordered by attempt and answer ID; give either quizId or courseCode")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rows streamed", content = @Content(mediaType = AttemptExportService.CSV)),
+            @ApiResponse(responseCode = "400", description = "Neither or both of quizId and courseCode given"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found, or no quiz has the course code")
+    })
+    @GetMapping("/export")
+    public void exportAttemptAnswers(
+            @Parameter(description = "Export the attempts of this quiz")
+            @RequestParam(required = false) Long quizId,
+            @Parameter(description = "Export the attempts of all quizzes with this course code")
+            @RequestParam(required = false) String courseCode,
+            HttpServletResponse response) throws IOException {
+        String fileName = attemptExportService.exportFileName(quizId, courseCode); // 400 or 404 before the body starts
+        response.setContentType(AttemptExportService.CSV + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        attemptExportService.exportAttemptAnswers(quizId, courseCode, response.getOutputStream());
+    }
+
+    @Operation(summary = "Recompute the result counters of a quiz from its answer history")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counters rebuilt, returns the refreshed results"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @PostMapping("/quizzes/{quizId}/results/rebuild")
+    public ResponseEntity<QuizResultDTO> rebuildQuizResults(@PathVariable Long quizId) {
+        QuizResultDTO results = quizAttemptService.rebuildQuizResults(quizId);
+        return ResponseEntity.ok(results);
+    }
+
+    @Operation(summary = "Get the best completed attempts of a quiz, served from memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the leaderboard, best score first"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/quizzes/{quizId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getQuizLeaderboard(
+            @PathVariable Long quizId,
+            @RequestParam(required = false) Integer limit) {
+        List<LeaderboardEntryDTO> leaderboard = leaderboardService.getQuizLeaderboard(quizId, limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @Operation(summary = "Get the best completed attempts over all quizzes of a category")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the leaderboard, best score first"),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @GetMapping("/categories/{categoryId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getCategoryLeaderboard(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Integer limit) {
+        List<LeaderboardEntryDTO> leaderboard = leaderboardService.getCategoryLeaderboard(categoryId, limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @Operation(summary = "Get the rank of a completed attempt among all completed attempts of its quiz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the rank"),
+            @ApiResponse(responseCode = "400", description = "Attempt not completed yet"),
+            @ApiResponse(responseCode = "404", description = "Attempt not found")
+    })
+    @GetMapping("/{attemptId}/rank")
+    public ResponseEntity<AttemptRankDTO> getAttemptRank(@PathVariable Long attemptId) {
+        AttemptRankDTO rank = leaderboardService.getAttemptRank(attemptId);
+        return ResponseEntity.ok(rank);
+    }
 }
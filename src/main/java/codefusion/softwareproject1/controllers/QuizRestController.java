@@ -1,18 +1,27 @@
 package codefusion.softwareproject1.controllers;
 
 import codefusion.softwareproject1.dto.AnswerOptionDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuestionDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizImportResultDTO;
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.service.AnswerOptionService;
 import codefusion.softwareproject1.service.CategoryService;
 import codefusion.softwareproject1.service.QuestionService;
 import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.QuizTransferService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +31,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -35,21 +46,26 @@ import java.util.List;
 @Tag(name = "Quiz Management", description = "APIs for managing quizzes, questions, and answer options")
 public class QuizRestController {
 
+    public static final String NDJSON = "application/x-ndjson";
+
     private final QuizService quizService;
     private final QuestionService questionService;
     private final AnswerOptionService answerOptionService;
     private final CategoryService categoryService;
+    private final QuizTransferService quizTransferService;
 
     @Autowired
     public QuizRestController(
             QuizService quizService,
             QuestionService questionService,
             AnswerOptionService answerOptionService,
-            CategoryService categoryService) {
+            CategoryService categoryService,
+            QuizTransferService quizTransferService) {
         this.categoryService = categoryService;
         this.quizService = quizService;
         this.questionService = questionService;
         this.answerOptionService = answerOptionService;
+        this.quizTransferService = quizTransferService;
     }
 
     // =============== Quiz Endpoints ===============
@@ -76,9 +92,87 @@ public class QuizRestController {
                      content = @Content(mediaType = "application/json", 
                      schema = @Schema(implementation = QuizDTO.class)))
     })
-    public ResponseEntity<List<QuizDTO>> getAllQuizzes() {
-        List<QuizDTO> quizzes = quizService.getAllQuizzes();
-        return new ResponseEntity<>(quizzes, HttpStatus.OK);
+    public ResponseEntity<List<QuizDTO>> getAllQuizzes(WebRequest request) {
+        return ConditionalResponses.withETag(request, quizService.getAllQuizzesETag(), quizService::getAllQuizzesWithETag,
+                quizzes -> new ResponseEntity<>(quizzes, HttpStatus.OK));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of quizzes", description = "Retrieves quizzes ordered by ID using keyset pagination; pass nextCursor from the previous page as cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of quizzes"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<QuizDTO>> getQuizzesPage(
+            @Parameter(description = "Cursor returned by the previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") 
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<QuizDTO> page = quizService.getQuizzesPage(cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search quizzes", description = "Full-text search over title, course code, description, category name and question text, best match first; every word matches as a prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of matching quizzes"),
+        @ApiResponse(responseCode = "400", description = "Search text without words, or invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<QuizSearchResultDTO>> searchQuizzes(
+            @Parameter(description = "Search text")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Only search quizzes of this category")
+            @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Leave out unpublished quizzes")
+            @RequestParam(defaultValue = "false") boolean publishedOnly,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<QuizSearchResultDTO> page = quizService.searchQuizzes(q, categoryId, publishedOnly, cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/import", consumes = {NDJSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Import quizzes", description = "Creates quizzes with their questions and answer options from NDJSON, one quiz per line shaped like the export; invalid lines are skipped and reported")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; the result lists rejected lines",
+                     content = @Content(mediaType = "application/json", 
+                     schema = @Schema(implementation = QuizImportResultDTO.class)))
+    })
+    public ResponseEntity<QuizImportResultDTO> importQuizzes(InputStream body) throws IOException {
+        QuizImportResultDTO result = quizTransferService.importQuizzes(body);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export quizzes", description = "Streams quizzes with their questions and answer options as NDJSON, one quiz per line, ordered by ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quizzes streamed", content = @Content(mediaType = NDJSON)),
+        @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    public void exportQuizzes(
+            @Parameter(description = "Only export quizzes of this category")
+            @RequestParam(required = false) Long categoryId,
+            HttpServletResponse response) throws IOException {
+        if (categoryId != null) {
+            categoryService.getCategoryById(categoryId); // 404 before the body starts
+        }
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"quizzes.ndjson\"");
+        quizTransferService.exportQuizzes(categoryId, response.getOutputStream());
+    }
+
+    @GetMapping("/summaries")
+    @Operation(summary = "Get quiz summaries", description = "Retrieves a lightweight list of all quizzes with question count and average rating, without nested questions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of quiz summaries",
+                     content = @Content(mediaType = "application/json", 
+                     schema = @Schema(implementation = QuizSummaryDTO.class)))
+    })
+    public ResponseEntity<List<QuizSummaryDTO>> getQuizSummaries() {
+        List<QuizSummaryDTO> summaries = quizService.getQuizSummaries();
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -87,13 +181,15 @@ public class QuizRestController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved quiz",
                      content = @Content(mediaType = "application/json", 
                      schema = @Schema(implementation = QuizDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Quiz unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Quiz not found")
     })
     public ResponseEntity<QuizDTO> getQuizById(
             @Parameter(description = "Quiz ID", required = true) 
-            @PathVariable Long id) {
-        QuizDTO quiz = quizService.getQuizById(id);
-        return new ResponseEntity<>(quiz, HttpStatus.OK);
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, quizService.getQuizETag(id), () -> quizService.getQuizWithETag(id),
+                quiz -> new ResponseEntity<>(quiz, HttpStatus.OK));
     }
 
     @PutMapping("/{id}")
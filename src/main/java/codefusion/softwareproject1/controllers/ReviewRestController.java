@@ -1,6 +1,8 @@
 package codefusion.softwareproject1.controllers;
 
 import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import codefusion.softwareproject1.dto.RatingSummaryDTO;
 import codefusion.softwareproject1.dto.ReviewDTO;
 import codefusion.softwareproject1.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +65,33 @@ public class ReviewRestController {
         Map<String, Object> reviewsAndSummary = reviewService.getReviewsAndSummaryByQuizId(quizId);
         return ResponseEntity.ok(reviewsAndSummary);
     }
+
+    @Operation(summary = "Get the rating summary of a quiz: review count, average and star distribution")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved rating summary"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/quizzes/{quizId}/reviews/summary")
+    public ResponseEntity<RatingSummaryDTO> getRatingSummaryForQuiz(
+            @Parameter(description = "ID of the quiz") @PathVariable Long quizId) {
+        RatingSummaryDTO summary = reviewService.getRatingSummaryByQuizId(quizId);
+        return ResponseEntity.ok(summary);
+    }
+
+    @Operation(summary = "Get a page of reviews for a specific quiz, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of reviews"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/quizzes/{quizId}/reviews/page")
+    public ResponseEntity<CursorPageDTO<ReviewDTO>> getReviewsPageForQuiz(
+            @Parameter(description = "ID of the quiz") @PathVariable Long quizId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer size) {
+        CursorPageDTO<ReviewDTO> page = reviewService.getReviewsPageByQuizId(quizId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
     
     @Operation(summary = "Get a single review by its ID")
     @ApiResponses(value = {
@@ -1,5 +1,6 @@
 package codefusion.softwareproject1.controllers;
 
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
 import codefusion.softwareproject1.dto.TeacherDTO;
 import codefusion.softwareproject1.service.TeacherService;
@@ -39,6 +40,19 @@ public class TeacherController {
         return new ResponseEntity<>(teachers, HttpStatus.OK);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of teachers", description = "Returns teachers ordered by ID using keyset pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of teachers"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<TeacherDTO>> getTeachersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TeacherDTO> page = teacherService.getTeachersPage(cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get teacher by ID", description = "Returns a teacher by their ID")
     @ApiResponses(value = {
@@ -19,4 +19,9 @@ public class AnswerOptionDTO {
     private String explanation;
     private Date createdAt;
     private Date updatedAt;
+
+    public AnswerOptionDTO copy() {
+        return new AnswerOptionDTO(id, text, isCorrect, questionId, explanation,
+                createdAt != null ? (Date) createdAt.clone() : null, updatedAt != null ? (Date) updatedAt.clone() : null);
+    }
 }
\ No newline at end of file
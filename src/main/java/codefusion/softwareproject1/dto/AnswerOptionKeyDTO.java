@@ -0,0 +1,22 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Grading view of an answer option: which question and quiz it belongs to and
+ * whether it is correct. Read by a projection query so grading never has to
+ * load AnswerOption and Question entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerOptionKeyDTO {
+    private Long optionId;
+    private Long questionId;
+    private Long quizId;
+    private Boolean correct;
+    private String optionText;
+    private String questionText;
+}
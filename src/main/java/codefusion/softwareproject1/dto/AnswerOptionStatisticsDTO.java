@@ -0,0 +1,16 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerOptionStatisticsDTO {
+    private Long answerOptionId;
+    private String text;
+    private boolean correct;
+    private long timesChosen;
+    private Double share; // Fraction of the question's answers that chose this option, null before any answer
+}
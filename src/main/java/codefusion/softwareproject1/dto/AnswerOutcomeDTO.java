@@ -0,0 +1,17 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Whether a stored answer of an attempt was correct, without its texts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerOutcomeDTO {
+    private Long attemptId;
+    private Long questionId;
+    private boolean correct;
+}
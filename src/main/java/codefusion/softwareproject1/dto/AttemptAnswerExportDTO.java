@@ -0,0 +1,30 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One exported row: a stored answer with its attempt, or an attempt without
+ * stored answers, in which case the answer fields are null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttemptAnswerExportDTO {
+    private Long attemptId;
+    private Long quizId;
+    private String courseCode;
+    private LocalDateTime attemptDate;
+    private LocalDateTime completedAt;
+    private Float score;
+    private Long answerId;
+    private Long questionId;
+    private String questionText;
+    private Long chosenAnswerId;
+    private String chosenAnswerText;
+    private Boolean correct;
+    private LocalDateTime answeredAt;
+}
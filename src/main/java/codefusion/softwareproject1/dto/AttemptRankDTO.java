@@ -0,0 +1,16 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttemptRankDTO {
+    private Long attemptId;
+    private Long quizId;
+    private Float score;
+    private long rank; // One more than the number of completed attempts of the quiz that scored higher
+    private long completedAttempts;
+}
@@ -0,0 +1,27 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Points of one attempt, aggregated by the database. Possible points cover
+ * every question of the quiz, answered or not.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttemptScoreDTO {
+    private Long possiblePoints;
+    private Long earnedPoints;
+    private Long answeredQuestions;
+    private Long correctAnswers;
+
+    // Earned points as a percentage of the possible points
+    public float toPercentage() {
+        if (possiblePoints == null || possiblePoints == 0) {
+            return 0f;
+        }
+        return Math.min(100f, earnedPoints * 100f / possiblePoints);
+    }
+}
@@ -25,4 +25,8 @@ public class CategoryDTO {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    public CategoryDTO copy() {
+        return new CategoryDTO(id, name, description, createdAt, updatedAt);
+    }
 } 
\ No newline at end of file
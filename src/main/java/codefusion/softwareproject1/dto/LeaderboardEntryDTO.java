@@ -0,0 +1,18 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private long rank; // Competition ranking, equal scores share a rank
+    private Long attemptId;
+    private Long quizId;
+    private Float score;
+    private LocalDateTime completedAt;
+}
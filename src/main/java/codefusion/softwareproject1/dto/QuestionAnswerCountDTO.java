@@ -0,0 +1,17 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Answer totals of one question, aggregated by the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionAnswerCountDTO {
+    private Long questionId;
+    private Long totalAnswers;
+    private Long correctAnswers;
+}
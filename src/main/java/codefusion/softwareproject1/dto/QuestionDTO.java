@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -41,4 +42,10 @@ public class QuestionDTO {
         this.updatedAt = updatedAt;
         this.answerOptions = answerOptions;
     }
+
+    public QuestionDTO copy() {
+        return new QuestionDTO(id, questionText, quizId, difficultyLevel, points,
+                createdAt != null ? (Date) createdAt.clone() : null, updatedAt != null ? (Date) updatedAt.clone() : null,
+                answerOptions != null ? answerOptions.stream().map(AnswerOptionDTO::copy).collect(Collectors.toList()) : null);
+    }
 }
\ No newline at end of file
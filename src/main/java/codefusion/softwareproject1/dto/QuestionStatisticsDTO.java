@@ -0,0 +1,21 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionStatisticsDTO {
+    private Long questionId;
+    private String questionText;
+    private long answers;
+    private long correctAnswers;
+    private Double difficulty;        // Fraction answered correctly (item p-value), null before any answer
+    private Double discrimination;    // Point-biserial correlation of answering correctly with the attempt score, null while undefined
+    private Double averageTimeMillis; // Mean time taken over the answers that could be timed
+    private List<AnswerOptionStatisticsDTO> answerOptions; // Distractor analysis: how often each option was chosen
+}
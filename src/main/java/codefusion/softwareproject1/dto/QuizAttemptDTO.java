@@ -16,4 +16,9 @@ public class QuizAttemptDTO {
     private String quizTitle;
     private LocalDateTime attemptDate;
     private Float score;
+    private String status; // IN_PROGRESS or COMPLETED
+    private LocalDateTime completedAt;
+    private Long earnedPoints;
+    private Long possiblePoints;
+    private Long correctAnswers;
 }
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -58,4 +59,13 @@ public class QuizDTO {
         this.updatedAt = updatedAt;
         
     }
+
+    /**
+     * Deep copy, so callers never share an instance with the quiz caches.
+     */
+    public QuizDTO copy() {
+        return new QuizDTO(id, title, description, courseCode, published, categoryId,
+                category != null ? category.copy() : null, createdAt, updatedAt,
+                questions != null ? questions.stream().map(QuestionDTO::copy).collect(Collectors.toList()) : null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk quiz import. Rejected lines are skipped and the rest is
+ * imported; errors name the line, and only the first ones are listed.
+ */
+@Data
+@NoArgsConstructor
+public class QuizImportResultDTO {
+    private int quizzesImported;
+    private int questionsImported;
+    private int answerOptionsImported;
+    private int linesRejected;
+    private List<String> errors = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One quiz matching a search, best matches first. Title and course code weigh
+ * most, then category name and description, then question text.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizSearchResultDTO {
+    private Long id;
+    private String title;
+    private String description;
+    private String courseCode;
+    private Boolean published;
+    private Long categoryId;
+    private String categoryName;
+    private float rank; // Relevance in [0, 1), only comparable within one search
+}
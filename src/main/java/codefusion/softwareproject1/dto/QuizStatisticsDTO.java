@@ -0,0 +1,19 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizStatisticsDTO {
+    private Long quizId;
+    private String quizTitle;
+    private long completedAttempts;
+    private Double averageScore;           // Percentage, null before the first completed attempt
+    private Double scoreStandardDeviation; // Population standard deviation of the scores
+    private List<QuestionStatisticsDTO> questions;
+}
@@ -0,0 +1,21 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of submitting all answers of an attempt at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizSubmissionResultDTO {
+    private Long attemptId;
+    private Long quizId;
+    private int totalAnswers;
+    private long correctAnswers;
+    private List<StudentAnswerDTO> answers;
+}
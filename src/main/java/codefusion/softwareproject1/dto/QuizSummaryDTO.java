@@ -0,0 +1,31 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight quiz representation for catalog listings.
+ * Built directly by a JPQL constructor expression in QuizRepo, so counts and
+ * the average rating are computed by the database rather than by loading
+ * questions and reviews.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizSummaryDTO {
+    private Long id;
+    private String title;
+    private String description;
+    private String courseCode;
+    private Boolean published;
+    private Long categoryId;
+    private String categoryName;
+    private Long questionCount;
+    private Long reviewCount;
+    private Double averageRating;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
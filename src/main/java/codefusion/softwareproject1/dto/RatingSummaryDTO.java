@@ -0,0 +1,17 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDTO {
+    private Long quizId;
+    private long totalReviews;
+    private double averageRating; // Rounded to one decimal, 0.0 without reviews
+    private Map<Integer, Long> ratingDistribution; // Stars (1-5) -> number of reviews
+}
@@ -0,0 +1,14 @@
+package codefusion.softwareproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreCountDTO {
+    private Long quizId;
+    private Float score;
+    private Long attempts;
+}
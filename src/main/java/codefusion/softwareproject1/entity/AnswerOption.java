@@ -22,7 +22,8 @@ import java.util.Date;
 public class AnswerOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_option_seq")
+    @SequenceGenerator(name = "answer_option_seq", sequenceName = "answer_option_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "option_text", nullable = false)
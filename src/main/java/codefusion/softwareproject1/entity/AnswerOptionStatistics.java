@@ -0,0 +1,29 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * How often one answer option was chosen, maintained by the analytics pipeline.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "answer_option_statistics")
+public class AnswerOptionStatistics {
+
+    @Id
+    @Column(name = "answer_option_id")
+    private Long answerOptionId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "times_chosen", nullable = false)
+    private long timesChosen;
+}
@@ -36,6 +36,11 @@ public class Category {
     @JsonIgnore
     private List<Quiz> quizzes;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "teacher_id")
+    @JsonIgnore
+    private Teacher teacher;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
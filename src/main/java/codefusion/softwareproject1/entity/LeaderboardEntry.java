@@ -0,0 +1,34 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One of the best attempts of a quiz at the time of its leaderboard snapshot.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "leaderboard_entry")
+public class LeaderboardEntry {
+
+    @Id
+    @Column(name = "attempt_id")
+    private Long attemptId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "score", nullable = false)
+    private Float score;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
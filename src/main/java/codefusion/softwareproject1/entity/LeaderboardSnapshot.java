@@ -0,0 +1,38 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted score counts of one quiz leaderboard, so ranks survive a restart
+ * without re-reading quiz_attempt. The best entries are stored as
+ * LeaderboardEntry rows taken at the same time.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "leaderboard_snapshot")
+public class LeaderboardSnapshot {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    // Completed attempts per score, as "score=count" pairs separated by commas
+    @Column(name = "score_counts", nullable = false, columnDefinition = "text")
+    private String scoreCounts;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    // Holds every completion numbered up to here, and possibly later ones, see QuizAttempt.completionSeq
+    @Column(name = "completion_seq", nullable = false)
+    private long completionSeq;
+}
@@ -0,0 +1,30 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running answer totals of one question, kept up to date on every answer
+ * submission so quiz results never have to scan student_answer.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "question_result_counter")
+public class QuestionResultCounter {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "total_answers", nullable = false)
+    private long totalAnswers;
+
+    @Column(name = "correct_answers", nullable = false)
+    private long correctAnswers;
+}
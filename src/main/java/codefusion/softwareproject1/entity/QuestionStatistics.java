@@ -0,0 +1,56 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running item analysis sums of one question, maintained by the analytics
+ * pipeline: answer totals and answer times as answers are submitted, and,
+ * per completed attempt that answered the question, the sums behind the
+ * point-biserial correlation of answering it correctly with the attempt score.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "question_statistics")
+public class QuestionStatistics {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "answers", nullable = false)
+    private long answers;
+
+    @Column(name = "correct_answers", nullable = false)
+    private long correctAnswers;
+
+    @Column(name = "timed_answers", nullable = false)
+    private long timedAnswers;
+
+    @Column(name = "time_sum_millis", nullable = false)
+    private long timeSumMillis;
+
+    @Column(name = "scored_answers", nullable = false)
+    private long scoredAnswers;
+
+    @Column(name = "scored_correct", nullable = false)
+    private long scoredCorrect;
+
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    @Column(name = "score_square_sum", nullable = false)
+    private double scoreSquareSum;
+
+    @Column(name = "correct_score_sum", nullable = false)
+    private double correctScoreSum;
+}
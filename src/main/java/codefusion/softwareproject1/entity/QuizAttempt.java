@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "quiz_attempt") 
+@Table(name = "quiz_attempt")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +23,8 @@ import java.util.List;
 public class QuizAttempt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_attempt_seq")
+    @SequenceGenerator(name = "quiz_attempt_seq", sequenceName = "quiz_attempt_seq", allocationSize = 50)
     private Long id;
 
 
@@ -39,6 +40,13 @@ public class QuizAttempt {
     @Column(name = "score")
     private Float score;
 
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Position in the order completions were applied to the leaderboards, see LeaderboardServiceImpl
+    @Column(name = "completion_seq")
+    private Long completionSeq;
+
     @OneToMany(mappedBy = "attempt", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     private List<StudentAnswer> studentAnswers;
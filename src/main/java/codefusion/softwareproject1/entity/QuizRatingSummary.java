@@ -0,0 +1,60 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running rating aggregate of one quiz, updated with every review change so
+ * the rating summary never has to load the reviews themselves.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "quiz_rating_summary")
+public class QuizRatingSummary {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "one_star", nullable = false)
+    private long oneStar;
+
+    @Column(name = "two_stars", nullable = false)
+    private long twoStars;
+
+    @Column(name = "three_stars", nullable = false)
+    private long threeStars;
+
+    @Column(name = "four_stars", nullable = false)
+    private long fourStars;
+
+    @Column(name = "five_stars", nullable = false)
+    private long fiveStars;
+
+    /**
+     * Star histogram indexed by rating, index 0 unused.
+     */
+    public long[] getHistogram() {
+        return new long[]{0, oneStar, twoStars, threeStars, fourStars, fiveStars};
+    }
+
+    public void setHistogram(long[] histogram) {
+        this.oneStar = histogram[1];
+        this.twoStars = histogram[2];
+        this.threeStars = histogram[3];
+        this.fourStars = histogram[4];
+        this.fiveStars = histogram[5];
+    }
+}
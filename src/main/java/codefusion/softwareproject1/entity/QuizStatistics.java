@@ -0,0 +1,33 @@
+package codefusion.softwareproject1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running score aggregate of the completed attempts of one quiz, maintained
+ * by the analytics pipeline.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "quiz_statistics")
+public class QuizStatistics {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "completed_attempts", nullable = false)
+    private long completedAttempts;
+
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    @Column(name = "score_square_sum", nullable = false)
+    private double scoreSquareSum;
+}
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class StudentAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_answer_seq")
+    @SequenceGenerator(name = "student_answer_seq", sequenceName = "student_answer_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
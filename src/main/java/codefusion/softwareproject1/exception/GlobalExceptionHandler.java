@@ -60,6 +60,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handle QuizException for requests that conflict with the quiz or attempt state,
+     * e.g. a question answered twice or an attempt already completed
+     */
+    @ExceptionHandler(QuizException.class)
+    public ResponseEntity<ErrorResponse> handleQuizException(
+            QuizException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
     /**
      * Handle MethodArgumentNotValidException for @Valid annotation validation errors
      */
@@ -0,0 +1,62 @@
+package codefusion.softwareproject1.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Records the number of JDBC statements each request issued as the
+ * http.server.requests.queries summary, tagged like http.server.requests.
+ * When enabled, the count is also returned in the X-Query-Count header; the
+ * response body is then buffered so statements run while it is serialized
+ * (lazy loads) are included. Export endpoints stream their body and are
+ * never buffered, so they only contribute to the summary.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+    public static final String STREAMED_PATH_SUFFIX = "/export";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeader;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, boolean exposeHeader) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean streamed = request.getRequestURI().endsWith(STREAMED_PATH_SUFFIX);
+        ContentCachingResponseWrapper bufferedResponse = exposeHeader && !streamed ? new ContentCachingResponseWrapper(response) : null;
+        QueryCounter.start();
+        long queries;
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            queries = QueryCounter.stop();
+        }
+
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("JDBC statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(queries);
+
+        if (bufferedResponse != null) {
+            bufferedResponse.setHeader(HEADER, Long.toString(queries));
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+}
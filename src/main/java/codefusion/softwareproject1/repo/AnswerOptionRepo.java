@@ -1,7 +1,10 @@
 package codefusion.softwareproject1.repo;
 
+import codefusion.softwareproject1.dto.AnswerOptionKeyDTO;
 import codefusion.softwareproject1.entity.AnswerOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,10 @@ public interface AnswerOptionRepo extends JpaRepository<AnswerOption, Long> {
     List<AnswerOption> findByQuestionId(Long questionId);
     
     Optional<AnswerOption> findByQuestionIdAndIsCorrect(Long questionId, boolean isCorrect);
+
+    // Grading keys of every option of a quiz in one query, without loading entities
+    @Query("select new codefusion.softwareproject1.dto.AnswerOptionKeyDTO(" +
+           "o.id, qu.id, qu.quiz.id, o.isCorrect, o.text, qu.questionText) " +
+           "from AnswerOption o join o.question qu where qu.quiz.id = :quizId")
+    List<AnswerOptionKeyDTO> findKeysByQuizId(@Param("quizId") Long quizId);
 }
\ No newline at end of file
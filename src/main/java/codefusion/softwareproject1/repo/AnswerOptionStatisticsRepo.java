@@ -0,0 +1,12 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.AnswerOptionStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnswerOptionStatisticsRepo extends JpaRepository<AnswerOptionStatistics, Long> {
+    List<AnswerOptionStatistics> findByQuizId(Long quizId);
+}
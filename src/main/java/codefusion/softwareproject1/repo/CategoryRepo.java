@@ -1,24 +1,39 @@
 package codefusion.softwareproject1.repo;
 
 import codefusion.softwareproject1.entity.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CategoryRepo extends JpaRepository<Category, Long> {
     // Find categories by teacher id
     List<Category> findByTeacherId(Long teacherId);
     
-    // Find categories by title containing keyword (for search functionality)
-    List<Category> findByTitleContainingIgnoreCase(String keyword);
+    // Full-text search on name and description through category.search_vector (see SearchTerms), best match first
+    @Query(value = "select c.* from category c, to_tsquery('simple', :tsQuery) query " +
+                   "where c.search_vector @@ query " +
+                   "order by ts_rank_cd(c.search_vector, query, 32) desc, c.id limit :limit", nativeQuery = true)
+    List<Category> searchByText(@Param("tsQuery") String tsQuery, @Param("limit") int limit);
     
     // Find categories that contain a specific quiz
     List<Category> findByQuizzesId(Long quizId);
     
-    // Find categories by title and teacher id
-    List<Category> findByTitleAndTeacherId(String title, Long teacherId);
+    // Find categories by name and teacher id
+    List<Category> findByNameAndTeacherId(String name, Long teacherId);
 
-    
+    // Keyset pagination by id
+    List<Category> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // ETag fingerprints; count and id sum catch inserts and deletes, updatedAt catches edits
+    @Query("select concat(str(c.id), ':', coalesce(str(c.updatedAt), '-')) from Category c where c.id = :id")
+    Optional<String> findFingerprintById(@Param("id") Long id);
+
+    @Query("select concat(str(count(c)), ':', str(coalesce(sum(c.id), 0)), ':', coalesce(str(max(c.updatedAt)), '-')) from Category c")
+    String findAllFingerprint();
 }
\ No newline at end of file
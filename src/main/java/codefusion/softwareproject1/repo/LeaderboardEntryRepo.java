@@ -0,0 +1,16 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.LeaderboardEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LeaderboardEntryRepo extends JpaRepository<LeaderboardEntry, Long> {
+
+    @Modifying
+    @Query("delete from LeaderboardEntry e where e.quizId = :quizId")
+    int deleteByQuizId(@Param("quizId") Long quizId);
+}
@@ -0,0 +1,20 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.LeaderboardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LeaderboardSnapshotRepo extends JpaRepository<LeaderboardSnapshot, Long> {
+
+    @Modifying
+    @Query("update LeaderboardSnapshot s set s.completionSeq = :completionSeq where s.completionSeq < :completionSeq")
+    int raiseCompletionSeq(@Param("completionSeq") long completionSeq);
+
+    @Modifying
+    @Query("delete from LeaderboardSnapshot s where s.quizId = :quizId")
+    int deleteByQuizId(@Param("quizId") Long quizId);
+}
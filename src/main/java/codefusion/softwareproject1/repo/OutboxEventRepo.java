@@ -0,0 +1,44 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepo extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest undelivered events that are not dead-lettered, locked until the caller's transaction ends. A lock
+    // timeout of -2 is Hibernate's SKIP LOCKED, so relays on several nodes take disjoint batches instead of waiting
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.deadLetteredAt is null order by e.id")
+    List<OutboxEvent> findNextBatch(Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error where e.id in :ids")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                            @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.deadLetteredAt = :now " +
+           "where e.id in :ids and e.attempts >= :maxAttempts and e.deadLetteredAt is null")
+    int deadLetter(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -2,11 +2,19 @@ package codefusion.softwareproject1.repo;
 
 import codefusion.softwareproject1.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestionRepo extends JpaRepository<Question, Long> {
     List<Question> findByQuizId(Long quizId);
-}
\ No newline at end of file
+
+    // Initializes answerOptions for every question of the given quizzes in one select.
+    // Questions already in the persistence context get their collections populated in place.
+    @Query("select qu from Question qu left join fetch qu.answerOptions where qu.quiz.id in :quizIds")
+    List<Question> fetchAnswerOptionsByQuizIds(@Param("quizIds") Collection<Long> quizIds);
+}
@@ -0,0 +1,76 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.entity.QuestionResultCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuestionResultCounterRepo extends JpaRepository<QuestionResultCounter, Long> {
+
+    // Atomic in-place increment; returns 0 when the question has no counter row yet
+    @Modifying
+    @Query("update QuestionResultCounter c set c.totalAnswers = c.totalAnswers + :total, " +
+           "c.correctAnswers = c.correctAnswers + :correct where c.questionId = :questionId")
+    int increment(@Param("questionId") Long questionId, @Param("total") long total, @Param("correct") long correct);
+
+    // Per-question results of a quiz straight from the counters; questions never answered report zeros
+    @Query("select new codefusion.softwareproject1.dto.QuestionResultDTO(" +
+           "q.id, q.questionText, coalesce(cast(q.difficultyLevel as String), 'N/A'), " +
+           "coalesce(c.totalAnswers, 0), coalesce(c.correctAnswers, 0), " +
+           "coalesce(c.totalAnswers, 0) - coalesce(c.correctAnswers, 0)) " +
+           "from Question q left join QuestionResultCounter c on c.questionId = q.id " +
+           "where q.quiz.id = :quizId order by q.id")
+    List<QuestionResultDTO> findResultsByQuizId(@Param("quizId") Long quizId);
+
+    // Creates the counter row unless another transaction already has; returns 0 when it existed
+    @Modifying
+    @Query(value = "insert into question_result_counter (question_id, total_answers, correct_answers) " +
+                   "values (:questionId, :total, :correct) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("questionId") Long questionId, @Param("total") long total, @Param("correct") long correct);
+
+    // Zero rows for questions that have no counter yet, so a rebuild can lock every counter it rewrites
+    @Modifying
+    @Query(value = "insert into question_result_counter (question_id, total_answers, correct_answers) " +
+                   "select q.id, 0, 0 from question q on conflict do nothing", nativeQuery = true)
+    int insertMissingCounters();
+
+    @Modifying
+    @Query(value = "insert into question_result_counter (question_id, total_answers, correct_answers) " +
+                   "select q.id, 0, 0 from question q where q.quiz_id = :quizId on conflict do nothing", nativeQuery = true)
+    int insertMissingCountersByQuizId(@Param("quizId") Long quizId);
+
+    // Row locks taken before the history is read: submissions that already incremented have committed
+    // their answers, and later ones wait for the rebuild and add on top of it
+    @Query(value = "select question_id from question_result_counter for update", nativeQuery = true)
+    List<Long> lockAllCounters();
+
+    @Query(value = "select question_id from question_result_counter where question_id in " +
+                   "(select id from question where quiz_id = :quizId) for update", nativeQuery = true)
+    List<Long> lockCountersByQuizId(@Param("quizId") Long quizId);
+
+    // Recomputes every counter in place from the student_answer history in one set-based statement
+    @Modifying
+    @Query(value = "update question_result_counter c " +
+                   "set total_answers = h.total_answers, correct_answers = h.correct_answers " +
+                   "from (select q.id as question_id, count(sa.id) as total_answers, " +
+                   "coalesce(sum(case when sa.is_correct then 1 else 0 end), 0) as correct_answers " +
+                   "from question q left join student_answer sa on sa.question_id = q.id group by q.id) h " +
+                   "where c.question_id = h.question_id", nativeQuery = true)
+    int updateCountersFromHistory();
+
+    @Modifying
+    @Query(value = "update question_result_counter c " +
+                   "set total_answers = h.total_answers, correct_answers = h.correct_answers " +
+                   "from (select q.id as question_id, count(sa.id) as total_answers, " +
+                   "coalesce(sum(case when sa.is_correct then 1 else 0 end), 0) as correct_answers " +
+                   "from question q left join student_answer sa on sa.question_id = q.id " +
+                   "where q.quiz_id = :quizId group by q.id) h " +
+                   "where c.question_id = h.question_id", nativeQuery = true)
+    int updateCountersFromHistoryByQuizId(@Param("quizId") Long quizId);
+}
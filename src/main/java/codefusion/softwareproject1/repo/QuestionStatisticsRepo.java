@@ -0,0 +1,12 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.QuestionStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuestionStatisticsRepo extends JpaRepository<QuestionStatistics, Long> {
+    List<QuestionStatistics> findByQuizId(Long quizId);
+}
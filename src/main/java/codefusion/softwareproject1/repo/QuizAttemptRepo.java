@@ -1,14 +1,68 @@
 package codefusion.softwareproject1.repo;
 
+import codefusion.softwareproject1.dto.AttemptScoreDTO;
+import codefusion.softwareproject1.dto.ScoreCountDTO;
 import codefusion.softwareproject1.entity.QuizAttempt;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuizAttemptRepo extends JpaRepository<QuizAttempt, Long> {
     // Custom query methods can be added here if needed, for example:
     // List<QuizAttempt> findByStudentId(Long studentId);
     // List<QuizAttempt> findByQuizId(Long quizId);
-} 
\ No newline at end of file
+
+    @Query("select a from QuizAttempt a join fetch a.quiz where a.id = :attemptId")
+    Optional<QuizAttempt> findWithQuizById(@Param("attemptId") Long attemptId);
+
+    // Weighted score of an attempt in one statement; questions weigh their points
+    @Query("select new codefusion.softwareproject1.dto.AttemptScoreDTO(" +
+           "(select coalesce(sum(qq.points), 0) from Question qq where qq.quiz.id = a.quiz.id), " +
+           "coalesce(sum(case when sa.isCorrect = true then q.points else 0 end), 0), " +
+           "count(sa.id), " +
+           "coalesce(sum(case when sa.isCorrect = true then 1 else 0 end), 0)) " +
+           "from QuizAttempt a left join a.studentAnswers sa left join sa.question q " +
+           "where a.id = :attemptId group by a.id, a.quiz.id")
+    Optional<AttemptScoreDTO> findScoreById(@Param("attemptId") Long attemptId);
+
+    @Modifying
+    @Query("update QuizAttempt a set a.score = :score, a.completedAt = :completedAt where a.id = :attemptId")
+    int markCompleted(@Param("attemptId") Long attemptId, @Param("score") Float score, @Param("completedAt") LocalDateTime completedAt);
+
+    // Leaderboard rebuild: completed attempts per quiz and score
+    @Query("select new codefusion.softwareproject1.dto.ScoreCountDTO(a.quiz.id, a.score, count(a)) " +
+           "from QuizAttempt a where a.completedAt is not null group by a.quiz.id, a.score")
+    List<ScoreCountDTO> countCompletedByQuizAndScore();
+
+    @Query("select a from QuizAttempt a where a.quiz.id = :quizId and a.completedAt is not null " +
+           "order by a.score desc, a.completedAt, a.id")
+    List<QuizAttempt> findTopCompletedByQuizId(@Param("quizId") Long quizId, Pageable pageable);
+
+    @Query(value = "select nextval('quiz_attempt_completion_seq')", nativeQuery = true)
+    long nextCompletionSeq();
+
+    @Modifying
+    @Query("update QuizAttempt a set a.completionSeq = :completionSeq where a.id = :attemptId")
+    int setCompletionSeq(@Param("attemptId") Long attemptId, @Param("completionSeq") long completionSeq);
+
+    // Numbers the completions that predate completion numbering, when the leaderboards are loaded
+    @Modifying
+    @Query(value = "update quiz_attempt set completion_seq = nextval('quiz_attempt_completion_seq') " +
+                   "where completed_at is not null and completion_seq is null", nativeQuery = true)
+    int numberUnsequencedCompletions();
+
+    @Query("select coalesce(max(a.completionSeq), 0) from QuizAttempt a")
+    long findMaxCompletionSeq();
+
+    // Attempts applied to the leaderboards after the last snapshot, a range over idx_quiz_attempt_completion_seq
+    @Query("select a from QuizAttempt a where a.completionSeq > :completionSeq order by a.completionSeq")
+    List<QuizAttempt> findCompletedAfter(@Param("completionSeq") long completionSeq);
+}
@@ -0,0 +1,21 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.QuizDTO;
+
+import java.util.List;
+
+/**
+ * Custom fragment of QuizRepo for bulk imports.
+ */
+public interface QuizBatchRepo {
+
+    /**
+     * Inserts the quizzes with their questions and answer options, one JDBC
+     * batch per table, plus an empty result counter per question. The quiz,
+     * question and answer option ids, taken from their sequences, are set on the DTOs.
+     * Participates in the surrounding JPA transaction.
+     *
+     * @param quizzes validated quizzes; questions need points and difficultyLevel set
+     */
+    void batchInsertQuizzes(List<QuizDTO> quizzes);
+}
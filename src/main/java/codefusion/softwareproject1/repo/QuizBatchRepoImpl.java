@@ -0,0 +1,127 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.AnswerOptionDTO;
+import codefusion.softwareproject1.dto.QuestionDTO;
+import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of QuizBatchRepo.
+ * Imported quizzes arrive as DTOs and are never read back in the import, so they
+ * skip the persistence context. Ids come from the entity sequences up front, which
+ * lets every table go in one plain batch without reading generated keys back.
+ */
+public class QuizBatchRepoImpl implements QuizBatchRepo {
+
+    private static final String INSERT_QUIZ_SQL =
+            "insert into quizzes (id, title, description, course_code, published, category_id, created_at, updated_at) " +
+            "values (:id, :title, :description, :courseCode, :published, :categoryId, :now, :now)";
+
+    private static final String INSERT_QUESTION_SQL =
+            "insert into question (id, quiz_id, question_text, difficulty_level, points, created_at, updated_at) " +
+            "values (:id, :quizId, :questionText, :difficultyLevel, :points, :now, :now)";
+
+    private static final String INSERT_ANSWER_OPTION_SQL =
+            "insert into answer_option (id, question_id, option_text, is_correct, explanation, version, created_at, updated_at) " +
+            "values (:id, :questionId, :text, :isCorrect, :explanation, 0, :now, :now)";
+
+    private static final String INSERT_COUNTER_SQL =
+            "insert into question_result_counter (question_id, total_answers, correct_answers) values (:questionId, 0, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+
+    @Autowired
+    public QuizBatchRepoImpl(NamedParameterJdbcTemplate jdbcTemplate, EntityIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public void batchInsertQuizzes(List<QuizDTO> quizzes) {
+        if (quizzes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] quizIds = idAllocator.nextIds(Quiz.class, quizzes.size());
+        List<QuestionDTO> questions = new ArrayList<>();
+        for (int i = 0; i < quizzes.size(); i++) {
+            QuizDTO quiz = quizzes.get(i);
+            quiz.setId(quizIds[i]);
+            if (quiz.getQuestions() != null) {
+                for (QuestionDTO question : quiz.getQuestions()) {
+                    question.setQuizId(quiz.getId());
+                    questions.add(question);
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_QUIZ_SQL, quizzes.stream()
+                .map(quiz -> new MapSqlParameterSource()
+                        .addValue("id", quiz.getId())
+                        .addValue("title", quiz.getTitle())
+                        .addValue("description", quiz.getDescription(), Types.VARCHAR)
+                        .addValue("courseCode", quiz.getCourseCode(), Types.VARCHAR)
+                        .addValue("published", quiz.isPublished())
+                        .addValue("categoryId", quiz.getCategoryId(), Types.BIGINT)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new));
+        if (questions.isEmpty()) {
+            return;
+        }
+
+        long[] questionIds = idAllocator.nextIds(Question.class, questions.size());
+        List<AnswerOptionDTO> options = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionDTO question = questions.get(i);
+            question.setId(questionIds[i]);
+            if (question.getAnswerOptions() != null) {
+                for (AnswerOptionDTO option : question.getAnswerOptions()) {
+                    option.setQuestionId(question.getId());
+                    options.add(option);
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_QUESTION_SQL, questions.stream()
+                .map(question -> new MapSqlParameterSource()
+                        .addValue("id", question.getId())
+                        .addValue("quizId", question.getQuizId())
+                        .addValue("questionText", question.getQuestionText())
+                        .addValue("difficultyLevel", question.getDifficultyLevel())
+                        .addValue("points", question.getPoints())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new));
+
+        long[] optionIds = idAllocator.nextIds(AnswerOption.class, options.size());
+        List<SqlParameterSource> optionRows = new ArrayList<>(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            AnswerOptionDTO option = options.get(i);
+            option.setId(optionIds[i]);
+            optionRows.add(new MapSqlParameterSource()
+                    .addValue("id", option.getId())
+                    .addValue("questionId", option.getQuestionId())
+                    .addValue("text", option.getText())
+                    .addValue("isCorrect", Boolean.TRUE.equals(option.getIsCorrect()))
+                    .addValue("explanation", option.getExplanation(), Types.VARCHAR)
+                    .addValue("now", now));
+        }
+        if (!optionRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ANSWER_OPTION_SQL, optionRows.toArray(SqlParameterSource[]::new));
+        }
+        jdbcTemplate.batchUpdate(INSERT_COUNTER_SQL, questions.stream()
+                .map(question -> new MapSqlParameterSource("questionId", question.getId()))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
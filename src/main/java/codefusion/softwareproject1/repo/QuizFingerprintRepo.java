@@ -0,0 +1,19 @@
+package codefusion.softwareproject1.repo;
+
+/**
+ * Cheap change fingerprints of quiz content, used as ETag input.
+ * A fingerprint covers the quizzes in scope, their questions and answer
+ * options and their categories, and is computed with one aggregate query
+ * instead of loading the object graph.
+ */
+public interface QuizFingerprintRepo {
+
+    // Null when the quiz does not exist
+    String findQuizFingerprint(Long quizId);
+
+    String findAllQuizzesFingerprint();
+
+    String findPublishedQuizzesFingerprint();
+
+    String findPublishedQuizzesByCategoryFingerprint(Long categoryId);
+}
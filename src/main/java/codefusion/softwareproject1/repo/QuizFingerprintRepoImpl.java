@@ -0,0 +1,67 @@
+package codefusion.softwareproject1.repo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.StringJoiner;
+
+/**
+ * JDBC implementation of QuizFingerprintRepo.
+ * Row counts together with id sums detect an insert or a delete. Sequence
+ * ids are handed out in pooled blocks, so a new id may be smaller than a
+ * removed one, and a delete plus an insert between two reads could leave
+ * both unchanged; but ids are never reused and an insert stamps updated_at,
+ * so such a swap still moves the newest updated_at. That and the option
+ * version sum also detect in-place edits.
+ */
+public class QuizFingerprintRepoImpl implements QuizFingerprintRepo {
+
+    private static final String FINGERPRINT_SQL =
+            "with scope as (select id, category_id, updated_at from quizzes where %s), " +
+            "qu as (select id, updated_at from question where quiz_id in (select id from scope)), " +
+            "op as (select id, updated_at, version from answer_option where question_id in (select id from qu)) " +
+            "select (select count(*) from scope), (select coalesce(sum(id), 0) from scope), (select max(updated_at) from scope), " +
+            "(select count(*) from qu), (select coalesce(sum(id), 0) from qu), (select max(updated_at) from qu), " +
+            "(select count(*) from op), (select coalesce(sum(id), 0) from op), (select max(updated_at) from op), " +
+            "(select coalesce(sum(version), 0) from op), " +
+            "(select max(updated_at) from category where id in (select category_id from scope))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public QuizFingerprintRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String findQuizFingerprint(Long quizId) {
+        String fingerprint = fingerprint("id = ?", quizId);
+        // A leading zero count means the quiz is gone
+        return fingerprint.startsWith("0:") ? null : fingerprint;
+    }
+
+    @Override
+    public String findAllQuizzesFingerprint() {
+        return fingerprint("1 = 1");
+    }
+
+    @Override
+    public String findPublishedQuizzesFingerprint() {
+        return fingerprint("published = true");
+    }
+
+    @Override
+    public String findPublishedQuizzesByCategoryFingerprint(Long categoryId) {
+        return fingerprint("published = true and category_id = ?", categoryId);
+    }
+
+    private String fingerprint(String scope, Object... args) {
+        return jdbcTemplate.queryForObject(String.format(FINGERPRINT_SQL, scope), (rs, rowNum) -> {
+            StringJoiner fingerprint = new StringJoiner(":");
+            for (int column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+                fingerprint.add(String.valueOf(rs.getString(column)));
+            }
+            return fingerprint.toString();
+        }, args);
+    }
+}
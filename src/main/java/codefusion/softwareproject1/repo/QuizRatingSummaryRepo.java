@@ -0,0 +1,64 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.QuizRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuizRatingSummaryRepo extends JpaRepository<QuizRatingSummary, Long> {
+
+    // Atomically adds (delta = 1) or removes (delta = -1) one rating; returns 0 when the quiz has no row yet
+    @Modifying
+    @Query("update QuizRatingSummary s set " +
+           "s.reviewCount = s.reviewCount + :delta, " +
+           "s.ratingSum = s.ratingSum + :rating * :delta, " +
+           "s.oneStar = s.oneStar + case when :rating = 1 then :delta else 0 end, " +
+           "s.twoStars = s.twoStars + case when :rating = 2 then :delta else 0 end, " +
+           "s.threeStars = s.threeStars + case when :rating = 3 then :delta else 0 end, " +
+           "s.fourStars = s.fourStars + case when :rating = 4 then :delta else 0 end, " +
+           "s.fiveStars = s.fiveStars + case when :rating = 5 then :delta else 0 end " +
+           "where s.quizId = :quizId")
+    int applyRating(@Param("quizId") Long quizId, @Param("rating") long rating, @Param("delta") long delta);
+
+    // Creates the summary holding one rating unless another transaction already has; returns 0 when it existed
+    @Modifying
+    @Query(value = "insert into quiz_rating_summary " +
+                   "(quiz_id, review_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars) " +
+                   "values (:quizId, 1, :rating, " +
+                   "case when :rating = 1 then 1 else 0 end, case when :rating = 2 then 1 else 0 end, " +
+                   "case when :rating = 3 then 1 else 0 end, case when :rating = 4 then 1 else 0 end, " +
+                   "case when :rating = 5 then 1 else 0 end) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("quizId") Long quizId, @Param("rating") long rating);
+
+    // Empty summaries for reviewed quizzes that have none yet, so reconciliation can lock every row it rewrites
+    @Modifying
+    @Query(value = "insert into quiz_rating_summary " +
+                   "(quiz_id, review_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars) " +
+                   "select distinct r.quiz_id, 0, 0, 0, 0, 0, 0, 0 from review r on conflict do nothing", nativeQuery = true)
+    int insertMissingSummaries();
+
+    // Row locks taken before the reviews are read, so review changes either commit first or wait for reconciliation
+    @Query(value = "select quiz_id from quiz_rating_summary for update", nativeQuery = true)
+    List<Long> lockAllSummaries();
+
+    // Re-derives every summary from its reviews in one statement, touching only the rows that drifted
+    @Modifying
+    @Query(value = "update quiz_rating_summary s set " +
+                   "review_count = h.review_count, rating_sum = h.rating_sum, one_star = h.one_star, " +
+                   "two_stars = h.two_stars, three_stars = h.three_stars, four_stars = h.four_stars, five_stars = h.five_stars " +
+                   "from (select c.quiz_id, count(r.id) as review_count, coalesce(sum(r.rating), 0) as rating_sum, " +
+                   "count(case when r.rating = 1 then 1 end) as one_star, count(case when r.rating = 2 then 1 end) as two_stars, " +
+                   "count(case when r.rating = 3 then 1 end) as three_stars, count(case when r.rating = 4 then 1 end) as four_stars, " +
+                   "count(case when r.rating = 5 then 1 end) as five_stars " +
+                   "from quiz_rating_summary c left join review r on r.quiz_id = c.quiz_id and r.rating between 1 and 5 " +
+                   "group by c.quiz_id) h " +
+                   "where s.quiz_id = h.quiz_id and (s.review_count <> h.review_count or s.rating_sum <> h.rating_sum " +
+                   "or s.one_star <> h.one_star or s.two_stars <> h.two_stars or s.three_stars <> h.three_stars " +
+                   "or s.four_stars <> h.four_stars or s.five_stars <> h.five_stars)", nativeQuery = true)
+    int updateDriftedSummaries();
+}
@@ -1,22 +1,83 @@
 package codefusion.softwareproject1.repo;
 
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.entity.Quiz;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface QuizRepo extends JpaRepository<Quiz, Long> {
+public interface QuizRepo extends JpaRepository<Quiz, Long>, QuizFingerprintRepo, QuizSearchRepo, QuizBatchRepo {
+    // Shared select for catalog summary projections
+    String SUMMARY_SELECT = "select new codefusion.softwareproject1.dto.QuizSummaryDTO(" +
+            "q.id, q.title, q.description, q.courseCode, q.published, c.id, c.name, " +
+            "(select count(qu) from Question qu where qu.quiz = q), " +
+            "coalesce(rs.reviewCount, 0), " +
+            "coalesce(cast(rs.ratingSum as Double) / nullif(rs.reviewCount, 0), 0.0), " +
+            "q.createdAt, q.updatedAt) " +
+            "from Quiz q left join q.category c left join QuizRatingSummary rs on rs.quizId = q.id ";
+
     // Find published quizzes
     List<Quiz> findByPublishedTrue();
     
-    // Find quizzes by title containing keyword (for search functionality)
-    List<Quiz> findByTitleContainingIgnoreCase(String keyword);
-    
     // Find quizzes by teacher id
     List<Quiz> findByTeacherId(Long teacherId);
 
     // Find published quizzes by category ID
     List<Quiz> findByCategoryIdAndPublishedTrue(Long categoryId);
-}
\ No newline at end of file
+
+    // Catalog reads: quiz, category, teacher and questions in a single select.
+    // Answer options are a second bag, so they are loaded separately with
+    // QuestionRepo.fetchAnswerOptionsByQuizIds to avoid a cartesian product.
+    @Query("select q from Quiz q left join fetch q.category left join fetch q.teacher left join fetch q.questions")
+    List<Quiz> findAllWithQuestions();
+
+    @Query("select q from Quiz q left join fetch q.category left join fetch q.teacher left join fetch q.questions " +
+           "where q.published = true")
+    List<Quiz> findPublishedWithQuestions();
+
+    @Query("select q from Quiz q left join fetch q.category left join fetch q.teacher left join fetch q.questions " +
+           "where q.published = true and q.category.id = :categoryId")
+    List<Quiz> findPublishedWithQuestionsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @EntityGraph(attributePaths = {"category", "teacher", "questions"})
+    Optional<Quiz> findWithQuestionsById(Long id);
+
+    // Catalog summaries: one row per quiz with counts and average rating computed in SQL
+    @Query(SUMMARY_SELECT + "order by q.id")
+    List<QuizSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "where q.published = true order by q.id")
+    List<QuizSummaryDTO> findPublishedSummaries();
+
+    // Keyset pagination: page over ids first, then load the graph for that page only
+    @Query("select q.id from Quiz q where q.id > :afterId order by q.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select q.id from Quiz q where q.published = true and q.id > :afterId order by q.id")
+    List<Long> findPublishedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select q.id from Quiz q where q.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("select q.id from Quiz q where q.category.id = :categoryId and q.id > :afterId order by q.id")
+    List<Long> findIdsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                        @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select q.id from Quiz q where q.published = true and q.category.id = :categoryId and q.id > :afterId order by q.id")
+    List<Long> findPublishedIdsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                                 @Param("afterId") Long afterId, Pageable pageable);
+
+    boolean existsByCourseCode(String courseCode);
+
+    @Query("select q from Quiz q left join fetch q.category left join fetch q.teacher left join fetch q.questions " +
+           "where q.id in :ids order by q.id")
+    List<Quiz> findWithQuestionsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,23 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+
+import java.util.List;
+
+/**
+ * Ranked full-text search over the quizzes.search_vector column, which the
+ * V3 migration keeps up to date with triggers and indexes with GIN.
+ */
+public interface QuizSearchRepo {
+
+    /**
+     * Matches quizzes against a tsquery, best rank first and then by id.
+     *
+     * @param tsQuery a tsquery in the 'simple' configuration, see SearchTerms
+     * @param categoryId restricts the search to one category when not null
+     * @param after the last result of the previous page, or null for the first page
+     */
+    List<QuizSearchResultDTO> searchQuizzes(String tsQuery, Long categoryId, boolean publishedOnly,
+                                            KeysetPagination.RankCursor after, int limit);
+}
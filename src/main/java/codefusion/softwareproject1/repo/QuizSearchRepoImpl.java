@@ -0,0 +1,75 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of QuizSearchRepo.
+ * The inner select finds the matches through the GIN index and ranks them;
+ * only the page is then joined with its category.
+ */
+public class QuizSearchRepoImpl implements QuizSearchRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public QuizSearchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<QuizSearchResultDTO> searchQuizzes(String tsQuery, Long categoryId, boolean publishedOnly,
+                                                   KeysetPagination.RankCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(tsQuery);
+        if (categoryId != null) {
+            args.add(categoryId);
+        }
+        if (after != null) {
+            args.add(after.getRank());
+            args.add(after.getRank());
+            args.add(after.getId());
+        }
+        args.add(limit);
+
+        return jdbcTemplate.query(searchSql(publishedOnly, categoryId != null, after != null),
+                (rs, rowNum) -> new QuizSearchResultDTO(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getString(4),
+                        rs.getBoolean(5),
+                        rs.getObject(6, Long.class),
+                        rs.getString(7),
+                        rs.getFloat(8)),
+                args.toArray());
+    }
+
+    /**
+     * The search statement for a combination of filters; public so RepositoryIndexUsageTest can explain it.
+     */
+    public static String searchSql(boolean publishedOnly, boolean byCategory, boolean afterCursor) {
+        StringBuilder sql = new StringBuilder(
+                "select q.id, q.title, q.description, q.course_code, q.published, c.id, c.name, m.rank " +
+                "from (select s.id, ts_rank_cd(s.search_vector, query, 32) as rank " +
+                "from quizzes s, to_tsquery('simple', ?) query " +
+                "where s.search_vector @@ query");
+        if (publishedOnly) {
+            sql.append(" and s.published");
+        }
+        if (byCategory) {
+            sql.append(" and s.category_id = ?");
+        }
+        sql.append(") m join quizzes q on q.id = m.id left join category c on c.id = q.category_id");
+        if (afterCursor) {
+            sql.append(" where m.rank < ? or (m.rank = ? and m.id > ?)");
+        }
+        sql.append(" order by m.rank desc, m.id limit ?");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.AnswerOptionStatistics;
+import codefusion.softwareproject1.entity.QuestionStatistics;
+import codefusion.softwareproject1.entity.QuizStatistics;
+
+import java.util.Collection;
+
+/**
+ * Custom fragment of QuizStatisticsRepo for the analytics pipeline's writes.
+ */
+public interface QuizStatisticsBatchRepo {
+
+    /**
+     * Adds the given amounts to the statistics rows, one JDBC batch of in-place
+     * increments per table, then inserts the rows that did not exist yet.
+     * Each object holds the amounts to add, not totals.
+     * Participates in the surrounding JPA transaction.
+     */
+    void addToStatistics(Collection<QuizStatistics> quizzes,
+                         Collection<QuestionStatistics> questions,
+                         Collection<AnswerOptionStatistics> options);
+}
@@ -0,0 +1,116 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.AnswerOptionStatistics;
+import codefusion.softwareproject1.entity.QuestionStatistics;
+import codefusion.softwareproject1.entity.QuizStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of QuizStatisticsBatchRepo.
+ * Increments run in place, so concurrent writers never lose each other's
+ * amounts. Rows that do not exist yet are created empty with
+ * ON CONFLICT DO NOTHING, which tolerates a concurrent writer creating the
+ * same row, and the increment is then repeated on them.
+ */
+public class QuizStatisticsBatchRepoImpl implements QuizStatisticsBatchRepo {
+
+    private static final String UPDATE_QUIZ_SQL =
+            "update quiz_statistics set completed_attempts = completed_attempts + ?, " +
+            "score_sum = score_sum + ?, score_square_sum = score_square_sum + ? where quiz_id = ?";
+
+    private static final String INSERT_QUIZ_SQL =
+            "insert into quiz_statistics (completed_attempts, score_sum, score_square_sum, quiz_id) " +
+            "values (0, 0, 0, ?) on conflict do nothing";
+
+    // quiz_id is overwritten rather than added, so a question moved to another quiz follows it
+    private static final String UPDATE_QUESTION_SQL =
+            "update question_statistics set quiz_id = ?, answers = answers + ?, correct_answers = correct_answers + ?, " +
+            "timed_answers = timed_answers + ?, time_sum_millis = time_sum_millis + ?, " +
+            "scored_answers = scored_answers + ?, scored_correct = scored_correct + ?, score_sum = score_sum + ?, " +
+            "score_square_sum = score_square_sum + ?, correct_score_sum = correct_score_sum + ? where question_id = ?";
+
+    private static final String INSERT_QUESTION_SQL =
+            "insert into question_statistics (quiz_id, answers, correct_answers, timed_answers, time_sum_millis, " +
+            "scored_answers, scored_correct, score_sum, score_square_sum, correct_score_sum, question_id) " +
+            "values (?, 0, 0, 0, 0, 0, 0, 0, 0, 0, ?) on conflict do nothing";
+
+    private static final String UPDATE_OPTION_SQL =
+            "update answer_option_statistics set quiz_id = ?, times_chosen = times_chosen + ? where answer_option_id = ?";
+
+    private static final String INSERT_OPTION_SQL =
+            "insert into answer_option_statistics (quiz_id, times_chosen, answer_option_id) values (?, 0, ?) on conflict do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public QuizStatisticsBatchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addToStatistics(Collection<QuizStatistics> quizzes,
+                                Collection<QuestionStatistics> questions,
+                                Collection<AnswerOptionStatistics> options) {
+        addOrInsert(UPDATE_QUIZ_SQL, INSERT_QUIZ_SQL, quizzes, (ps, quiz) -> {
+            ps.setLong(1, quiz.getCompletedAttempts());
+            ps.setDouble(2, quiz.getScoreSum());
+            ps.setDouble(3, quiz.getScoreSquareSum());
+            ps.setLong(4, quiz.getQuizId());
+        }, (ps, quiz) -> ps.setLong(1, quiz.getQuizId()));
+        addOrInsert(UPDATE_QUESTION_SQL, INSERT_QUESTION_SQL, questions, (ps, question) -> {
+            ps.setLong(1, question.getQuizId());
+            ps.setLong(2, question.getAnswers());
+            ps.setLong(3, question.getCorrectAnswers());
+            ps.setLong(4, question.getTimedAnswers());
+            ps.setLong(5, question.getTimeSumMillis());
+            ps.setLong(6, question.getScoredAnswers());
+            ps.setLong(7, question.getScoredCorrect());
+            ps.setDouble(8, question.getScoreSum());
+            ps.setDouble(9, question.getScoreSquareSum());
+            ps.setDouble(10, question.getCorrectScoreSum());
+            ps.setLong(11, question.getQuestionId());
+        }, (ps, question) -> {
+            ps.setLong(1, question.getQuizId());
+            ps.setLong(2, question.getQuestionId());
+        });
+        addOrInsert(UPDATE_OPTION_SQL, INSERT_OPTION_SQL, options, (ps, option) -> {
+            ps.setLong(1, option.getQuizId());
+            ps.setLong(2, option.getTimesChosen());
+            ps.setLong(3, option.getAnswerOptionId());
+        }, (ps, option) -> {
+            ps.setLong(1, option.getQuizId());
+            ps.setLong(2, option.getAnswerOptionId());
+        });
+    }
+
+    private <T> void addOrInsert(String updateSql, String insertSql, Collection<T> rows,
+                                 ParameterizedPreparedStatementSetter<T> setter,
+                                 ParameterizedPreparedStatementSetter<T> keySetter) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<T> ordered = new ArrayList<>(rows);
+        int[][] updated = jdbcTemplate.batchUpdate(updateSql, ordered, ordered.size(), setter);
+        List<T> missing = new ArrayList<>();
+        int row = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(ordered.get(row));
+                }
+                row++;
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Insert counts are not reliable with reWriteBatchedInserts, so every missing row is incremented again
+            jdbcTemplate.batchUpdate(insertSql, missing, missing.size(), keySetter);
+            jdbcTemplate.batchUpdate(updateSql, missing, missing.size(), setter);
+        }
+    }
+}
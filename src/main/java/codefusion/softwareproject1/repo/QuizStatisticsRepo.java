@@ -0,0 +1,9 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.entity.QuizStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizStatisticsRepo extends JpaRepository<QuizStatistics, Long>, QuizStatisticsBatchRepo {
+}
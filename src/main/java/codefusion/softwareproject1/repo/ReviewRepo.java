@@ -1,9 +1,13 @@
 package codefusion.softwareproject1.repo;
 
 import codefusion.softwareproject1.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,6 +16,16 @@ public interface ReviewRepo extends JpaRepository<Review, Long> { // Extends Jpa
     // Custom query method to find reviews by quiz ID, ordered by creation date descending
     List<Review> findByQuizIdOrderByCreatedAtDesc(Long quizId); 
 
+    // Keyset pagination, newest first; id breaks ties between reviews with the same timestamp
+    @Query("select r from Review r where r.quiz.id = :quizId order by r.createdAt desc, r.id desc")
+    List<Review> findFirstPageByQuizId(@Param("quizId") Long quizId, Pageable pageable);
+
+    @Query("select r from Review r where r.quiz.id = :quizId " +
+           "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+           "order by r.createdAt desc, r.id desc")
+    List<Review> findPageByQuizIdBefore(@Param("quizId") Long quizId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
     // JpaRepository automatically provides:
     // save(S entity), saveAll(Iterable<S> entities)
     // findById(ID id)
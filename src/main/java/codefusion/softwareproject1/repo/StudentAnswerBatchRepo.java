@@ -0,0 +1,20 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+
+import java.util.List;
+
+/**
+ * Custom fragment of StudentAnswerRepo for bulk writes.
+ */
+public interface StudentAnswerBatchRepo {
+
+    /**
+     * Inserts all graded answers with a single JDBC batch.
+     * Participates in the surrounding JPA transaction.
+     *
+     * @param answers graded answers; attemptId, questionId, chosenAnswerId and correct must be set,
+     *                and each answer gets the id it was stored with
+     */
+    void batchInsert(List<StudentAnswerDTO> answers);
+}
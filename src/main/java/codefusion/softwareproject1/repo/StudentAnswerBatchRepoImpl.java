@@ -0,0 +1,53 @@
+package codefusion.softwareproject1.repo;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.entity.StudentAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of StudentAnswerBatchRepo.
+ * Answers arrive as DTOs from the attempt sessions, so they skip the persistence
+ * context and go through JdbcTemplate.batchUpdate, with ids taken from the
+ * StudentAnswer sequence.
+ */
+public class StudentAnswerBatchRepoImpl implements StudentAnswerBatchRepo {
+
+    private static final String INSERT_SQL =
+            "insert into student_answer (id, attempt_id, question_id, chosen_answer_id, is_correct, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+
+    @Autowired
+    public StudentAnswerBatchRepoImpl(JdbcTemplate jdbcTemplate, EntityIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public void batchInsert(List<StudentAnswerDTO> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        long[] ids = idAllocator.nextIds(StudentAnswer.class, answers.size());
+        for (int i = 0; i < ids.length; i++) {
+            answers.get(i).setId(ids[i]);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, answers, answers.size(), (ps, answer) -> {
+            ps.setLong(1, answer.getId());
+            ps.setLong(2, answer.getAttemptId());
+            ps.setLong(3, answer.getQuestionId());
+            ps.setLong(4, answer.getChosenAnswerId());
+            ps.setBoolean(5, answer.isCorrect());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
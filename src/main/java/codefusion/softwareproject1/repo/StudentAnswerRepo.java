@@ -1,14 +1,56 @@
 package codefusion.softwareproject1.repo;
 
+import codefusion.softwareproject1.dto.AnswerOutcomeDTO;
+import codefusion.softwareproject1.dto.AttemptAnswerExportDTO;
+import codefusion.softwareproject1.dto.QuestionAnswerCountDTO;
 import codefusion.softwareproject1.entity.StudentAnswer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentAnswerRepo extends JpaRepository<StudentAnswer, Long> {
+public interface StudentAnswerRepo extends JpaRepository<StudentAnswer, Long>, StudentAnswerBatchRepo {
     List<StudentAnswer> findByAttemptId(Long attemptId);
     List<StudentAnswer> findByQuestionIdIn(List<Long> questionIds); // For fetching answers for a set of questions in a quiz
     List<StudentAnswer> findByAttemptQuizId(Long quizId); // For fetching all answers related to a quiz, across all attempts
-} 
\ No newline at end of file
+
+    // Per-question totals for a quiz, grouped in the database; unanswered questions are absent
+    @Query("select new codefusion.softwareproject1.dto.QuestionAnswerCountDTO(" +
+           "sa.question.id, count(sa.id), sum(case when sa.isCorrect = true then 1 else 0 end)) " +
+           "from StudentAnswer sa join sa.attempt a " +
+           "where a.quiz.id = :quizId group by sa.question.id")
+    List<QuestionAnswerCountDTO> countAnswersByQuestionForQuiz(@Param("quizId") Long quizId);
+
+    // Questions already answered in an attempt, used to restore its in-memory session
+    @Query("select sa.question.id from StudentAnswer sa where sa.attempt.id = :attemptId")
+    List<Long> findAnsweredQuestionIdsByAttemptId(@Param("attemptId") Long attemptId);
+
+    // Correctness of every stored answer of the attempts, for item analysis of completed attempts
+    @Query("select new codefusion.softwareproject1.dto.AnswerOutcomeDTO(sa.attempt.id, sa.question.id, sa.isCorrect) " +
+           "from StudentAnswer sa where sa.attempt.id in :attemptIds")
+    List<AnswerOutcomeDTO> findOutcomesByAttemptIdIn(@Param("attemptIds") Collection<Long> attemptIds);
+
+    // Export rows of every attempt of a quiz or course, read through a forward-only cursor in the
+    // caller's transaction. Projections are not managed, so memory stays flat however many rows stream
+    String EXPORT_SELECT = "select new codefusion.softwareproject1.dto.AttemptAnswerExportDTO(" +
+           "a.id, q.id, q.courseCode, a.attemptDate, a.completedAt, a.score, " +
+           "sa.id, qu.id, qu.questionText, o.id, o.text, sa.isCorrect, sa.createdAt) " +
+           "from QuizAttempt a join a.quiz q left join a.studentAnswers sa " +
+           "left join sa.question qu left join sa.chosenAnswer o ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(EXPORT_SELECT + "where q.id = :quizId order by a.id, sa.id")
+    Stream<AttemptAnswerExportDTO> streamExportRowsByQuizId(@Param("quizId") Long quizId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(EXPORT_SELECT + "where q.courseCode = :courseCode order by a.id, sa.id")
+    Stream<AttemptAnswerExportDTO> streamExportRowsByCourseCode(@Param("courseCode") String courseCode);
+}
@@ -1,6 +1,7 @@
 package codefusion.softwareproject1.repo;
 
 import codefusion.softwareproject1.entity.Teacher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +18,7 @@ public interface TeacherRepo extends JpaRepository<Teacher, Long> {
     
     // Check if a teacher with a specific email exists
     boolean existsByEmail(String email);
+
+    // Keyset pagination by id
+    List<Teacher> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
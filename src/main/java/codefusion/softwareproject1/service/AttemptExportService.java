@@ -0,0 +1,37 @@
+package codefusion.softwareproject1.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting raw attempt data for grading spreadsheets
+ * and analytics: every attempt of a quiz or course with each of its stored
+ * answers, one CSV row per answer. Answers of attempts still in progress are
+ * included once their session has written them.
+ */
+public interface AttemptExportService {
+
+    String CSV = "text/csv";
+
+    /**
+     * Checks the export scope before the response starts, so a bad request is
+     * still answered with an error status. Exactly one of quizId and courseCode must be given.
+     *
+     * @return the file name to offer the download under
+     * @throws IllegalArgumentException if neither or both are given
+     * @throws codefusion.softwareproject1.exception.ResourceNotFoundException if the quiz does not exist,
+     *         or no quiz has the course code
+     */
+    String exportFileName(Long quizId, String courseCode);
+
+    /**
+     * Writes a header and then one row per stored answer, ordered by attempt and answer ID;
+     * an attempt without stored answers gets one row with empty answer columns.
+     * Rows are read through a database cursor and written as they arrive, so memory
+     * stays flat, but the read transaction lasts until the client has taken every row.
+     *
+     * @param out the response body; left open
+     * @throws IOException if writing fails, e.g. the client went away
+     */
+    void exportAttemptAnswers(Long quizId, String courseCode, OutputStream out) throws IOException;
+}
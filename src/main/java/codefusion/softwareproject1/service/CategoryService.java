@@ -1,6 +1,7 @@
 package codefusion.softwareproject1.service;
 
 import codefusion.softwareproject1.dto.CategoryDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 
 import java.util.List;
 
@@ -10,8 +11,16 @@ public interface CategoryService {
 
     List<CategoryDTO> getAllCategories();
 
+    CursorPageDTO<CategoryDTO> getCategoriesPage(String cursor, Integer size);
+
+    List<CategoryDTO> searchCategories(String text, Integer size); // Full-text on name and description, best match first
+
     CategoryDTO getCategoryById(Long id);
 
+    String getCategoryETag(Long id); // Strong ETag from id and updatedAt, throws if the category is missing
+
+    String getAllCategoriesETag();
+
     CategoryDTO updateCategory(Long id, CategoryDTO categoryDTO);
 
     void deleteCategory(Long id);
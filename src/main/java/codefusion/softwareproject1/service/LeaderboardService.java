@@ -0,0 +1,16 @@
+package codefusion.softwareproject1.service;
+
+import codefusion.softwareproject1.dto.AttemptRankDTO;
+import codefusion.softwareproject1.dto.LeaderboardEntryDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LeaderboardService {
+    void recordCompletion(Long quizId, Long attemptId, float score, LocalDateTime completedAt); // Called in the completing transaction, applied once it commits
+    List<LeaderboardEntryDTO> getQuizLeaderboard(Long quizId, Integer limit);
+    List<LeaderboardEntryDTO> getCategoryLeaderboard(Long categoryId, Integer limit); // Best attempts over all quizzes of the category
+    AttemptRankDTO getAttemptRank(Long attemptId);
+    int saveSnapshots(); // Persists the leaderboards changed since the last snapshot, returns how many were written
+    void removeQuiz(Long quizId); // Drops the leaderboard and the snapshot of a deleted quiz
+}
@@ -0,0 +1,14 @@
+package codefusion.softwareproject1.service;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+
+import java.util.List;
+
+public interface QuestionResultCounterService {
+    void recordAnswer(Long questionId, boolean correct); // Joins the caller's transaction
+    void recordAnswers(List<StudentAnswerDTO> answers); // One increment per distinct question
+    void createCounter(Long questionId);
+    void deleteCounter(Long questionId);
+    int rebuildAllCounters(); // Recomputes from student_answer history, returns rows written
+    int rebuildCountersForQuiz(Long quizId);
+}
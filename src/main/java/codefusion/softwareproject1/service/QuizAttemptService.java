@@ -1,9 +1,11 @@
 package codefusion.softwareproject1.service;
 
 import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
 import codefusion.softwareproject1.dto.QuizAttemptDTO;
 import codefusion.softwareproject1.dto.QuizResultDTO;
-import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.dto.QuizSubmissionResultDTO;
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
 
 
 
@@ -11,7 +13,13 @@ public interface QuizAttemptService {
 
     QuizAttemptDTO startQuizAttempt(Long quizId, Long studentId);
 
-    StudentAnswer submitStudentAnswer(Long attemptId, Long questionId, AnswerSubmissionDTO submissionDTO, Long studentId);
+    StudentAnswerDTO submitStudentAnswer(Long attemptId, Long questionId, AnswerSubmissionDTO submissionDTO, Long studentId);
+
+    QuizSubmissionResultDTO submitStudentAnswers(Long attemptId, QuizAnswerSubmissionDTO submissionDTO);
+
+    QuizAttemptDTO completeQuizAttempt(Long attemptId);
 
     QuizResultDTO getQuizResults(Long quizId);
+
+    QuizResultDTO rebuildQuizResults(Long quizId);
 }
@@ -1,7 +1,11 @@
 package codefusion.softwareproject1.service;
 
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.service.cache.ETagged;
 import java.util.List;
 
 /**
@@ -85,4 +89,128 @@ public interface QuizService {
      * @throws ResourceNotFoundException if the category is not found (optional, can also return empty list)
      */
     List<QuizDTO> getPublishedQuizzesByCategoryId(Long categoryId);
-} 
\ No newline at end of file
+
+    /**
+     * Retrieves lightweight summaries of all quizzes for catalog listings.
+     *
+     * @return list of quiz summaries with question count and average rating
+     */
+    List<QuizSummaryDTO> getQuizSummaries();
+
+    /**
+     * Retrieves lightweight summaries of all published quizzes for catalog listings.
+     *
+     * @return list of published quiz summaries with question count and average rating
+     */
+    List<QuizSummaryDTO> getPublishedQuizSummaries();
+
+    /**
+     * Retrieves one page of quizzes ordered by ID.
+     *
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, clamped to the allowed maximum
+     * @return the page of quiz DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageDTO<QuizDTO> getQuizzesPage(String cursor, Integer size);
+
+    /**
+     * Retrieves one page of published quizzes ordered by ID.
+     *
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, clamped to the allowed maximum
+     * @return the page of published quiz DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageDTO<QuizDTO> getPublishedQuizzesPage(String cursor, Integer size);
+
+    /**
+     * Retrieves one page of published quizzes for a specific category ordered by ID.
+     *
+     * @param categoryId the category ID
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, clamped to the allowed maximum
+     * @return the page of published quiz DTOs for that category
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageDTO<QuizDTO> getPublishedQuizzesByCategoryIdPage(Long categoryId, String cursor, Integer size);
+
+    /**
+     * Full-text search over quiz title, course code, description, category name
+     * and question text; every word of the text matches as a prefix.
+     *
+     * @param text the search text
+     * @param categoryId restricts the search to one category, or null for all
+     * @param publishedOnly whether to leave out unpublished quizzes
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, clamped to the allowed maximum
+     * @return the page of matching quizzes, best match first
+     * @throws IllegalArgumentException if the text has no searchable words or the cursor is malformed
+     */
+    CursorPageDTO<QuizSearchResultDTO> searchQuizzes(String text, Long categoryId, boolean publishedOnly, String cursor, Integer size);
+
+    /**
+     * Strong ETag of a quiz with its questions and answer options, cached
+     * until the quiz changes, so it can be checked without loading the quiz.
+     *
+     * @param id the quiz ID
+     * @return the current ETag of the quiz
+     * @throws ResourceNotFoundException if the quiz is not found
+     */
+    String getQuizETag(Long id);
+
+    /**
+     * Strong ETag of the list of all quizzes.
+     *
+     * @return the current ETag of the listing
+     */
+    String getAllQuizzesETag();
+
+    /**
+     * Strong ETag of the list of published quizzes.
+     *
+     * @return the current ETag of the listing
+     */
+    String getPublishedQuizzesETag();
+
+    /**
+     * Strong ETag of the list of published quizzes of a category.
+     *
+     * @param categoryId the category ID
+     * @return the current ETag of the listing
+     */
+    String getPublishedQuizzesByCategoryIdETag(Long categoryId);
+
+    /**
+     * Retrieves a quiz with its questions and answer options, together with
+     * the strong ETag of exactly that content.
+     *
+     * @param id the quiz ID
+     * @return the quiz DTO and its ETag
+     * @throws ResourceNotFoundException if the quiz is not found
+     */
+    ETagged<QuizDTO> getQuizWithETag(Long id);
+
+    /**
+     * Retrieves all quizzes together with the strong ETag of that listing.
+     *
+     * @return the quiz DTOs and their ETag
+     */
+    ETagged<List<QuizDTO>> getAllQuizzesWithETag();
+
+    /**
+     * Retrieves all published quizzes together with the strong ETag of that listing.
+     *
+     * @return the published quiz DTOs and their ETag
+     */
+    ETagged<List<QuizDTO>> getPublishedQuizzesWithETag();
+
+    /**
+     * Retrieves the published quizzes of a category together with the strong
+     * ETag of that listing.
+     *
+     * @param categoryId the category ID
+     * @return the published quiz DTOs of the category and their ETag
+     */
+    ETagged<List<QuizDTO>> getPublishedQuizzesByCategoryIdWithETag(Long categoryId);
+}
@@ -0,0 +1,19 @@
+package codefusion.softwareproject1.service;
+
+import codefusion.softwareproject1.dto.QuizStatisticsDTO;
+
+/**
+ * Item analysis of a quiz, read from the statistics tables the analytics
+ * pipeline maintains. The figures trail the attempts by up to the pipeline's
+ * batching delay and leave out events dropped while its queue was full.
+ */
+public interface QuizStatisticsService {
+
+    /**
+     * Returns the score distribution of the quiz and, per question in ID order,
+     * its difficulty, discrimination index, answer time and option frequencies.
+     *
+     * @throws codefusion.softwareproject1.exception.ResourceNotFoundException if the quiz does not exist
+     */
+    QuizStatisticsDTO getQuizStatistics(Long quizId);
+}
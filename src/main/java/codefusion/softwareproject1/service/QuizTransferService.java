@@ -0,0 +1,36 @@
+package codefusion.softwareproject1.service;
+
+import codefusion.softwareproject1.dto.QuizImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Service interface for moving whole quizzes, with their questions and answer
+ * options, in and out in bulk. Both directions use NDJSON: one quiz per line,
+ * shaped like QuizDTO with nested questions and answerOptions, so an export
+ * can be imported again as it is. Ids are assigned on import.
+ */
+public interface QuizTransferService {
+
+    /**
+     * Reads quizzes line by line and stores them in chunks, each in its own transaction.
+     * Invalid lines are reported and skipped; the valid ones are imported.
+     *
+     * @param ndjson the request body
+     * @return counts of what was imported and the errors of rejected lines
+     * @throws IOException if the body cannot be read
+     */
+    QuizImportResultDTO importQuizzes(InputStream ndjson) throws IOException;
+
+    /**
+     * Writes quizzes ordered by ID, loading and flushing them in batches so the
+     * whole catalog is never held in memory.
+     *
+     * @param categoryId only export quizzes of this category when not null
+     * @param out the response body; left open
+     * @throws IOException if writing fails, e.g. the client went away
+     */
+    void exportQuizzes(Long categoryId, OutputStream out) throws IOException;
+}
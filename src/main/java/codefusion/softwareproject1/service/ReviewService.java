@@ -1,6 +1,8 @@
 package codefusion.softwareproject1.service;
 
 import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import codefusion.softwareproject1.dto.RatingSummaryDTO;
 import codefusion.softwareproject1.dto.ReviewDTO;
 import java.util.List;
 import java.util.Map;
@@ -8,7 +10,10 @@ import java.util.Map;
 public interface ReviewService {
     ReviewDTO createReview(CreateReviewDTO createReviewDTO);
     List<ReviewDTO> getReviewsByQuizId(Long quizId);
+    CursorPageDTO<ReviewDTO> getReviewsPageByQuizId(Long quizId, String cursor, Integer size); // Newest first, keyset paginated
     Map<String, Object> getReviewsAndSummaryByQuizId(Long quizId); // For avg rating & count
+    RatingSummaryDTO getRatingSummaryByQuizId(Long quizId); // Count, average and star histogram, without loading reviews
+    int reconcileRatingSummaries(); // Re-derives summaries from the reviews, returns how many were corrected
     ReviewDTO updateReview(Long reviewId, CreateReviewDTO createReviewDTO, String studentNickname); // Pass nickname for ownership check
     void deleteReview(Long reviewId, String studentNickname); // Pass nickname for ownership check
     ReviewDTO getReviewById(Long reviewId); // For fetching review to edit
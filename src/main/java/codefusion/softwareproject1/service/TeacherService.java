@@ -1,5 +1,6 @@
 package codefusion.softwareproject1.service;
 
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
 import codefusion.softwareproject1.dto.TeacherDTO;
 import codefusion.softwareproject1.entity.Teacher;
@@ -28,6 +29,16 @@ public interface TeacherService {
      */
     List<TeacherDTO> getAllTeachers();
     
+    /**
+     * Retrieves one page of teachers ordered by ID
+     * 
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, clamped to the allowed maximum
+     * @return the page of teacher DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageDTO<TeacherDTO> getTeachersPage(String cursor, Integer size);
+    
     /**
      * Creates a new teacher
      * 
@@ -0,0 +1,27 @@
+package codefusion.softwareproject1.service.analytics;
+
+/**
+ * Domain events the attempt path publishes for quiz statistics.
+ */
+public sealed interface AnalyticsEvent {
+
+    long quizId();
+
+    /**
+     * A graded answer, published when it is accepted into the attempt's session.
+     *
+     * @param elapsedMillis time since the attempt's previous answer, or since it started;
+     *                      null when unknown, see AttemptSession.answered
+     */
+    record AnswerSubmitted(long quizId, long attemptId, long questionId, long answerOptionId,
+                           boolean correct, Long elapsedMillis) implements AnalyticsEvent {
+    }
+
+    /**
+     * A completed attempt, published once its answers and score are committed.
+     *
+     * @param score percentage of the possible points
+     */
+    record AttemptCompleted(long quizId, long attemptId, float score) implements AnalyticsEvent {
+    }
+}
@@ -0,0 +1,48 @@
+package codefusion.softwareproject1.service.analytics;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds completed attempts from the outbox into the analytics pipeline, so a
+ * completion reaches the statistics once its transaction has committed, even
+ * if the node stopped right after the commit. Other events are not used for
+ * statistics and are left to the relay to delete.
+ */
+@Component
+public class AnalyticsOutboxListener implements OutboxListener {
+
+    private static final String ATTEMPT_COMPLETED = DomainEvent.AttemptCompleted.class.getSimpleName();
+
+    private final AnalyticsPipeline analyticsPipeline;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AnalyticsOutboxListener(AnalyticsPipeline analyticsPipeline, ObjectMapper objectMapper) {
+        this.analyticsPipeline = analyticsPipeline;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (!ATTEMPT_COMPLETED.equals(event.getEventType())) {
+                continue;
+            }
+            DomainEvent.AttemptCompleted completed;
+            try {
+                completed = objectMapper.readValue(event.getPayload(), DomainEvent.AttemptCompleted.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not read outbox event " + event.getId(), e);
+            }
+            analyticsPipeline.publish(new AnalyticsEvent.AttemptCompleted(completed.quizId(), completed.attemptId(), completed.score()));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package codefusion.softwareproject1.service.analytics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process queue between the attempt path and the statistics tables.
+ * Publishing never blocks: when the queue is full the event is dropped and
+ * counted, so statistics are best effort while the request path keeps its
+ * latency. A single consumer thread takes events in batches of up to batch-size,
+ * waiting at most max-delay for a batch to fill, and hands each batch to the
+ * aggregator. Being the only writer, it never contends with itself on the rows.
+ */
+@Component
+public class AnalyticsPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsPipeline.class);
+
+    private final QuizStatisticsAggregator aggregator;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<AnalyticsEvent> queue;
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread consumer;
+
+    @Autowired
+    public AnalyticsPipeline(QuizStatisticsAggregator aggregator,
+                             MeterRegistry meterRegistry,
+                             @Value("${quiz.analytics.enabled:true}") boolean enabled,
+                             @Value("${quiz.analytics.queue-capacity:10000}") int queueCapacity,
+                             @Value("${quiz.analytics.batch-size:500}") int batchSize,
+                             @Value("${quiz.analytics.max-delay:200ms}") Duration maxDelay) {
+        this.aggregator = aggregator;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("quiz.analytics.queue.size", queue, BlockingQueue::size)
+                .description("Analytics events waiting for the aggregator")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("quiz.analytics.events.dropped")
+                .description("Analytics events dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("Quiz analytics pipeline is disabled");
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consume, "quiz-analytics");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Queues the event for the aggregator without waiting; drops it if the queue is full
+     * or the pipeline is not running.
+     */
+    public void publish(AnalyticsEvent event) {
+        if (!running) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Stops taking events and writes the ones still queued.
+     */
+    @PreDestroy
+    public void stop() {
+        if (consumer == null) {
+            return;
+        }
+        // Not interrupted, so a batch being written is not cut off in the middle of a statement
+        running = false;
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (consumer.isAlive()) {
+            logger.warn("Quiz analytics consumer did not stop in time, {} events are lost", queue.size());
+            return;
+        }
+        List<AnalyticsEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void consume() {
+        List<AnalyticsEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AnalyticsEvent first = queue.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AnalyticsEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AnalyticsEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            aggregator.apply(batch);
+        } catch (RuntimeException e) {
+            logger.error("Could not write {} analytics events, they are dropped", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package codefusion.softwareproject1.service.analytics;
+
+import codefusion.softwareproject1.dto.AnswerOutcomeDTO;
+import codefusion.softwareproject1.entity.AnswerOptionStatistics;
+import codefusion.softwareproject1.entity.QuestionStatistics;
+import codefusion.softwareproject1.entity.QuizStatistics;
+import codefusion.softwareproject1.repo.QuizStatisticsRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds a batch of analytics events into increments of the statistics tables and
+ * writes them in one transaction, so a batch costs a handful of statements however
+ * many events it holds. Completed attempts are scored against the answers stored
+ * for them, read with one query for the whole batch.
+ */
+@Component
+public class QuizStatisticsAggregator {
+
+    private final QuizStatisticsRepo quizStatisticsRepo;
+    private final StudentAnswerRepo studentAnswerRepo;
+
+    @Autowired
+    public QuizStatisticsAggregator(QuizStatisticsRepo quizStatisticsRepo, StudentAnswerRepo studentAnswerRepo) {
+        this.quizStatisticsRepo = quizStatisticsRepo;
+        this.studentAnswerRepo = studentAnswerRepo;
+    }
+
+    @Transactional
+    public void apply(List<AnalyticsEvent> events) {
+        Map<Long, QuizStatistics> quizzes = new HashMap<>();
+        Map<Long, QuestionStatistics> questions = new HashMap<>();
+        Map<Long, AnswerOptionStatistics> options = new HashMap<>();
+        Map<Long, AnalyticsEvent.AttemptCompleted> completions = new HashMap<>();
+
+        for (AnalyticsEvent event : events) {
+            switch (event) {
+                case AnalyticsEvent.AnswerSubmitted answer -> {
+                    QuestionStatistics question = questionIncrement(questions, answer.questionId(), answer.quizId());
+                    question.setAnswers(question.getAnswers() + 1);
+                    if (answer.correct()) {
+                        question.setCorrectAnswers(question.getCorrectAnswers() + 1);
+                    }
+                    if (answer.elapsedMillis() != null) {
+                        question.setTimedAnswers(question.getTimedAnswers() + 1);
+                        question.setTimeSumMillis(question.getTimeSumMillis() + answer.elapsedMillis());
+                    }
+                    AnswerOptionStatistics option = options.computeIfAbsent(answer.answerOptionId(),
+                            id -> new AnswerOptionStatistics(id, answer.quizId(), 0));
+                    option.setTimesChosen(option.getTimesChosen() + 1);
+                }
+                case AnalyticsEvent.AttemptCompleted completed -> {
+                    completions.put(completed.attemptId(), completed);
+                    QuizStatistics quiz = quizzes.computeIfAbsent(completed.quizId(),
+                            id -> new QuizStatistics(id, 0, 0, 0));
+                    double score = completed.score();
+                    quiz.setCompletedAttempts(quiz.getCompletedAttempts() + 1);
+                    quiz.setScoreSum(quiz.getScoreSum() + score);
+                    quiz.setScoreSquareSum(quiz.getScoreSquareSum() + score * score);
+                }
+            }
+        }
+
+        if (!completions.isEmpty()) {
+            // Every question a completed attempt answered adds one (correct, score) pair to the question
+            for (AnswerOutcomeDTO outcome : studentAnswerRepo.findOutcomesByAttemptIdIn(completions.keySet())) {
+                AnalyticsEvent.AttemptCompleted completed = completions.get(outcome.getAttemptId());
+                double score = completed.score();
+                QuestionStatistics question = questionIncrement(questions, outcome.getQuestionId(), completed.quizId());
+                question.setScoredAnswers(question.getScoredAnswers() + 1);
+                question.setScoreSum(question.getScoreSum() + score);
+                question.setScoreSquareSum(question.getScoreSquareSum() + score * score);
+                if (outcome.isCorrect()) {
+                    question.setScoredCorrect(question.getScoredCorrect() + 1);
+                    question.setCorrectScoreSum(question.getCorrectScoreSum() + score);
+                }
+            }
+        }
+
+        quizStatisticsRepo.addToStatistics(quizzes.values(), questions.values(), options.values());
+    }
+
+    private static QuestionStatistics questionIncrement(Map<Long, QuestionStatistics> questions, long questionId, long quizId) {
+        return questions.computeIfAbsent(questionId,
+                id -> new QuestionStatistics(id, quizId, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+    }
+}
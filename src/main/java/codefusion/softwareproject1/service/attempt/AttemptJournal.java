@@ -0,0 +1,199 @@
+package codefusion.softwareproject1.service.attempt;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only local journal of attempt sessions, one record per line:
+ * <pre>
+ * O attemptId quizId                              session opened
+ * A attemptId questionId optionId correct         answer graded, not yet persisted
+ * F attemptId                                     pending answers written to the database
+ * C attemptId                                     attempt completed
+ * </pre>
+ * On startup the journal is replayed to recover the answers that were not
+ * persisted before the node stopped, then compacted to the open sessions;
+ * AttemptSessionStore compacts it again whenever it outgrows compact-size.
+ */
+@Component
+public class AttemptJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttemptJournal.class);
+
+    private final Path path;
+    private final boolean fsync;
+    private FileChannel channel;
+
+    @Autowired
+    public AttemptJournal(@Value("${quiz.attempts.journal-path:data/attempt-journal.log}") String path,
+                          @Value("${quiz.attempts.journal-fsync:false}") boolean fsync) {
+        this.path = Path.of(path);
+        this.fsync = fsync;
+    }
+
+    /**
+     * Unfinished session recovered from the journal, with the answers logged after its last flush.
+     */
+    public record RecoveredAttempt(long quizId, List<StudentAnswerDTO> pendingAnswers) {
+    }
+
+    /**
+     * Replays the journal and returns the sessions that were neither completed nor fully flushed
+     * out of memory, keyed by attempt id.
+     */
+    public synchronized Map<Long, RecoveredAttempt> recover() {
+        Map<Long, RecoveredAttempt> attempts = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return attempts;
+        }
+        try (BufferedReader lines = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                replay(attempts, line, lineNumber);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read attempt journal " + path, e);
+        }
+        logger.info("Recovered {} open attempt sessions from {}", attempts.size(), path);
+        return attempts;
+    }
+
+    private static void replay(Map<Long, RecoveredAttempt> attempts, String line, int lineNumber) {
+        String[] fields = line.trim().split(" ");
+        try {
+            long attemptId = Long.parseLong(fields[1]);
+            switch (fields[0]) {
+                case "O" -> attempts.put(attemptId, new RecoveredAttempt(Long.parseLong(fields[2]), new ArrayList<>()));
+                case "A" -> {
+                    RecoveredAttempt attempt = attempts.get(attemptId);
+                    if (attempt != null) {
+                        attempt.pendingAnswers().add(new StudentAnswerDTO(null, attemptId, Long.parseLong(fields[2]), null,
+                                Long.parseLong(fields[3]), null, Boolean.parseBoolean(fields[4])));
+                    }
+                }
+                case "F" -> {
+                    RecoveredAttempt attempt = attempts.get(attemptId);
+                    if (attempt != null) {
+                        attempt.pendingAnswers().clear();
+                    }
+                }
+                case "C" -> attempts.remove(attemptId);
+                default -> throw new IllegalArgumentException("Unknown record type " + fields[0]);
+            }
+        } catch (RuntimeException e) {
+            // Typically a record torn by a crash in the middle of a write
+            logger.warn("Skipping unreadable attempt journal record at line {}: '{}'", lineNumber, line);
+        }
+    }
+
+    /**
+     * Replaces the journal with the records needed to restore the given sessions, keyed by
+     * attempt id, and opens it for appending.
+     */
+    public synchronized void compact(Map<Long, RecoveredAttempt> sessions) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path compacted = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Long, RecoveredAttempt> session : sessions.entrySet()) {
+                    writer.write(openRecord(session.getKey(), session.getValue().quizId()));
+                    for (StudentAnswerDTO answer : session.getValue().pendingAnswers()) {
+                        writer.write(answerRecord(answer));
+                    }
+                }
+            }
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact attempt journal " + path, e);
+        }
+    }
+
+    /**
+     * Bytes in the journal, 0 while it is not open.
+     */
+    public synchronized long size() {
+        try {
+            return channel != null ? channel.size() : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the size of attempt journal " + path, e);
+        }
+    }
+
+    public void opened(long attemptId, long quizId) {
+        append(openRecord(attemptId, quizId));
+    }
+
+    public void answered(StudentAnswerDTO answer) {
+        append(answerRecord(answer));
+    }
+
+    public void flushed(long attemptId) {
+        append("F " + attemptId + "\n");
+    }
+
+    public void completed(long attemptId) {
+        append("C " + attemptId + "\n");
+    }
+
+    private static String openRecord(long attemptId, long quizId) {
+        return "O " + attemptId + " " + quizId + "\n";
+    }
+
+    private static String answerRecord(StudentAnswerDTO answer) {
+        return "A " + answer.getAttemptId() + " " + answer.getQuestionId() + " " + answer.getChosenAnswerId() + " " + answer.isCorrect() + "\n";
+    }
+
+    private synchronized void append(String record) {
+        if (channel == null) {
+            throw new IllegalStateException("Attempt journal " + path + " is not open");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to attempt journal " + path, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
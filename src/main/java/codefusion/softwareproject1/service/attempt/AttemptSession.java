@@ -0,0 +1,110 @@
+package codefusion.softwareproject1.service.attempt;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-progress state of one quiz attempt. Tracks every answered question,
+ * whether already persisted or not, and the graded answers still waiting to
+ * be written. Callers synchronize on the session.
+ */
+public class AttemptSession {
+
+    private final long attemptId;
+    private final long quizId;
+    private final Set<Long> answeredQuestions = new HashSet<>();
+    private final List<StudentAnswerDTO> pendingAnswers = new ArrayList<>();
+    private boolean completed;
+    private boolean detached;
+    private long lastActivityNanos; // 0 while unknown
+
+    AttemptSession(long attemptId, long quizId) {
+        this.attemptId = attemptId;
+        this.quizId = quizId;
+    }
+
+    public long getAttemptId() {
+        return attemptId;
+    }
+
+    public long getQuizId() {
+        return quizId;
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+
+    void markCompleted() {
+        completed = true;
+    }
+
+    /**
+     * True once the session was evicted from the store; its state then lives in the database only.
+     */
+    boolean isDetached() {
+        return detached;
+    }
+
+    void markDetached() {
+        detached = true;
+    }
+
+    boolean isAnswered(long questionId) {
+        return answeredQuestions.contains(questionId);
+    }
+
+    /**
+     * Registers an answer that is already stored in student_answer.
+     */
+    void addPersisted(long questionId) {
+        answeredQuestions.add(questionId);
+    }
+
+    /**
+     * Starts timing answers from now; only sessions of new attempts know when the attempt started.
+     */
+    void startClock() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * Notes a submission and returns the milliseconds since the previous answer, or since
+     * the attempt started. Null when that is not known: the session was reloaded, or the
+     * submission holds several answers, whose times cannot be told apart.
+     */
+    Long answered(int answerCount) {
+        long now = System.nanoTime();
+        Long elapsedMillis = lastActivityNanos != 0 && answerCount == 1
+                ? (now - lastActivityNanos) / 1_000_000
+                : null;
+        lastActivityNanos = now;
+        return elapsedMillis;
+    }
+
+    void addPending(StudentAnswerDTO answer) {
+        answeredQuestions.add(answer.getQuestionId());
+        pendingAnswers.add(answer);
+    }
+
+    List<StudentAnswerDTO> drainPending() {
+        List<StudentAnswerDTO> drained = new ArrayList<>(pendingAnswers);
+        pendingAnswers.clear();
+        return drained;
+    }
+
+    /**
+     * Puts answers back in front of the queue after a failed write.
+     */
+    void restorePending(List<StudentAnswerDTO> answers) {
+        pendingAnswers.addAll(0, answers);
+    }
+
+    List<StudentAnswerDTO> getPendingAnswers() {
+        return List.copyOf(pendingAnswers);
+    }
+}
@@ -0,0 +1,363 @@
+package codefusion.softwareproject1.service.attempt;
+
+import codefusion.softwareproject1.dto.AttemptScoreDTO;
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.exception.QuizException;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-memory store of in-progress attempts, keyed by attempt id.
+ * Answers are graded and journaled as they arrive and written to the
+ * database in one batch when the attempt completes. An attempt idle for
+ * longer than the session timeout is completed automatically; one pushed
+ * out by the size bound only has its answers written and is reloaded from
+ * the database on its next answer.
+ * Evicted sessions are parked until a dedicated writer thread has stored
+ * them, retrying with backoff if the database is unavailable; an answer to a
+ * parked session takes it back into the store, so no answer is dropped.
+ * Once the journal outgrows compact-size it is rewritten to the open and
+ * parked sessions. Opening a session and journaling answers hold the read
+ * side of journalLock, compaction the write side, so no open or answer
+ * record lands in the journal being replaced. Flush and completion records
+ * may: replaying answers that were already written, or an attempt that was
+ * completed, is harmless, as the database is checked first.
+ */
+@Component
+public class AttemptSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttemptSessionStore.class);
+
+    private static final long FIRST_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    /**
+     * Evicted session waiting to be written. Identity tells a pending write apart
+     * from one queued by a later eviction of the same session.
+     */
+    private record Parked(AttemptSession session, RemovalCause cause) {
+    }
+
+    private final QuizAttemptRepo quizAttemptRepo;
+    private final StudentAnswerRepo studentAnswerRepo;
+    private final AttemptSessionWriter writer;
+    private final AttemptJournal journal;
+    private final Cache<Long, AttemptSession> sessions;
+    private final ConcurrentMap<Long, Parked> parked = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictionWriter;
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final long journalCompactSize;
+
+    @Autowired
+    public AttemptSessionStore(QuizAttemptRepo quizAttemptRepo,
+                               StudentAnswerRepo studentAnswerRepo,
+                               AttemptSessionWriter writer,
+                               AttemptJournal journal,
+                               @Value("${quiz.attempts.max-sessions:10000}") long maxSessions,
+                               @Value("${quiz.attempts.session-timeout:30m}") Duration sessionTimeout,
+                               @Value("${quiz.attempts.journal-compact-size:64MB}") DataSize journalCompactSize) {
+        this.quizAttemptRepo = quizAttemptRepo;
+        this.studentAnswerRepo = studentAnswerRepo;
+        this.writer = writer;
+        this.journal = journal;
+        this.journalCompactSize = journalCompactSize.toBytes();
+        this.evictionWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "attempt-session-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The listener only parks the session; the database write runs on evictionWriter, outside
+        // the cache's atomic removal and off the thread that happened to trigger the eviction
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(sessionTimeout)
+                .scheduler(Scheduler.systemScheduler())
+                .<Long, AttemptSession>evictionListener((attemptId, session, cause) -> park(session, cause))
+                .build();
+    }
+
+    /**
+     * Restores the sessions left open by the previous run from the journal and the database.
+     */
+    @PostConstruct
+    public void recover() {
+        for (Map.Entry<Long, AttemptJournal.RecoveredAttempt> recovered : journal.recover().entrySet()) {
+            try {
+                AttemptSession session = load(recovered.getKey());
+                for (StudentAnswerDTO answer : recovered.getValue().pendingAnswers()) {
+                    if (!session.isAnswered(answer.getQuestionId())) {
+                        session.addPending(answer);
+                    }
+                }
+                sessions.put(session.getAttemptId(), session);
+            } catch (ResourceNotFoundException | QuizException e) {
+                logger.warn("Dropping journaled attempt ID {}: {}", recovered.getKey(), e.getMessage());
+            }
+        }
+        journal.compact(openSessions());
+    }
+
+    /**
+     * Rewrites the journal to the sessions still open once it has grown past compact-size.
+     */
+    @Scheduled(fixedDelayString = "${quiz.attempts.journal-compact-interval:PT1M}")
+    public void compactJournal() {
+        if (journal.size() < journalCompactSize) {
+            return;
+        }
+        journalLock.writeLock().lock();
+        try {
+            long size = journal.size();
+            Map<Long, AttemptJournal.RecoveredAttempt> open = openSessions();
+            journal.compact(open);
+            logger.info("Compacted the attempt journal from {} to {} bytes, {} open sessions", size, journal.size(), open.size());
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Opens the session of a newly created attempt once the attempt row is committed.
+     */
+    public void open(long attemptId, long quizId) {
+        Runnable open = () -> {
+            journalLock.readLock().lock();
+            try {
+                journal.opened(attemptId, quizId);
+                AttemptSession session = new AttemptSession(attemptId, quizId);
+                session.startClock();
+                sessions.put(attemptId, session);
+            } finally {
+                journalLock.readLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    open.run();
+                }
+            });
+        } else {
+            open.run();
+        }
+    }
+
+    /**
+     * Returns the session of the attempt, loading it from the database if it is not in memory.
+     *
+     * @throws ResourceNotFoundException if the attempt does not exist
+     * @throws QuizException if the attempt is already completed
+     */
+    public AttemptSession get(long attemptId) {
+        return sessions.get(attemptId, this::unparkOrLoad);
+    }
+
+    /**
+     * Adds graded answers to the attempt's session. Grades are final: all answers are
+     * rejected if any of their questions was answered before.
+     *
+     * @return milliseconds the student took for a single answer, see AttemptSession.answered
+     */
+    public Long record(long attemptId, List<StudentAnswerDTO> answers) {
+        // Taken before the session lock, in the same order as compactJournal
+        journalLock.readLock().lock();
+        try {
+            while (true) {
+                AttemptSession session = get(attemptId);
+                synchronized (session) {
+                    if (session.isDetached()) {
+                        sessions.asMap().remove(attemptId, session);
+                        continue;
+                    }
+                    ensureOpen(session);
+                    for (StudentAnswerDTO answer : answers) {
+                        if (session.isAnswered(answer.getQuestionId())) {
+                            throw new QuizException("Question with ID " + answer.getQuestionId() + " was already answered in attempt ID " + attemptId);
+                        }
+                    }
+                    for (StudentAnswerDTO answer : answers) {
+                        journal.answered(answer);
+                        session.addPending(answer);
+                    }
+                    return session.answered(answers.size());
+                }
+            }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the answers and the score of the attempt and removes its session;
+     * any later answer to the attempt is rejected.
+     */
+    public AttemptScoreDTO complete(long attemptId) {
+        while (true) {
+            AttemptSession session = get(attemptId);
+            AttemptScoreDTO score;
+            synchronized (session) {
+                if (session.isDetached()) {
+                    sessions.asMap().remove(attemptId, session);
+                    continue;
+                }
+                ensureOpen(session);
+                score = writer.complete(session);
+                session.markCompleted();
+            }
+            // Outside the session lock, which the eviction listener takes while holding the entry
+            sessions.asMap().remove(attemptId, session);
+            return score;
+        }
+    }
+
+    /**
+     * Writes the pending answers of every session, parked ones included, before
+     * shutdown; the sessions are restored from the journal on the next start.
+     */
+    @PreDestroy
+    public void flushAll() {
+        evictionWriter.shutdownNow();
+        List<AttemptSession> open = new ArrayList<>(sessions.asMap().values());
+        parked.values().forEach(entry -> open.add(entry.session()));
+        for (AttemptSession session : open) {
+            synchronized (session) {
+                if (session.isCompleted() || session.isDetached()) {
+                    continue;
+                }
+                try {
+                    writer.flush(session);
+                } catch (RuntimeException e) {
+                    logger.error("Could not flush attempt ID {} on shutdown, its answers stay in the journal", session.getAttemptId(), e);
+                }
+            }
+        }
+    }
+
+    // The sessions that are neither completed nor written out, with their pending answers
+    private Map<Long, AttemptJournal.RecoveredAttempt> openSessions() {
+        List<AttemptSession> candidates = new ArrayList<>(sessions.asMap().values());
+        parked.values().forEach(entry -> candidates.add(entry.session()));
+        Map<Long, AttemptJournal.RecoveredAttempt> open = new LinkedHashMap<>();
+        for (AttemptSession session : candidates) {
+            synchronized (session) {
+                if (!session.isCompleted() && !session.isDetached()) {
+                    open.put(session.getAttemptId(),
+                            new AttemptJournal.RecoveredAttempt(session.getQuizId(), session.getPendingAnswers()));
+                }
+            }
+        }
+        return open;
+    }
+
+    private void park(AttemptSession session, RemovalCause cause) {
+        Parked entry = new Parked(session, cause);
+        parked.put(session.getAttemptId(), entry);
+        evictionWriter.execute(() -> writeParked(entry, 0));
+    }
+
+    /**
+     * Completes an expired session, or writes the answers of one pushed out by the size
+     * bound. The session stays parked until the write has committed; on failure the
+     * write is retried with a growing delay, and the session can still be taken back.
+     */
+    private void writeParked(Parked entry, int failures) {
+        AttemptSession session = entry.session();
+        synchronized (session) {
+            if (parked.get(session.getAttemptId()) != entry) {
+                return; // Taken back into the store, or parked again by a later eviction
+            }
+            if (session.isCompleted()) {
+                parked.remove(session.getAttemptId(), entry);
+                return;
+            }
+            try {
+                if (entry.cause() == RemovalCause.EXPIRED) {
+                    AttemptScoreDTO score = writer.complete(session);
+                    session.markCompleted();
+                    logger.info("Completed idle attempt ID {} with score {}", session.getAttemptId(), score.toPercentage());
+                } else {
+                    writer.flush(session);
+                }
+                // Callers still holding this instance must reload the attempt
+                session.markDetached();
+                parked.remove(session.getAttemptId(), entry);
+            } catch (RuntimeException e) {
+                long delay = Math.min(MAX_RETRY_DELAY_MILLIS, FIRST_RETRY_DELAY_MILLIS << Math.min(failures, 16));
+                logger.error("Could not write evicted attempt ID {}, retrying in {} ms; the session stays available",
+                        session.getAttemptId(), delay, e);
+                evictionWriter.schedule(() -> writeParked(entry, failures + 1), delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Takes a parked session back, waiting for a write in progress; once written it is
+     * detached, and the attempt is loaded from the database instead.
+     */
+    private AttemptSession unparkOrLoad(long attemptId) {
+        Parked entry = parked.get(attemptId);
+        if (entry != null) {
+            synchronized (entry.session()) {
+                if (!entry.session().isDetached() && !entry.session().isCompleted()
+                        && parked.remove(attemptId, entry)) {
+                    return entry.session();
+                }
+            }
+        }
+        AttemptSession session = load(attemptId);
+        // Recovery drops answer records of attempts it saw no open record for
+        journal.opened(attemptId, session.getQuizId());
+        return session;
+    }
+
+    private AttemptSession load(long attemptId) {
+        QuizAttempt attempt = quizAttemptRepo.findById(attemptId)
+                .orElseThrow(() -> new ResourceNotFoundException("QuizAttempt", "id", attemptId));
+        if (attempt.getCompletedAt() != null || attempt.getScore() != null) {
+            throw new QuizException("Quiz attempt with ID " + attemptId + " is already completed.");
+        }
+
+        AttemptSession session = new AttemptSession(attemptId, attempt.getQuiz().getId());
+        for (Long questionId : studentAnswerRepo.findAnsweredQuestionIdsByAttemptId(attemptId)) {
+            session.addPersisted(questionId);
+        }
+        return session;
+    }
+
+    private static void ensureOpen(AttemptSession session) {
+        if (session.isCompleted()) {
+            throw new QuizException("Quiz attempt with ID " + session.getAttemptId() + " is already completed.");
+        }
+    }
+}
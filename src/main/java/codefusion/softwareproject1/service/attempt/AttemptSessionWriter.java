@@ -0,0 +1,112 @@
+package codefusion.softwareproject1.service.attempt;
+
+import codefusion.softwareproject1.dto.AttemptScoreDTO;
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.LeaderboardService;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes attempt sessions behind: pending answers go to student_answer in one
+ * batch together with their result counter increments, and completion stores
+ * the weighted score, its leaderboard position and its outbox event, which
+ * carries the completion to the statistics (see AnalyticsOutboxListener). The
+ * journal is only told once the transaction has committed; on rollback the
+ * answers are put back into the session.
+ */
+@Component
+public class AttemptSessionWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttemptSessionWriter.class);
+
+    private final StudentAnswerRepo studentAnswerRepo;
+    private final QuizAttemptRepo quizAttemptRepo;
+    private final QuestionResultCounterService questionResultCounterService;
+    private final AttemptJournal journal;
+    private final LeaderboardService leaderboardService;
+    private final OutboxWriter outboxWriter;
+
+    @Autowired
+    public AttemptSessionWriter(StudentAnswerRepo studentAnswerRepo,
+                                QuizAttemptRepo quizAttemptRepo,
+                                QuestionResultCounterService questionResultCounterService,
+                                AttemptJournal journal,
+                                LeaderboardService leaderboardService,
+                                OutboxWriter outboxWriter) {
+        this.studentAnswerRepo = studentAnswerRepo;
+        this.quizAttemptRepo = quizAttemptRepo;
+        this.questionResultCounterService = questionResultCounterService;
+        this.journal = journal;
+        this.leaderboardService = leaderboardService;
+        this.outboxWriter = outboxWriter;
+    }
+
+    /**
+     * Persists the pending answers of the session. Must be called while holding the session's lock.
+     */
+    @Transactional
+    public void flush(AttemptSession session) {
+        List<StudentAnswerDTO> answers = session.drainPending();
+        if (answers.isEmpty()) {
+            return;
+        }
+        afterCompletion(session, answers, () -> journal.flushed(session.getAttemptId()));
+        write(answers);
+    }
+
+    /**
+     * Persists the pending answers of the session, then scores all of the attempt's answers
+     * with a single aggregate query and marks the attempt completed.
+     * Must be called while holding the session's lock.
+     */
+    @Transactional
+    public AttemptScoreDTO complete(AttemptSession session) {
+        List<StudentAnswerDTO> answers = session.drainPending();
+        afterCompletion(session, answers, () -> journal.completed(session.getAttemptId()));
+        write(answers);
+
+        AttemptScoreDTO score = quizAttemptRepo.findScoreById(session.getAttemptId())
+                .orElseThrow(() -> new ResourceNotFoundException("QuizAttempt", "id", session.getAttemptId()));
+        float percentage = score.toPercentage();
+        LocalDateTime completedAt = LocalDateTime.now();
+        quizAttemptRepo.markCompleted(session.getAttemptId(), percentage, completedAt);
+        outboxWriter.append(new DomainEvent.AttemptCompleted(session.getAttemptId(), session.getQuizId(), percentage, completedAt));
+        leaderboardService.recordCompletion(session.getQuizId(), session.getAttemptId(), percentage, completedAt);
+        logger.debug("Completed attempt ID {} with {} of {} points", session.getAttemptId(), score.getEarnedPoints(), score.getPossiblePoints());
+        return score;
+    }
+
+    private void write(List<StudentAnswerDTO> answers) {
+        if (!answers.isEmpty()) {
+            studentAnswerRepo.batchInsert(answers);
+            questionResultCounterService.recordAnswers(answers);
+        }
+    }
+
+    private void afterCompletion(AttemptSession session, List<StudentAnswerDTO> answers, Runnable onCommit) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    session.restorePending(answers);
+                }
+            }
+        });
+    }
+}
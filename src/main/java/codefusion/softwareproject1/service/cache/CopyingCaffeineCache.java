@@ -0,0 +1,31 @@
+package codefusion.softwareproject1.service.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Caffeine cache that copies values on the way in and on the way out, so
+ * neither the caller that filled an entry nor any later reader holds the
+ * cached instance. Still a CaffeineCache, so actuator binds its metrics.
+ */
+public class CopyingCaffeineCache extends CaffeineCache {
+
+    private final UnaryOperator<Object> copier;
+
+    public CopyingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues, UnaryOperator<Object> copier) {
+        super(name, cache, allowNullValues);
+        this.copier = copier;
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(copier.apply(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return copier.apply(super.fromStoreValue(storeValue));
+    }
+}
@@ -0,0 +1,8 @@
+package codefusion.softwareproject1.service.cache;
+
+/**
+ * A response body together with the ETag of the content it was built from,
+ * both read in the same database snapshot.
+ */
+public record ETagged<T>(String etag, T body) {
+}
@@ -0,0 +1,18 @@
+package codefusion.softwareproject1.service.cache;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns content fingerprints into opaque strong ETag values.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(String kind, String fingerprint) {
+        return kind + "-" + DigestUtils.md5DigestAsHex((kind + "|" + fingerprint).getBytes(StandardCharsets.UTF_8));
+    }
+}
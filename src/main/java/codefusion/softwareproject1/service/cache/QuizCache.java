@@ -0,0 +1,164 @@
+package codefusion.softwareproject1.service.cache;
+
+import codefusion.softwareproject1.dto.QuizDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Names and invalidation of the quiz content caches filled by QuizServiceImpl.
+ * A single quiz entry is evicted by id; the published lists embed every quiz,
+ * so any content change clears them entirely. The DTOs are mutable, so the
+ * caches hold and hand out copies (see copyOf).
+ * <p>
+ * The ETags of the quizzes and quiz lists are cached next to the bodies, so a
+ * conditional GET is answered without a query, and body entries are only
+ * served while their ETag is the cached one. Evictions run after commit; a
+ * value loaded before an eviction that overtook it is returned but not cached,
+ * so neither a stale ETag nor a stale body outlives the change.
+ */
+@Component
+public class QuizCache {
+
+    public static final String QUIZ_BY_ID = "quizById";
+    public static final String PUBLISHED_QUIZZES = "publishedQuizzes";
+    public static final String PUBLISHED_QUIZZES_BY_CATEGORY = "publishedQuizzesByCategory";
+    public static final String QUIZ_ETAGS = "quizETags";
+    public static final String QUIZ_LIST_ETAGS = "quizListETags";
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizCache.class);
+
+    private final CacheManager cacheManager;
+    private final Object invalidationLock = new Object();
+    private long invalidations; // Guarded by invalidationLock
+
+    @Autowired
+    public QuizCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * The cached ETag under key, loading and caching it on a miss.
+     */
+    public String etag(String cacheName, Object key, Supplier<String> loader) {
+        return get(cacheName, key, value -> value instanceof String, loader);
+    }
+
+    /**
+     * Returns the cached entry if it was built from the content etag
+     * describes, otherwise loads, caches and returns a fresh one.
+     */
+    public <T> ETagged<T> get(String cacheName, Object key, String etag, Supplier<ETagged<T>> loader) {
+        return get(cacheName, key, value -> value instanceof ETagged<?> entry && entry.etag().equals(etag), loader);
+    }
+
+    public void evictQuiz(Long quizId) {
+        afterCommit(() -> {
+            if (quizId != null) {
+                evict(QUIZ_BY_ID, quizId);
+                evict(QUIZ_ETAGS, quizId);
+            }
+            clear(PUBLISHED_QUIZZES);
+            clear(PUBLISHED_QUIZZES_BY_CATEGORY);
+            clear(QUIZ_LIST_ETAGS);
+            logger.debug("Evicted cached content of quiz ID: {}", quizId);
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            clear(QUIZ_BY_ID);
+            clear(QUIZ_ETAGS);
+            clear(PUBLISHED_QUIZZES);
+            clear(PUBLISHED_QUIZZES_BY_CATEGORY);
+            clear(QUIZ_LIST_ETAGS);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V get(String cacheName, Object key, Predicate<Object> current, Supplier<V> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && current.test(cached.get())) {
+            return (V) cached.get();
+        }
+        long seen;
+        synchronized (invalidationLock) {
+            seen = invalidations;
+        }
+        V loaded = loader.get();
+        synchronized (invalidationLock) {
+            if (invalidations == seen) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(eviction);
+                }
+            });
+        } else {
+            invalidate(eviction);
+        }
+    }
+
+    private void invalidate(Runnable eviction) {
+        synchronized (invalidationLock) {
+            invalidations++;
+            eviction.run();
+        }
+    }
+
+    private void evict(String name, Object key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Deep copy of a cached value: a QuizDTO or a list of them, with its ETag.
+     */
+    public static Object copyOf(Object value) {
+        if (value instanceof ETagged<?> entry) {
+            return new ETagged<>(entry.etag(), copyOf(entry.body()));
+        }
+        if (value instanceof QuizDTO quiz) {
+            return quiz.copy();
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
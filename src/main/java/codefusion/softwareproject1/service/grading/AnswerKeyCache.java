@@ -0,0 +1,88 @@
+package codefusion.softwareproject1.service.grading;
+
+import codefusion.softwareproject1.repo.AnswerOptionRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded in-memory cache of compiled answer keys, one per quiz.
+ * Keys are compiled when a quiz is published and dropped whenever its
+ * questions or answer options change, or when it is unpublished or deleted.
+ * A miss compiles the key on demand with a single projection query.
+ * <p>
+ * Changes are made inside the transaction that edits the quiz, so cached keys
+ * are only dropped or recompiled once that transaction commits; otherwise a
+ * concurrent grader could reload the old rows and cache them again.
+ */
+@Component
+public class AnswerKeyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerKeyCache.class);
+
+    private final AnswerOptionRepo answerOptionRepo;
+    private final Cache<Long, CompiledAnswerKey> keys;
+
+    @Autowired
+    public AnswerKeyCache(AnswerOptionRepo answerOptionRepo,
+                          @Value("${quiz.grading.answer-key-cache-size:1000}") long maxSize) {
+        this.answerOptionRepo = answerOptionRepo;
+        this.keys = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Returns the answer key of the quiz, compiling it if it is not cached yet.
+     */
+    public CompiledAnswerKey get(Long quizId) {
+        return keys.get(quizId, this::load);
+    }
+
+    /**
+     * Recompiles the answer key of the quiz once the current transaction commits.
+     */
+    public void compile(Long quizId) {
+        afterCommit(() -> {
+            keys.invalidate(quizId);
+            keys.get(quizId, this::load);
+        });
+    }
+
+    /**
+     * Drops the answer key of the quiz once the current transaction commits.
+     */
+    public void invalidate(Long quizId) {
+        if (quizId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            keys.invalidate(quizId);
+            logger.debug("Invalidated answer key for quiz ID: {}", quizId);
+        });
+    }
+
+    private CompiledAnswerKey load(Long quizId) {
+        CompiledAnswerKey key = CompiledAnswerKey.compile(quizId, answerOptionRepo.findKeysByQuizId(quizId));
+        logger.debug("Compiled answer key for quiz ID {} with {} options", quizId, key.size());
+        return key;
+    }
+
+    // Outside a transaction the change is already committed
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package codefusion.softwareproject1.service.grading;
+
+import codefusion.softwareproject1.dto.AnswerOptionKeyDTO;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable answer key of one quiz, compiled for grading.
+ * Option ids are kept sorted in a primitive array with the owning question id
+ * at the same index, and correctness is a bitset over those indexes, so a
+ * lookup is a binary search with no boxing and no database access.
+ */
+public final class CompiledAnswerKey {
+
+    private final long quizId;
+    private final long[] optionIds;
+    private final long[] questionIds;
+    private final BitSet correct;
+    private final String[] optionTexts;
+    private final String[] questionTexts;
+
+    private CompiledAnswerKey(long quizId, long[] optionIds, long[] questionIds, BitSet correct,
+                              String[] optionTexts, String[] questionTexts) {
+        this.quizId = quizId;
+        this.optionIds = optionIds;
+        this.questionIds = questionIds;
+        this.correct = correct;
+        this.optionTexts = optionTexts;
+        this.questionTexts = questionTexts;
+    }
+
+    /**
+     * Builds the key from the grading projection of every answer option of the quiz.
+     */
+    public static CompiledAnswerKey compile(long quizId, List<AnswerOptionKeyDTO> options) {
+        AnswerOptionKeyDTO[] sorted = options.toArray(new AnswerOptionKeyDTO[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(AnswerOptionKeyDTO::getOptionId));
+
+        int size = sorted.length;
+        long[] optionIds = new long[size];
+        long[] questionIds = new long[size];
+        BitSet correct = new BitSet(size);
+        String[] optionTexts = new String[size];
+        String[] questionTexts = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            AnswerOptionKeyDTO option = sorted[i];
+            optionIds[i] = option.getOptionId();
+            questionIds[i] = option.getQuestionId();
+            correct.set(i, Boolean.TRUE.equals(option.getCorrect()));
+            optionTexts[i] = option.getOptionText();
+            questionTexts[i] = option.getQuestionText();
+        }
+        return new CompiledAnswerKey(quizId, optionIds, questionIds, correct, optionTexts, questionTexts);
+    }
+
+    public long getQuizId() {
+        return quizId;
+    }
+
+    public int size() {
+        return optionIds.length;
+    }
+
+    /**
+     * Returns the index of the option in this key, or -1 when the option is not part of the quiz.
+     */
+    public int indexOf(long optionId) {
+        int index = Arrays.binarySearch(optionIds, optionId);
+        return index >= 0 ? index : -1;
+    }
+
+    public long questionIdAt(int index) {
+        return questionIds[index];
+    }
+
+    public boolean isCorrectAt(int index) {
+        return correct.get(index);
+    }
+
+    public String optionTextAt(int index) {
+        return optionTexts[index];
+    }
+
+    public String questionTextAt(int index) {
+        return questionTexts[index];
+    }
+}
@@ -7,6 +7,8 @@ import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.repo.AnswerOptionRepo;
 import codefusion.softwareproject1.repo.QuestionRepo;
 import codefusion.softwareproject1.service.AnswerOptionService;
+import codefusion.softwareproject1.service.cache.QuizCache;
+import codefusion.softwareproject1.service.grading.AnswerKeyCache;
 import codefusion.softwareproject1.service.mapper.AnswerOptionMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,15 +31,21 @@ public class AnswerOptionServiceImpl implements AnswerOptionService {
     private final AnswerOptionRepo answerOptionRepository;
     private final QuestionRepo questionRepository;
     private final AnswerOptionMapper answerOptionMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuizCache quizCache;
 
     @Autowired
     public AnswerOptionServiceImpl(
             AnswerOptionRepo answerOptionRepository,
             QuestionRepo questionRepository,
-            AnswerOptionMapper answerOptionMapper) {
+            AnswerOptionMapper answerOptionMapper,
+            AnswerKeyCache answerKeyCache,
+            QuizCache quizCache) {
         this.answerOptionRepository = answerOptionRepository;
         this.questionRepository = questionRepository;
         this.answerOptionMapper = answerOptionMapper;
+        this.answerKeyCache = answerKeyCache;
+        this.quizCache = quizCache;
     }
 
     @Override
@@ -59,6 +67,7 @@ public class AnswerOptionServiceImpl implements AnswerOptionService {
             
             // Add to question's answer options
             question.addAnswerOption(answerOption);
+            invalidateQuiz(question);
             
             logger.info("Answer option added successfully with ID: {}", answerOption.getId());
             
@@ -104,6 +113,9 @@ public class AnswerOptionServiceImpl implements AnswerOptionService {
         AnswerOption existingAnswerOption = answerOptionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("AnswerOption", "id", id));
         
+        // Invalidate the key of the question the option leaves as well as the one it ends up in
+        Question previousQuestion = existingAnswerOption.getQuestion();
+        
         try {
             // Update answer option fields from DTO
             answerOptionMapper.updateEntityFromDto(answerOptionDTO, existingAnswerOption);
@@ -129,6 +141,8 @@ public class AnswerOptionServiceImpl implements AnswerOptionService {
             
             // Save updated answer option
             existingAnswerOption = answerOptionRepository.save(existingAnswerOption);
+            invalidateQuiz(previousQuestion);
+            invalidateQuiz(existingAnswerOption.getQuestion());
             logger.info("Answer option updated successfully: {}", existingAnswerOption.getId());
             
             return answerOptionMapper.toDto(existingAnswerOption);
@@ -154,10 +168,18 @@ public class AnswerOptionServiceImpl implements AnswerOptionService {
             }
             
             answerOptionRepository.deleteById(id);
+            invalidateQuiz(question);
             logger.info("Answer option deleted successfully: {}", id);
         }  catch (Exception e) {
             logger.error("Error deleting answer option ID {}: {}", id, e.getMessage());
             throw e;
         }
     }
+
+    private void invalidateQuiz(Question question) {
+        if (question != null && question.getQuiz() != null) {
+            answerKeyCache.invalidate(question.getQuiz().getId());
+            quizCache.evictQuiz(question.getQuiz().getId());
+        }
+    }
 }
\ No newline at end of file
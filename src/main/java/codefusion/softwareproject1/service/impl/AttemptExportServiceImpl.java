@@ -0,0 +1,139 @@
+package codefusion.softwareproject1.service.impl;
+
+import codefusion.softwareproject1.dto.AttemptAnswerExportDTO;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.AttemptExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of AttemptExportService.
+ * Rows come from a StudentAnswerRepo projection streamed in a read-only
+ * transaction, so the driver fetches them in pages through a forward-only
+ * cursor, and go straight into a buffered writer on the response. Fields are
+ * written as RFC 4180 CSV, timestamps in ISO-8601.
+ */
+@Service
+public class AttemptExportServiceImpl implements AttemptExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttemptExportServiceImpl.class);
+
+    static final String[] HEADER = {
+            "attempt_id", "quiz_id", "course_code", "attempt_date", "completed_at", "score",
+            "answer_id", "question_id", "question_text", "chosen_answer_id", "chosen_answer_text",
+            "correct", "answered_at"
+    };
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final QuizRepo quizRepository;
+    private final StudentAnswerRepo studentAnswerRepository;
+    private final TransactionTemplate readTransaction;
+
+    @Autowired
+    public AttemptExportServiceImpl(QuizRepo quizRepository,
+                                    StudentAnswerRepo studentAnswerRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.quizRepository = quizRepository;
+        this.studentAnswerRepository = studentAnswerRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public String exportFileName(Long quizId, String courseCode) {
+        boolean byCourse = courseCode != null && !courseCode.isBlank();
+        if ((quizId != null) == byCourse) {
+            throw new IllegalArgumentException("Export needs either a quizId or a courseCode");
+        }
+        if (quizId != null) {
+            if (!quizRepository.existsById(quizId)) {
+                throw new ResourceNotFoundException("Quiz", "id", quizId);
+            }
+            return "attempts-quiz-" + quizId + ".csv";
+        }
+        String code = courseCode.trim();
+        if (!quizRepository.existsByCourseCode(code)) {
+            throw new ResourceNotFoundException("Quiz", "courseCode", code);
+        }
+        return "attempts-" + code.replaceAll("[^A-Za-z0-9_-]", "_") + ".csv";
+    }
+
+    @Override
+    public void exportAttemptAnswers(Long quizId, String courseCode, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writeRow(writer, (Object[]) HEADER);
+        Long rows;
+        try {
+            rows = readTransaction.execute(status -> {
+                try (Stream<AttemptAnswerExportDTO> stream = quizId != null
+                        ? studentAnswerRepository.streamExportRowsByQuizId(quizId)
+                        : studentAnswerRepository.streamExportRowsByCourseCode(courseCode.trim())) {
+                    long count = 0;
+                    for (Iterator<AttemptAnswerExportDTO> it = stream.iterator(); it.hasNext(); count++) {
+                        writeRow(writer, it.next());
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.debug("Exported {} attempt answer rows for quiz {} / course {}", rows, quizId, courseCode);
+    }
+
+    private static void writeRow(Writer writer, AttemptAnswerExportDTO row) throws IOException {
+        writeRow(writer,
+                row.getAttemptId(), row.getQuizId(), row.getCourseCode(),
+                row.getAttemptDate(), row.getCompletedAt(), row.getScore(),
+                row.getAnswerId(), row.getQuestionId(), row.getQuestionText(),
+                row.getChosenAnswerId(), row.getChosenAnswerText(),
+                row.getCorrect(), row.getAnsweredAt());
+    }
+
+    private static void writeRow(Writer writer, Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(writer, fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Quoted only when needed, with embedded quotes doubled
+    private static void writeField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,11 +1,17 @@
 package codefusion.softwareproject1.service.impl;
 
 import codefusion.softwareproject1.dto.CategoryDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.entity.Category;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.repo.CategoryRepo;
 import codefusion.softwareproject1.service.CategoryService;
+import codefusion.softwareproject1.service.cache.ETags;
+import codefusion.softwareproject1.service.cache.QuizCache;
 import codefusion.softwareproject1.service.mapper.CategoryMapper;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import codefusion.softwareproject1.service.search.QuizSearchEngine;
+import codefusion.softwareproject1.service.search.SearchTerms;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,11 +24,16 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepo categoryRepo;
     private final CategoryMapper categoryMapper;
+    private final QuizCache quizCache;
+    private final QuizSearchEngine searchEngine;
 
     @Autowired
-    public CategoryServiceImpl(CategoryRepo categoryRepo, CategoryMapper categoryMapper) {
+    public CategoryServiceImpl(CategoryRepo categoryRepo, CategoryMapper categoryMapper, QuizCache quizCache,
+                               QuizSearchEngine searchEngine) {
         this.categoryRepo = categoryRepo;
         this.categoryMapper = categoryMapper;
+        this.quizCache = quizCache;
+        this.searchEngine = searchEngine;
     }
 
     @Override
@@ -41,6 +52,24 @@ public class CategoryServiceImpl implements CategoryService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CategoryDTO> getCategoriesPage(String cursor, Integer size) {
+        int pageSize = KeysetPagination.pageSize(size);
+        List<Category> categories = categoryRepo.findByIdGreaterThanOrderByIdAsc(
+                KeysetPagination.decodeId(cursor), KeysetPagination.probe(pageSize));
+        return KeysetPagination.toPage(categories, pageSize,
+                category -> KeysetPagination.encodeId(category.getId()),
+                page -> page.stream().map(categoryMapper::toDto).collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryDTO> searchCategories(String text, Integer size) {
+        List<Category> categories = categoryRepo.searchByText(SearchTerms.toPrefixTsQuery(text), KeysetPagination.pageSize(size));
+        return categories.stream().map(categoryMapper::toDto).collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CategoryDTO getCategoryById(Long id) {
@@ -49,6 +78,20 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryMapper.toDto(category);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getCategoryETag(Long id) {
+        String fingerprint = categoryRepo.findFingerprintById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+        return ETags.of("category", fingerprint);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllCategoriesETag() {
+        return ETags.of("categories", categoryRepo.findAllFingerprint());
+    }
+
     @Override
     @Transactional
     public CategoryDTO updateCategory(Long id, CategoryDTO categoryDTO) {
@@ -57,6 +100,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryMapper.updateEntityFromDto(categoryDTO, existingCategory);
         Category updatedCategory = categoryRepo.save(existingCategory);
+        quizCache.evictAll(); // Cached quizzes embed their category
+        searchEngine.categoryChanged(id);
         return categoryMapper.toDto(updatedCategory);
     }
 
@@ -66,5 +111,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryRepo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
         categoryRepo.delete(category);
+        quizCache.evictAll();
+        searchEngine.categoryChanged(id);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,335 @@
+package codefusion.softwareproject1.service.impl;
+
+import codefusion.softwareproject1.dto.AttemptRankDTO;
+import codefusion.softwareproject1.dto.LeaderboardEntryDTO;
+import codefusion.softwareproject1.dto.ScoreCountDTO;
+import codefusion.softwareproject1.entity.LeaderboardEntry;
+import codefusion.softwareproject1.entity.LeaderboardSnapshot;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.exception.QuizException;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.LeaderboardEntryRepo;
+import codefusion.softwareproject1.repo.LeaderboardSnapshotRepo;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.LeaderboardService;
+import codefusion.softwareproject1.service.leaderboard.QuizLeaderboard;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps a QuizLeaderboard per quiz in memory, fed by completed attempts, so
+ * top lists and ranks never sort or count quiz_attempt. Changed boards are
+ * snapshotted periodically; at startup the snapshots are loaded and the
+ * attempts completed after them are replayed. Without any snapshot the boards
+ * are rebuilt from quiz_attempt once.
+ * <p>
+ * Snapshots are placed by a database sequence rather than the clock: each
+ * completion takes the next quiz_attempt_completion_seq value, stored on the
+ * attempt, in the transaction that completes the attempt, and is applied to its
+ * board once that transaction commits. Boards are only copied while no
+ * numbered completion is still on its way to a board, so a snapshot holds
+ * exactly the completions numbered up to the last value applied. A restart
+ * replays the attempts numbered after it.
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
+
+    private final QuizRepo quizRepo;
+    private final CategoryRepo categoryRepo;
+    private final QuizAttemptRepo quizAttemptRepo;
+    private final LeaderboardSnapshotRepo leaderboardSnapshotRepo;
+    private final LeaderboardEntryRepo leaderboardEntryRepo;
+    private final int capacity;
+    private final TransactionTemplate startupTransaction;
+
+    private final Map<Long, QuizLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private final Set<Long> changedQuizIds = ConcurrentHashMap.newKeySet();
+    // Completions hold the read lock from numbering until their transaction completes, snapshots the write lock while copying
+    private final ReadWriteLock completionLock = new ReentrantReadWriteLock();
+    private final AtomicLong lastCompletionSeq = new AtomicLong();
+
+    @Autowired
+    public LeaderboardServiceImpl(QuizRepo quizRepo,
+                                  CategoryRepo categoryRepo,
+                                  QuizAttemptRepo quizAttemptRepo,
+                                  LeaderboardSnapshotRepo leaderboardSnapshotRepo,
+                                  LeaderboardEntryRepo leaderboardEntryRepo,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${quiz.leaderboard.size:100}") int capacity) {
+        this.quizRepo = quizRepo;
+        this.categoryRepo = categoryRepo;
+        this.quizAttemptRepo = quizAttemptRepo;
+        this.leaderboardSnapshotRepo = leaderboardSnapshotRepo;
+        this.leaderboardEntryRepo = leaderboardEntryRepo;
+        this.capacity = capacity;
+        this.startupTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void load() {
+        // Attempts completed before completions were numbered are placed after every snapshot
+        startupTransaction.executeWithoutResult(status -> quizAttemptRepo.numberUnsequencedCompletions());
+        List<LeaderboardSnapshot> snapshots = leaderboardSnapshotRepo.findAll();
+        if (snapshots.isEmpty()) {
+            rebuild();
+            return;
+        }
+
+        Map<Long, List<QuizLeaderboard.Entry>> entriesByQuiz = new HashMap<>();
+        for (LeaderboardEntry entry : leaderboardEntryRepo.findAll()) {
+            entriesByQuiz.computeIfAbsent(entry.getQuizId(), id -> new ArrayList<>())
+                    .add(new QuizLeaderboard.Entry(entry.getAttemptId(), entry.getScore(), entry.getCompletedAt()));
+        }
+
+        Map<Long, Long> snapshotSeqs = new HashMap<>();
+        long oldestSnapshot = Long.MAX_VALUE;
+        for (LeaderboardSnapshot snapshot : snapshots) {
+            leaderboard(snapshot.getQuizId()).restore(
+                    entriesByQuiz.getOrDefault(snapshot.getQuizId(), List.of()), parseScoreCounts(snapshot.getScoreCounts()));
+            snapshotSeqs.put(snapshot.getQuizId(), snapshot.getCompletionSeq());
+            oldestSnapshot = Math.min(oldestSnapshot, snapshot.getCompletionSeq());
+            lastCompletionSeq.accumulateAndGet(snapshot.getCompletionSeq(), Math::max);
+        }
+
+        // Every snapshot holds the completions up to the oldest one, so a quiz without a snapshot had none of them
+        int replayed = 0;
+        for (QuizAttempt attempt : quizAttemptRepo.findCompletedAfter(oldestSnapshot)) {
+            Long quizId = attempt.getQuiz().getId();
+            if (attempt.getCompletionSeq() > snapshotSeqs.getOrDefault(quizId, oldestSnapshot)) {
+                apply(quizId, attempt.getId(), attempt.getScore(), attempt.getCompletedAt(), attempt.getCompletionSeq());
+                replayed++;
+            }
+        }
+        logger.info("Loaded {} leaderboard snapshots and replayed {} attempts completed since", snapshots.size(), replayed);
+    }
+
+    private void rebuild() {
+        lastCompletionSeq.set(quizAttemptRepo.findMaxCompletionSeq());
+        List<ScoreCountDTO> scoreCounts = quizAttemptRepo.countCompletedByQuizAndScore();
+        Map<Long, Map<Float, Long>> countsByQuiz = new HashMap<>();
+        for (ScoreCountDTO scoreCount : scoreCounts) {
+            countsByQuiz.computeIfAbsent(scoreCount.getQuizId(), id -> new HashMap<>())
+                    .put(scoreCount.getScore(), scoreCount.getAttempts());
+        }
+
+        countsByQuiz.forEach((quizId, counts) -> {
+            List<QuizLeaderboard.Entry> entries = quizAttemptRepo.findTopCompletedByQuizId(quizId, PageRequest.of(0, capacity))
+                    .stream()
+                    .map(attempt -> new QuizLeaderboard.Entry(attempt.getId(), attempt.getScore(), attempt.getCompletedAt()))
+                    .toList();
+            leaderboard(quizId).restore(entries, counts);
+            changedQuizIds.add(quizId);
+        });
+        logger.info("Rebuilt {} leaderboards from completed attempts", countsByQuiz.size());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCompletion(Long quizId, Long attemptId, float score, LocalDateTime completedAt) {
+        completionLock.readLock().lock();
+        boolean registered = false;
+        try {
+            long completionSeq = quizAttemptRepo.nextCompletionSeq();
+            quizAttemptRepo.setCompletionSeq(attemptId, completionSeq);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            apply(quizId, attemptId, score, completedAt, completionSeq);
+                        }
+                    } finally {
+                        completionLock.readLock().unlock();
+                    }
+                }
+            });
+            registered = true;
+        } finally {
+            if (!registered) {
+                completionLock.readLock().unlock();
+            }
+        }
+    }
+
+    private void apply(Long quizId, Long attemptId, float score, LocalDateTime completedAt, long completionSeq) {
+        leaderboard(quizId).add(new QuizLeaderboard.Entry(attemptId, score, completedAt));
+        changedQuizIds.add(quizId);
+        lastCompletionSeq.accumulateAndGet(completionSeq, Math::max);
+    }
+
+    @Override
+    @Transactional
+    public void removeQuiz(Long quizId) {
+        leaderboardEntryRepo.deleteByQuizId(quizId);
+        leaderboardSnapshotRepo.deleteByQuizId(quizId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                leaderboards.remove(quizId);
+                changedQuizIds.remove(quizId);
+            }
+        });
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getQuizLeaderboard(Long quizId, Integer limit) {
+        if (!quizRepo.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", "id", quizId);
+        }
+        QuizLeaderboard leaderboard = leaderboards.get(quizId);
+        if (leaderboard == null) {
+            return List.of();
+        }
+        return leaderboard.top(limit(limit)).stream()
+                .map(entry -> toDto(entry, quizId, leaderboard.rankOf(entry.score())))
+                .toList();
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getCategoryLeaderboard(Long categoryId, Integer limit) {
+        if (!categoryRepo.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+        int size = limit(limit);
+
+        // Every quiz keeps its best entries, so the category's best are among their union
+        List<TopEntry> candidates = new ArrayList<>();
+        for (Long quizId : quizRepo.findIdsByCategoryId(categoryId)) {
+            QuizLeaderboard leaderboard = leaderboards.get(quizId);
+            if (leaderboard != null) {
+                leaderboard.top(size).forEach(entry -> candidates.add(new TopEntry(quizId, entry)));
+            }
+        }
+        candidates.sort((a, b) -> QuizLeaderboard.ORDER.compare(a.entry(), b.entry()));
+
+        List<LeaderboardEntryDTO> top = new ArrayList<>(Math.min(size, candidates.size()));
+        long rank = 0;
+        for (TopEntry candidate : candidates.subList(0, Math.min(size, candidates.size()))) {
+            if (top.isEmpty() || top.get(top.size() - 1).getScore() != candidate.entry().score()) {
+                rank = top.size() + 1;
+            }
+            top.add(toDto(candidate.entry(), candidate.quizId(), rank));
+        }
+        return top;
+    }
+
+    @Override
+    public AttemptRankDTO getAttemptRank(Long attemptId) {
+        QuizAttempt attempt = quizAttemptRepo.findById(attemptId)
+                .orElseThrow(() -> new ResourceNotFoundException("QuizAttempt", "id", attemptId));
+        if (attempt.getCompletedAt() == null) {
+            throw new QuizException("Quiz attempt with ID " + attemptId + " is not completed and has no rank yet.");
+        }
+        Long quizId = attempt.getQuiz().getId();
+        QuizLeaderboard leaderboard = leaderboard(quizId);
+        return new AttemptRankDTO(attemptId, quizId, attempt.getScore(),
+                leaderboard.rankOf(attempt.getScore()), leaderboard.attemptCount());
+    }
+
+    @Override
+    @Transactional
+    public int saveSnapshots() {
+        long completionSeq;
+        List<Long> quizIds;
+        Map<Long, QuizLeaderboard.Snapshot> snapshots = new HashMap<>();
+        completionLock.writeLock().lock();
+        try {
+            // Every completion numbered so far has reached its board, so the copies hold exactly those
+            completionSeq = lastCompletionSeq.get();
+            quizIds = List.copyOf(changedQuizIds);
+            changedQuizIds.removeAll(quizIds);
+            for (Long quizId : quizIds) {
+                QuizLeaderboard leaderboard = leaderboards.get(quizId);
+                if (leaderboard != null) {
+                    snapshots.put(quizId, leaderboard.snapshot());
+                }
+            }
+        } finally {
+            completionLock.writeLock().unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    changedQuizIds.addAll(quizIds);
+                }
+            }
+        });
+
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        snapshots.forEach((quizId, snapshot) -> {
+            leaderboardEntryRepo.deleteByQuizId(quizId);
+            leaderboardEntryRepo.saveAll(snapshot.entries().stream()
+                    .map(entry -> new LeaderboardEntry(entry.attemptId(), quizId, entry.score(), entry.completedAt()))
+                    .toList());
+            leaderboardSnapshotRepo.save(new LeaderboardSnapshot(quizId, formatScoreCounts(snapshot.scoreCounts()),
+                    snapshotAt, completionSeq));
+        });
+        // A board that did not change since its last snapshot has no completion missing from it either
+        leaderboardSnapshotRepo.raiseCompletionSeq(completionSeq);
+        return snapshots.size();
+    }
+
+    private QuizLeaderboard leaderboard(Long quizId) {
+        return leaderboards.computeIfAbsent(quizId, id -> new QuizLeaderboard(id, capacity));
+    }
+
+    private int limit(Integer requested) {
+        if (requested == null) {
+            return capacity;
+        }
+        return Math.max(1, Math.min(requested, capacity));
+    }
+
+    private static LeaderboardEntryDTO toDto(QuizLeaderboard.Entry entry, Long quizId, long rank) {
+        return new LeaderboardEntryDTO(rank, entry.attemptId(), quizId, entry.score(), entry.completedAt());
+    }
+
+    private static String formatScoreCounts(Map<Float, Long> scoreCounts) {
+        StringJoiner joiner = new StringJoiner(",");
+        scoreCounts.forEach((score, count) -> joiner.add(score + "=" + count));
+        return joiner.toString();
+    }
+
+    private static Map<Float, Long> parseScoreCounts(String scoreCounts) {
+        Map<Float, Long> counts = new HashMap<>();
+        if (scoreCounts.isEmpty()) {
+            return counts;
+        }
+        for (String pair : scoreCounts.split(",")) {
+            int separator = pair.indexOf('=');
+            counts.put(Float.parseFloat(pair.substring(0, separator)), Long.parseLong(pair.substring(separator + 1)));
+        }
+        return counts;
+    }
+
+    private record TopEntry(Long quizId, QuizLeaderboard.Entry entry) {
+    }
+}
@@ -0,0 +1,102 @@
+package codefusion.softwareproject1.service.impl;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.entity.QuestionResultCounter;
+import codefusion.softwareproject1.repo.QuestionResultCounterRepo;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the per-question answer totals behind the quiz results endpoint.
+ * Increments run inside the submitting transaction, so a counter only moves
+ * when the StudentAnswer rows it counts are committed. Rebuilds recompute the
+ * rows in place under row locks rather than deleting them, so increments that
+ * commit during a rebuild are not lost.
+ */
+@Service
+public class QuestionResultCounterServiceImpl implements QuestionResultCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionResultCounterServiceImpl.class);
+
+    private final QuestionResultCounterRepo counterRepository;
+
+    @Autowired
+    public QuestionResultCounterServiceImpl(QuestionResultCounterRepo counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    @Override
+    @Transactional
+    public void recordAnswer(Long questionId, boolean correct) {
+        increment(questionId, 1, correct ? 1 : 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordAnswers(List<StudentAnswerDTO> answers) {
+        // [total, correct] per question, in submission order
+        Map<Long, long[]> totals = new LinkedHashMap<>();
+        for (StudentAnswerDTO answer : answers) {
+            long[] counts = totals.computeIfAbsent(answer.getQuestionId(), id -> new long[2]);
+            counts[0]++;
+            if (answer.isCorrect()) {
+                counts[1]++;
+            }
+        }
+        totals.forEach((questionId, counts) -> increment(questionId, counts[0], counts[1]));
+    }
+
+    @Override
+    @Transactional
+    public void createCounter(Long questionId) {
+        if (!counterRepository.existsById(questionId)) {
+            counterRepository.save(new QuestionResultCounter(questionId, 0, 0));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteCounter(Long questionId) {
+        if (counterRepository.existsById(questionId)) {
+            counterRepository.deleteById(questionId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAllCounters() {
+        counterRepository.insertMissingCounters();
+        counterRepository.lockAllCounters();
+        int rebuilt = counterRepository.updateCountersFromHistory();
+        logger.info("Rebuilt {} question result counters from answer history", rebuilt);
+        return rebuilt;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildCountersForQuiz(Long quizId) {
+        counterRepository.insertMissingCountersByQuizId(quizId);
+        counterRepository.lockCountersByQuizId(quizId);
+        int rebuilt = counterRepository.updateCountersFromHistoryByQuizId(quizId);
+        logger.info("Rebuilt {} question result counters for quiz ID: {}", rebuilt, quizId);
+        return rebuilt;
+    }
+
+    private void increment(Long questionId, long total, long correct) {
+        // Questions created before counters existed get their row on first answer; when a concurrent
+        // submission creates it first the insert is a no-op and the increment is retried on that row.
+        // The rebuild job folds in any earlier history
+        if (counterRepository.increment(questionId, total, correct) == 0
+                && counterRepository.insertIfAbsent(questionId, total, correct) == 0) {
+            counterRepository.increment(questionId, total, correct);
+        }
+    }
+}
@@ -6,8 +6,12 @@ import codefusion.softwareproject1.entity.Quiz;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.repo.QuestionRepo;
 import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
 import codefusion.softwareproject1.service.QuestionService;
+import codefusion.softwareproject1.service.cache.QuizCache;
+import codefusion.softwareproject1.service.grading.AnswerKeyCache;
 import codefusion.softwareproject1.service.mapper.QuestionMapper;
+import codefusion.softwareproject1.service.search.QuizSearchEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,14 +32,26 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepo questionRepository;
     private final QuizRepo quizRepository;
     private final QuestionMapper questionMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuestionResultCounterService questionResultCounterService;
+    private final QuizCache quizCache;
+    private final QuizSearchEngine searchEngine;
 
     @Autowired
     public QuestionServiceImpl(QuestionRepo questionRepository, 
                               QuizRepo quizRepository, 
-                              QuestionMapper questionMapper) {
+                              QuestionMapper questionMapper,
+                              AnswerKeyCache answerKeyCache,
+                              QuestionResultCounterService questionResultCounterService,
+                              QuizCache quizCache,
+                              QuizSearchEngine searchEngine) {
         this.questionRepository = questionRepository;
         this.quizRepository = quizRepository;
         this.questionMapper = questionMapper;
+        this.answerKeyCache = answerKeyCache;
+        this.questionResultCounterService = questionResultCounterService;
+        this.quizCache = quizCache;
+        this.searchEngine = searchEngine;
     }
 
     @Override
@@ -54,6 +70,10 @@ public class QuestionServiceImpl implements QuestionService {
             
             // Save question
             question = questionRepository.save(question);
+            questionResultCounterService.createCounter(question.getId());
+            answerKeyCache.invalidate(quiz.getId());
+            quizCache.evictQuiz(quiz.getId());
+            searchEngine.quizChanged(quiz.getId());
             logger.info("Question added successfully with ID: {}", question.getId());
             
             return questionMapper.toDto(question);
@@ -91,12 +111,17 @@ public class QuestionServiceImpl implements QuestionService {
     public void deleteQuestion(Long id) {
         logger.info("Deleting question ID: {}", id);
         
-        if (!questionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Question", "id", id);
-        }
+        Question question = questionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Question", "id", id));
         
         try {
+            questionResultCounterService.deleteCounter(id);
             questionRepository.deleteById(id);
+            if (question.getQuiz() != null) {
+                answerKeyCache.invalidate(question.getQuiz().getId());
+                quizCache.evictQuiz(question.getQuiz().getId());
+                searchEngine.quizChanged(question.getQuiz().getId());
+            }
             logger.info("Question deleted successfully: {}", id);
         }  catch (Exception e) {
             logger.error("Error deleting question ID {}: {}", id, e.getMessage());
@@ -111,6 +136,9 @@ public class QuestionServiceImpl implements QuestionService {
         Question existingQuestion = questionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question", "id", id));
         
+        // Invalidate the key of the quiz the question leaves as well as the one it ends up in
+        Long previousQuizId = existingQuestion.getQuiz() != null ? existingQuestion.getQuiz().getId() : null;
+        
         try {
             // Update question fields from DTO
             questionMapper.updateEntityFromDto(questionDTO, existingQuestion);
@@ -128,6 +156,14 @@ public class QuestionServiceImpl implements QuestionService {
             
             // Save updated question
             existingQuestion = questionRepository.save(existingQuestion);
+            answerKeyCache.invalidate(previousQuizId);
+            quizCache.evictQuiz(previousQuizId);
+            searchEngine.quizChanged(previousQuizId);
+            if (existingQuestion.getQuiz() != null) {
+                answerKeyCache.invalidate(existingQuestion.getQuiz().getId());
+                quizCache.evictQuiz(existingQuestion.getQuiz().getId());
+                searchEngine.quizChanged(existingQuestion.getQuiz().getId());
+            }
             logger.info("Question updated successfully: {}", existingQuestion.getId());
             
             return questionMapper.toDto(existingQuestion);
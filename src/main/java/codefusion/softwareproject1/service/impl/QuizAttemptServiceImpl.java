@@ -1,44 +1,66 @@
 package codefusion.softwareproject1.service.impl;
 
 import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.AttemptScoreDTO;
 import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
 import codefusion.softwareproject1.dto.QuizAttemptDTO;
 import codefusion.softwareproject1.dto.QuizResultDTO;
+import codefusion.softwareproject1.dto.QuizSubmissionResultDTO;
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
 import codefusion.softwareproject1.entity.*;
 import codefusion.softwareproject1.exception.QuizException;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.repo.*;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
 import codefusion.softwareproject1.service.QuizAttemptService;
+import codefusion.softwareproject1.service.analytics.AnalyticsEvent;
+import codefusion.softwareproject1.service.analytics.AnalyticsPipeline;
+import codefusion.softwareproject1.service.attempt.AttemptSession;
+import codefusion.softwareproject1.service.attempt.AttemptSessionStore;
+import codefusion.softwareproject1.service.grading.AnswerKeyCache;
+import codefusion.softwareproject1.service.grading.CompiledAnswerKey;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import codefusion.softwareproject1.service.results.QuestionResultsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 public class QuizAttemptServiceImpl implements QuizAttemptService {
 
     private final QuizRepo quizRepo;
-    private final QuestionRepo questionRepo;
-    private final AnswerOptionRepo answerOptionRepo;
     private final QuizAttemptRepo quizAttemptRepo;
-    private final StudentAnswerRepo studentAnswerRepo;
+    private final AnswerKeyCache answerKeyCache;
+    private final AttemptSessionStore attemptSessionStore;
+    private final QuestionResultsSource questionResultsSource;
+    private final QuestionResultCounterService questionResultCounterService;
+    private final AnalyticsPipeline analyticsPipeline;
+    private final OutboxWriter outboxWriter;
 
     @Autowired
     public QuizAttemptServiceImpl(QuizRepo quizRepo,
-                                QuestionRepo questionRepo,
-                                AnswerOptionRepo answerOptionRepo,
                                 QuizAttemptRepo quizAttemptRepo,
-                                StudentAnswerRepo studentAnswerRepo) {
+                                AnswerKeyCache answerKeyCache,
+                                AttemptSessionStore attemptSessionStore,
+                                QuestionResultsSource questionResultsSource,
+                                QuestionResultCounterService questionResultCounterService,
+                                AnalyticsPipeline analyticsPipeline,
+                                OutboxWriter outboxWriter) {
         this.quizRepo = quizRepo;
-        this.questionRepo = questionRepo;
-        this.answerOptionRepo = answerOptionRepo;
         this.quizAttemptRepo = quizAttemptRepo;
-        this.studentAnswerRepo = studentAnswerRepo;
+        this.answerKeyCache = answerKeyCache;
+        this.attemptSessionStore = attemptSessionStore;
+        this.questionResultsSource = questionResultsSource;
+        this.questionResultCounterService = questionResultCounterService;
+        this.analyticsPipeline = analyticsPipeline;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -55,47 +77,71 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
         newAttempt.setQuiz(quiz);
 
         QuizAttempt savedAttempt = quizAttemptRepo.save(newAttempt);
-
-        QuizAttemptDTO dto = new QuizAttemptDTO();
-        dto.setId(savedAttempt.getId());
-        dto.setQuizId(savedAttempt.getQuiz().getId());
-        dto.setQuizTitle(savedAttempt.getQuiz().getTitle());
-        dto.setAttemptDate(savedAttempt.getAttemptDate());
-        dto.setScore(savedAttempt.getScore());
-        return dto;
+        outboxWriter.append(new DomainEvent.AttemptStarted(savedAttempt.getId(), quizId));
+        attemptSessionStore.open(savedAttempt.getId(), quizId);
+        return toDto(savedAttempt);
     }
 
     @Override
-    @Transactional
-    public StudentAnswer submitStudentAnswer(Long attemptId, Long questionId, AnswerSubmissionDTO submissionDTO, Long studentId) {
+    public StudentAnswerDTO submitStudentAnswer(Long attemptId, Long questionId, AnswerSubmissionDTO submissionDTO, Long studentId) {
         if (submissionDTO.getAnswerOptionId() == null) {
             throw new IllegalArgumentException("AnswerOptionId cannot be null in submission.");
         }
 
-        QuizAttempt attempt = quizAttemptRepo.findById(attemptId)
-                .orElseThrow(() -> new ResourceNotFoundException("QuizAttempt", "id", attemptId));
+        AttemptSession session = attemptSessionStore.get(attemptId);
+        CompiledAnswerKey answerKey = answerKeyCache.get(session.getQuizId());
+        StudentAnswerDTO gradedAnswer = grade(answerKey, attemptId, questionId, submissionDTO.getAnswerOptionId());
 
-        Question question = questionRepo.findById(questionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Question", "id", questionId));
+        Long elapsedMillis = attemptSessionStore.record(attemptId, List.of(gradedAnswer));
+        publishAnswers(session.getQuizId(), List.of(gradedAnswer), elapsedMillis);
+        return gradedAnswer;
+    }
 
-        AnswerOption chosenAnswer = answerOptionRepo.findById(submissionDTO.getAnswerOptionId())
-                .orElseThrow(() -> new ResourceNotFoundException("AnswerOption", "id", submissionDTO.getAnswerOptionId()));
+    @Override
+    public QuizSubmissionResultDTO submitStudentAnswers(Long attemptId, QuizAnswerSubmissionDTO submissionDTO) {
+        Map<Long, Long> answers = submissionDTO.getAnswers();
+        if (answers == null || answers.isEmpty()) {
+            throw new IllegalArgumentException("At least one answer must be submitted.");
+        }
+        // Not containsKey(null): immutable maps such as Map.of throw on null lookups
+        for (Map.Entry<Long, Long> answer : answers.entrySet()) {
+            if (Objects.isNull(answer.getKey()) || Objects.isNull(answer.getValue())) {
+                throw new IllegalArgumentException("QuestionId and AnswerOptionId cannot be null in submission.");
+            }
+        }
 
-        if (!question.getQuiz().getId().equals(attempt.getQuiz().getId())) {
-            throw new QuizException("Question with ID " + questionId + " does not belong to the quiz of attempt ID " + attemptId);
+        AttemptSession session = attemptSessionStore.get(attemptId);
+        long quizId = session.getQuizId();
+
+        if (submissionDTO.getQuizId() != null && !submissionDTO.getQuizId().equals(quizId)) {
+            throw new QuizException("Submission for quiz ID " + submissionDTO.getQuizId() + " does not match the quiz of attempt ID " + attemptId);
         }
 
-        if (!chosenAnswer.getQuestion().getId().equals(questionId)) {
-            throw new QuizException("Chosen AnswerOption with ID " + chosenAnswer.getId() + " does not belong to Question ID " + questionId);
+        CompiledAnswerKey answerKey = answerKeyCache.get(quizId);
+
+        List<StudentAnswerDTO> gradedAnswers = new ArrayList<>(answers.size());
+        for (Map.Entry<Long, Long> answer : answers.entrySet()) {
+            gradedAnswers.add(grade(answerKey, attemptId, answer.getKey(), answer.getValue()));
         }
 
-        StudentAnswer studentAnswer = new StudentAnswer();
-        studentAnswer.setAttempt(attempt);
-        studentAnswer.setQuestion(question);
-        studentAnswer.setChosenAnswer(chosenAnswer);
-        studentAnswer.setCorrect(chosenAnswer.getIsCorrect());
+        Long elapsedMillis = attemptSessionStore.record(attemptId, gradedAnswers);
+        publishAnswers(quizId, gradedAnswers, elapsedMillis);
+
+        long correctAnswers = gradedAnswers.stream().filter(StudentAnswerDTO::isCorrect).count();
+        return new QuizSubmissionResultDTO(attemptId, quizId, gradedAnswers.size(), correctAnswers, gradedAnswers);
+    }
+
+    @Override
+    public QuizAttemptDTO completeQuizAttempt(Long attemptId) {
+        AttemptScoreDTO score = attemptSessionStore.complete(attemptId);
 
-        return studentAnswerRepo.save(studentAnswer);
+        QuizAttempt attempt = quizAttemptRepo.findWithQuizById(attemptId)
+                .orElseThrow(() -> new ResourceNotFoundException("QuizAttempt", "id", attemptId));
+        QuizAttemptDTO dto = toDto(attempt);
+        dto.setEarnedPoints(score.getEarnedPoints());
+        dto.setPossiblePoints(score.getPossiblePoints());
+        dto.setCorrectAnswers(score.getCorrectAnswers());
+        return dto;
     }
 
     @Override
@@ -104,36 +150,52 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
         Quiz quiz = quizRepo.findById(quizId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", quizId));
 
-        List<Question> questionsInQuiz = questionRepo.findByQuizId(quizId);
-        if (questionsInQuiz.isEmpty()) {
-            return new QuizResultDTO(quizId, quiz.getTitle(), new ArrayList<>());
-        }
-
-        List<Long> questionIdsInQuiz = questionsInQuiz.stream().map(Question::getId).collect(Collectors.toList());
-
-        List<StudentAnswer> relevantStudentAnswers = studentAnswerRepo.findByQuestionIdIn(questionIdsInQuiz);
+        List<QuestionResultDTO> questionResults = questionResultsSource.loadResults(quizId);
+        return new QuizResultDTO(quizId, quiz.getTitle(), questionResults);
+    }
 
-        Map<Long, List<StudentAnswer>> answersByQuestionId = relevantStudentAnswers.stream()
-            .filter(sa -> sa.getAttempt().getQuiz().getId().equals(quizId))
-            .collect(Collectors.groupingBy(sa -> sa.getQuestion().getId()));
+    @Override
+    @Transactional
+    public QuizResultDTO rebuildQuizResults(Long quizId) {
+        if (!quizRepo.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", "id", quizId);
+        }
+        questionResultCounterService.rebuildCountersForQuiz(quizId);
+        return getQuizResults(quizId);
+    }
 
-        List<QuestionResultDTO> questionResults = new ArrayList<>();
-        for (Question question : questionsInQuiz) {
-            List<StudentAnswer> answersForThisQuestion = answersByQuestionId.getOrDefault(question.getId(), new ArrayList<>());
+    private QuizAttemptDTO toDto(QuizAttempt attempt) {
+        QuizAttemptDTO dto = new QuizAttemptDTO();
+        dto.setId(attempt.getId());
+        dto.setQuizId(attempt.getQuiz().getId());
+        dto.setQuizTitle(attempt.getQuiz().getTitle());
+        dto.setAttemptDate(attempt.getAttemptDate());
+        dto.setScore(attempt.getScore());
+        dto.setCompletedAt(attempt.getCompletedAt());
+        dto.setStatus(attempt.getCompletedAt() != null ? "COMPLETED" : "IN_PROGRESS");
+        return dto;
+    }
 
-            long totalAnswers = answersForThisQuestion.size();
-            long correctAnswers = answersForThisQuestion.stream().filter(StudentAnswer::isCorrect).count();
-            long wrongAnswers = totalAnswers - correctAnswers;
+    private void publishAnswers(long quizId, List<StudentAnswerDTO> answers, Long elapsedMillis) {
+        for (StudentAnswerDTO answer : answers) {
+            analyticsPipeline.publish(new AnalyticsEvent.AnswerSubmitted(quizId, answer.getAttemptId(),
+                    answer.getQuestionId(), answer.getChosenAnswerId(), answer.isCorrect(), elapsedMillis));
+        }
+    }
 
-            questionResults.add(new QuestionResultDTO(
-                    question.getId(),
-                    question.getQuestionText(),
-                    question.getDifficultyLevel() != null ? question.getDifficultyLevel().name() : "N/A",
-                    totalAnswers,
-                    correctAnswers,
-                    wrongAnswers
-            ));
+    /**
+     * Checks the chosen option against the compiled answer key of the attempt's quiz
+     * and returns the graded answer, so grading needs no database access.
+     */
+    private StudentAnswerDTO grade(CompiledAnswerKey answerKey, Long attemptId, Long questionId, Long answerOptionId) {
+        int optionIndex = answerKey.indexOf(answerOptionId);
+        if (optionIndex < 0) {
+            throw new QuizException("AnswerOption with ID " + answerOptionId + " does not belong to the quiz of attempt ID " + attemptId);
         }
-        return new QuizResultDTO(quizId, quiz.getTitle(), questionResults);
+        if (answerKey.questionIdAt(optionIndex) != questionId) {
+            throw new QuizException("Chosen AnswerOption with ID " + answerOptionId + " does not belong to Question ID " + questionId);
+        }
+        return new StudentAnswerDTO(null, attemptId, questionId, answerKey.questionTextAt(optionIndex),
+                answerOptionId, answerKey.optionTextAt(optionIndex), answerKey.isCorrectAt(optionIndex));
     }
-}
\ No newline at end of file
+}
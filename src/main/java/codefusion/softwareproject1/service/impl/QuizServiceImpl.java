@@ -1,16 +1,36 @@
 package codefusion.softwareproject1.service.impl;
 
 import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.QuestionRepo;
 import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.LeaderboardService;
 import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.cache.ETagged;
+import codefusion.softwareproject1.service.cache.ETags;
+import codefusion.softwareproject1.service.cache.QuizCache;
+import codefusion.softwareproject1.service.grading.AnswerKeyCache;
 import codefusion.softwareproject1.service.mapper.QuizMapper;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import codefusion.softwareproject1.service.search.QuizSearchEngine;
+import codefusion.softwareproject1.service.search.SearchTerms;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -23,44 +43,71 @@ import java.util.stream.Collectors;
 @Service
 public class QuizServiceImpl implements QuizService {
 
+    private static final String ALL_QUIZZES = "quizzes";
+    private static final String PUBLISHED_QUIZZES = "published-quizzes";
+    private static final String CATEGORY_QUIZZES = "category-quizzes";
+
     private final QuizRepo quizRepository;
+    private final QuestionRepo questionRepository;
     private final QuizMapper quizMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuizCache quizCache;
+    private final QuizSearchEngine searchEngine;
+    private final OutboxWriter outboxWriter;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate snapshotTransaction;
 
     @Autowired
-    public QuizServiceImpl(QuizRepo quizRepository, QuizMapper quizMapper) {
+    public QuizServiceImpl(QuizRepo quizRepository, QuestionRepo questionRepository, QuizMapper quizMapper,
+                           AnswerKeyCache answerKeyCache, QuizCache quizCache, QuizSearchEngine searchEngine,
+                           OutboxWriter outboxWriter, LeaderboardService leaderboardService,
+                           PlatformTransactionManager transactionManager) {
         this.quizRepository = quizRepository;
+        this.questionRepository = questionRepository;
         this.quizMapper = quizMapper;
+        this.answerKeyCache = answerKeyCache;
+        this.quizCache = quizCache;
+        this.searchEngine = searchEngine;
+        this.outboxWriter = outboxWriter;
+        this.leaderboardService = leaderboardService;
+        // Content and ETag fingerprint read in one snapshot, so the ETag describes exactly the body
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
     }
 
     @Override
     public List<QuizDTO> getAllQuizzes() {
-        return quizRepository.findAll().stream()
-                .map(quizMapper::toDto)
-                .collect(Collectors.toList());
+        return getAllQuizzesWithETag().body();
     }
 
     @Override
     public QuizDTO getQuizById(Long id) {
-        Quiz quiz = quizRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
-        
-        return quizMapper.toDto(quiz);
+        return getQuizWithETag(id).body();
     }
 
     @Override
+    @Transactional
     public QuizDTO createQuiz(QuizDTO quizDTO) {
         Quiz quiz = quizMapper.toEntity(quizDTO);
         quiz = quizRepository.save(quiz);
+        outboxWriter.append(new DomainEvent.QuizCreated(quiz.getId(), quiz.getTitle(), quiz.getCourseCode(), quiz.isPublished()));
+        quizCache.evictQuiz(quiz.getId());
+        searchEngine.quizChanged(quiz.getId());
         return quizMapper.toDto(quiz);
     }
 
     @Override
+    @Transactional
     public QuizDTO updateQuiz(Long id, QuizDTO quizDTO) {
         Quiz existingQuiz = quizRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
         
         quizMapper.updateEntityFromDto(quizDTO, existingQuiz);
         existingQuiz = quizRepository.save(existingQuiz);
+        outboxWriter.append(new DomainEvent.QuizUpdated(id, existingQuiz.getTitle(), existingQuiz.getCourseCode(), existingQuiz.isPublished()));
+        quizCache.evictQuiz(id);
+        searchEngine.quizChanged(id);
         
         return quizMapper.toDto(existingQuiz);
     }
@@ -73,44 +120,200 @@ public class QuizServiceImpl implements QuizService {
         }
         
         quizRepository.deleteById(id);
+        outboxWriter.append(new DomainEvent.QuizDeleted(id));
+        leaderboardService.removeQuiz(id);
+        answerKeyCache.invalidate(id);
+        quizCache.evictQuiz(id);
+        searchEngine.quizChanged(id);
     }
 
     @Override
     public List<QuizDTO> getPublishedQuizzes() {
-        return quizRepository.findByPublishedTrue().stream()
-                .map(quizMapper::toDto)
-                .collect(Collectors.toList());
+        return getPublishedQuizzesWithETag().body();
     }
 
     @Override
+    @Transactional
     public QuizDTO publishQuiz(Long id) {
         Quiz quiz = quizRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
         
         quiz.setPublished(true);
         quiz = quizRepository.save(quiz);
+        outboxWriter.append(new DomainEvent.QuizPublished(id));
+        answerKeyCache.compile(id);
+        quizCache.evictQuiz(id);
+        searchEngine.quizChanged(id);
         
         return quizMapper.toDto(quiz);
     }
 
     @Override
+    @Transactional
     public QuizDTO unpublishQuiz(Long id) {
         Quiz quiz = quizRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
         
         quiz.setPublished(false);
         quiz = quizRepository.save(quiz);
+        outboxWriter.append(new DomainEvent.QuizUnpublished(id));
+        answerKeyCache.invalidate(id);
+        quizCache.evictQuiz(id);
+        searchEngine.quizChanged(id);
         
         return quizMapper.toDto(quiz);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<QuizDTO> getPublishedQuizzesByCategoryId(Long categoryId) {
         // It's good practice to ensure the category itself exists, though the query might just return empty.
         // CategoryRepo would be needed for that, or rely on the query.
         // For now, directly query quizzes by categoryId and published status.
-        List<Quiz> quizzes = quizRepository.findByCategoryIdAndPublishedTrue(categoryId);
+        return getPublishedQuizzesByCategoryIdWithETag(categoryId).body();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizSummaryDTO> getQuizSummaries() {
+        return quizRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizSummaryDTO> getPublishedQuizSummaries() {
+        return quizRepository.findPublishedSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<QuizDTO> getQuizzesPage(String cursor, Integer size) {
+        int pageSize = KeysetPagination.pageSize(size);
+        List<Long> ids = quizRepository.findIdsAfter(KeysetPagination.decodeId(cursor), KeysetPagination.probe(pageSize));
+        return toQuizPage(ids, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<QuizDTO> getPublishedQuizzesPage(String cursor, Integer size) {
+        int pageSize = KeysetPagination.pageSize(size);
+        List<Long> ids = quizRepository.findPublishedIdsAfter(KeysetPagination.decodeId(cursor), KeysetPagination.probe(pageSize));
+        return toQuizPage(ids, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<QuizDTO> getPublishedQuizzesByCategoryIdPage(Long categoryId, String cursor, Integer size) {
+        int pageSize = KeysetPagination.pageSize(size);
+        List<Long> ids = quizRepository.findPublishedIdsByCategoryIdAfter(
+                categoryId, KeysetPagination.decodeId(cursor), KeysetPagination.probe(pageSize));
+        return toQuizPage(ids, pageSize);
+    }
+
+    @Override
+    public CursorPageDTO<QuizSearchResultDTO> searchQuizzes(String text, Long categoryId, boolean publishedOnly, String cursor, Integer size) {
+        // No transaction: the in-memory engine needs no connection and the database one is a single statement
+        List<String> terms = SearchTerms.parse(text);
+        int pageSize = KeysetPagination.pageSize(size);
+        List<QuizSearchResultDTO> results = searchEngine.search(
+                terms, categoryId, publishedOnly, KeysetPagination.decodeRankAndId(cursor), pageSize + 1);
+        return KeysetPagination.toPage(results, pageSize,
+                result -> KeysetPagination.encodeRankAndId(result.getRank(), result.getId()),
+                Function.identity());
+    }
+
+    @Override
+    public String getQuizETag(Long id) {
+        return quizCache.etag(QuizCache.QUIZ_ETAGS, id, () -> quizETag(id));
+    }
+
+    @Override
+    public String getAllQuizzesETag() {
+        return quizCache.etag(QuizCache.QUIZ_LIST_ETAGS, ALL_QUIZZES, this::allQuizzesETag);
+    }
+
+    @Override
+    public String getPublishedQuizzesETag() {
+        return quizCache.etag(QuizCache.QUIZ_LIST_ETAGS, PUBLISHED_QUIZZES, this::publishedQuizzesETag);
+    }
+
+    @Override
+    public String getPublishedQuizzesByCategoryIdETag(Long categoryId) {
+        return quizCache.etag(QuizCache.QUIZ_LIST_ETAGS, new SimpleKey(CATEGORY_QUIZZES, categoryId),
+                () -> categoryQuizzesETag(categoryId));
+    }
+
+    @Override
+    public ETagged<QuizDTO> getQuizWithETag(Long id) {
+        return quizCache.get(QuizCache.QUIZ_BY_ID, id, getQuizETag(id), () -> snapshot(() -> {
+            String etag = quizETag(id);
+            Quiz quiz = quizRepository.findWithQuestionsById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
+            questionRepository.fetchAnswerOptionsByQuizIds(List.of(id));
+            return new ETagged<>(etag, quizMapper.toDto(quiz));
+        }));
+    }
+
+    @Override
+    public ETagged<List<QuizDTO>> getAllQuizzesWithETag() {
+        // Not cached: the full list, unpublished quizzes included, is an authoring view
+        return snapshot(() -> new ETagged<>(allQuizzesETag(), toCatalogDtos(quizRepository.findAllWithQuestions())));
+    }
+
+    @Override
+    public ETagged<List<QuizDTO>> getPublishedQuizzesWithETag() {
+        return quizCache.get(QuizCache.PUBLISHED_QUIZZES, SimpleKey.EMPTY, getPublishedQuizzesETag(), () -> snapshot(() ->
+                new ETagged<>(publishedQuizzesETag(), toCatalogDtos(quizRepository.findPublishedWithQuestions()))));
+    }
+
+    @Override
+    public ETagged<List<QuizDTO>> getPublishedQuizzesByCategoryIdWithETag(Long categoryId) {
+        return quizCache.get(QuizCache.PUBLISHED_QUIZZES_BY_CATEGORY, categoryId, getPublishedQuizzesByCategoryIdETag(categoryId),
+                () -> snapshot(() -> new ETagged<>(categoryQuizzesETag(categoryId),
+                        toCatalogDtos(quizRepository.findPublishedWithQuestionsByCategoryId(categoryId)))));
+    }
+
+    private <T> ETagged<T> snapshot(Supplier<ETagged<T>> load) {
+        return snapshotTransaction.execute(status -> load.get());
+    }
+
+    private String quizETag(Long id) {
+        String fingerprint = quizRepository.findQuizFingerprint(id);
+        if (fingerprint == null) {
+            throw new ResourceNotFoundException("Quiz", "id", id);
+        }
+        return ETags.of("quiz", fingerprint);
+    }
+
+    private String allQuizzesETag() {
+        return ETags.of(ALL_QUIZZES, quizRepository.findAllQuizzesFingerprint());
+    }
+
+    private String publishedQuizzesETag() {
+        return ETags.of(PUBLISHED_QUIZZES, quizRepository.findPublishedQuizzesFingerprint());
+    }
+
+    private String categoryQuizzesETag(Long categoryId) {
+        return ETags.of(CATEGORY_QUIZZES, quizRepository.findPublishedQuizzesByCategoryFingerprint(categoryId));
+    }
+
+    private CursorPageDTO<QuizDTO> toQuizPage(List<Long> ids, int pageSize) {
+        return KeysetPagination.toPage(ids, pageSize, KeysetPagination::encodeId,
+                pageIds -> pageIds.isEmpty()
+                        ? List.of()
+                        : toCatalogDtos(quizRepository.findWithQuestionsByIdIn(pageIds)));
+    }
+
+    /**
+     * Maps quizzes loaded with their questions, loading every answer option
+     * of those questions in one extra query instead of one query per question.
+     * Must run inside the same transaction as the quiz query.
+     */
+    private List<QuizDTO> toCatalogDtos(List<Quiz> quizzes) {
+        if (!quizzes.isEmpty()) {
+            questionRepository.fetchAnswerOptionsByQuizIds(quizzes.stream()
+                    .map(Quiz::getId)
+                    .collect(Collectors.toList()));
+        }
         return quizzes.stream()
                 .map(quizMapper::toDto)
                 .collect(Collectors.toList());
@@ -0,0 +1,126 @@
+package codefusion.softwareproject1.service.impl;
+
+import codefusion.softwareproject1.dto.AnswerOptionStatisticsDTO;
+import codefusion.softwareproject1.dto.QuestionStatisticsDTO;
+import codefusion.softwareproject1.dto.QuizStatisticsDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.AnswerOptionStatistics;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.QuestionStatistics;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizStatistics;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.AnswerOptionStatisticsRepo;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.QuestionStatisticsRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.repo.QuizStatisticsRepo;
+import codefusion.softwareproject1.service.QuizStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class QuizStatisticsServiceImpl implements QuizStatisticsService {
+
+    private final QuizRepo quizRepo;
+    private final QuestionRepo questionRepo;
+    private final QuizStatisticsRepo quizStatisticsRepo;
+    private final QuestionStatisticsRepo questionStatisticsRepo;
+    private final AnswerOptionStatisticsRepo answerOptionStatisticsRepo;
+
+    @Autowired
+    public QuizStatisticsServiceImpl(QuizRepo quizRepo,
+                                     QuestionRepo questionRepo,
+                                     QuizStatisticsRepo quizStatisticsRepo,
+                                     QuestionStatisticsRepo questionStatisticsRepo,
+                                     AnswerOptionStatisticsRepo answerOptionStatisticsRepo) {
+        this.quizRepo = quizRepo;
+        this.questionRepo = questionRepo;
+        this.quizStatisticsRepo = quizStatisticsRepo;
+        this.questionStatisticsRepo = questionStatisticsRepo;
+        this.answerOptionStatisticsRepo = answerOptionStatisticsRepo;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public QuizStatisticsDTO getQuizStatistics(Long quizId) {
+        Quiz quiz = quizRepo.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", quizId));
+
+        QuizStatistics quizStatistics = quizStatisticsRepo.findById(quizId)
+                .orElseGet(() -> new QuizStatistics(quizId, 0, 0, 0));
+        Map<Long, QuestionStatistics> questionStatistics = questionStatisticsRepo.findByQuizId(quizId).stream()
+                .collect(Collectors.toMap(QuestionStatistics::getQuestionId, Function.identity()));
+        Map<Long, AnswerOptionStatistics> optionStatistics = answerOptionStatisticsRepo.findByQuizId(quizId).stream()
+                .collect(Collectors.toMap(AnswerOptionStatistics::getAnswerOptionId, Function.identity()));
+
+        List<QuestionStatisticsDTO> questions = questionRepo.fetchAnswerOptionsByQuizIds(List.of(quizId)).stream()
+                .sorted(Comparator.comparing(Question::getId))
+                .map(question -> toDto(question,
+                        questionStatistics.getOrDefault(question.getId(),
+                                new QuestionStatistics(question.getId(), quizId, 0, 0, 0, 0, 0, 0, 0, 0, 0)),
+                        optionStatistics))
+                .toList();
+
+        long completed = quizStatistics.getCompletedAttempts();
+        Double averageScore = completed > 0 ? quizStatistics.getScoreSum() / completed : null;
+        Double standardDeviation = completed > 0
+                ? standardDeviation(completed, quizStatistics.getScoreSum(), quizStatistics.getScoreSquareSum())
+                : null;
+        return new QuizStatisticsDTO(quizId, quiz.getTitle(), completed, averageScore, standardDeviation, questions);
+    }
+
+    private QuestionStatisticsDTO toDto(Question question, QuestionStatistics statistics,
+                                        Map<Long, AnswerOptionStatistics> optionStatistics) {
+        long answers = statistics.getAnswers();
+        List<AnswerOptionStatisticsDTO> options = question.getAnswerOptions().stream()
+                .sorted(Comparator.comparing(AnswerOption::getId))
+                .map(option -> {
+                    AnswerOptionStatistics chosen = optionStatistics.get(option.getId());
+                    long timesChosen = chosen != null ? chosen.getTimesChosen() : 0;
+                    return new AnswerOptionStatisticsDTO(option.getId(), option.getText(),
+                            Boolean.TRUE.equals(option.getIsCorrect()), timesChosen,
+                            answers > 0 ? (double) timesChosen / answers : null);
+                })
+                .toList();
+        return new QuestionStatisticsDTO(question.getId(), question.getQuestionText(),
+                answers, statistics.getCorrectAnswers(),
+                answers > 0 ? (double) statistics.getCorrectAnswers() / answers : null,
+                discrimination(statistics),
+                statistics.getTimedAnswers() > 0 ? (double) statistics.getTimeSumMillis() / statistics.getTimedAnswers() : null,
+                options);
+    }
+
+    /**
+     * Point-biserial correlation between answering the question correctly (x, 0 or 1)
+     * and the score of the attempt (y): cov(x, y) / (sd(x) * sd(y)), with
+     * cov(x, y) = E[xy] - p * E[y] and sd(x) = sqrt(p * (1 - p)).
+     * Undefined when everyone or no one answered correctly, or all scores are equal.
+     */
+    private static Double discrimination(QuestionStatistics statistics) {
+        long n = statistics.getScoredAnswers();
+        if (n < 2) {
+            return null;
+        }
+        double p = (double) statistics.getScoredCorrect() / n;
+        double scoreDeviation = standardDeviation(n, statistics.getScoreSum(), statistics.getScoreSquareSum());
+        if (p == 0 || p == 1 || scoreDeviation == 0) {
+            return null;
+        }
+        double covariance = statistics.getCorrectScoreSum() / n - p * statistics.getScoreSum() / n;
+        return covariance / (Math.sqrt(p * (1 - p)) * scoreDeviation);
+    }
+
+    private static double standardDeviation(long n, double sum, double squareSum) {
+        double mean = sum / n;
+        // Rounding can push the variance of equal values slightly below zero
+        return Math.sqrt(Math.max(0, squareSum / n - mean * mean));
+    }
+}
@@ -0,0 +1,347 @@
+package codefusion.softwareproject1.service.impl;
+
+import codefusion.softwareproject1.dto.QuestionDTO;
+import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizImportResultDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizTransferService;
+import codefusion.softwareproject1.service.cache.QuizCache;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import codefusion.softwareproject1.service.search.QuizSearchEngine;
+import codefusion.softwareproject1.service.validation.AnswerOptionValidator;
+import codefusion.softwareproject1.service.validation.QuizValidator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Implementation of QuizTransferService.
+ * Imports parse one line at a time, so a malformed line is reported without
+ * losing the lines after it, and write each chunk of quizzes with JDBC
+ * batches in one transaction, together with a QuizCreated outbox event per
+ * quiz. A chunk ends at chunk-size questions or chunk-size quizzes, so
+ * quizzes without questions do not pile up in one transaction. Exports page
+ * over quiz ids and write every page with a streaming JsonGenerator once its
+ * transaction has ended, so no connection is held while the client reads. The export endpoint is left out
+ * of open EntityManager in view (see WebConfig); should a caller still have
+ * an EntityManager bound, each written page is cleared from it.
+ */
+@Service
+public class QuizTransferServiceImpl implements QuizTransferService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizTransferServiceImpl.class);
+
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final int EXPORT_BATCH_SIZE = 100;
+
+    private final QuizRepo quizRepository;
+    private final QuestionRepo questionRepository;
+    private final CategoryRepo categoryRepository;
+    private final QuizValidator quizValidator;
+    private final AnswerOptionValidator answerOptionValidator;
+    private final QuizCache quizCache;
+    private final QuizSearchEngine searchEngine;
+    private final OutboxWriter outboxWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate readTransaction;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public QuizTransferServiceImpl(QuizRepo quizRepository,
+                                   QuestionRepo questionRepository,
+                                   CategoryRepo categoryRepository,
+                                   QuizValidator quizValidator,
+                                   AnswerOptionValidator answerOptionValidator,
+                                   QuizCache quizCache,
+                                   QuizSearchEngine searchEngine,
+                                   OutboxWriter outboxWriter,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${quiz.import.chunk-size:500}") int chunkSize) {
+        this.quizRepository = quizRepository;
+        this.questionRepository = questionRepository;
+        this.categoryRepository = categoryRepository;
+        this.quizValidator = quizValidator;
+        this.answerOptionValidator = answerOptionValidator;
+        this.quizCache = quizCache;
+        this.searchEngine = searchEngine;
+        this.outboxWriter = outboxWriter;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public QuizImportResultDTO importQuizzes(InputStream ndjson) throws IOException {
+        QuizImportResultDTO result = new QuizImportResultDTO();
+        ObjectReader quizReader = objectMapper.readerFor(QuizDTO.class);
+        Map<Long, Boolean> knownCategories = new HashMap<>();
+
+        Chunk chunk = new Chunk();
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                QuizDTO quiz;
+                try {
+                    quiz = parse(quizReader, line);
+                    validate(quiz, knownCategories);
+                } catch (JsonProcessingException e) {
+                    reject(result, 1, "line " + lineNumber + ": malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    reject(result, 1, "line " + lineNumber + ": " + e.getMessage());
+                    continue;
+                } catch (ResponseStatusException e) {
+                    reject(result, 1, "line " + lineNumber + ": " + e.getReason());
+                    continue;
+                }
+
+                chunk.add(quiz, lineNumber);
+                if (chunk.questions >= chunkSize || chunk.quizzes.size() >= chunkSize) {
+                    store(chunk, result);
+                    chunk = new Chunk();
+                }
+            }
+        }
+        store(chunk, result);
+
+        logger.info("Imported {} quizzes with {} questions, rejected {} lines",
+                result.getQuizzesImported(), result.getQuestionsImported(), result.getLinesRejected());
+        return result;
+    }
+
+    @Override
+    public void exportQuizzes(Long categoryId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null); // writeQuiz ends every line itself
+            Long afterId = 0L;
+            while (true) {
+                Long lastId = afterId;
+                List<Quiz> quizzes = readTransaction.execute(status -> loadExportBatch(categoryId, lastId));
+                if (quizzes.isEmpty()) {
+                    break;
+                }
+                for (Quiz quiz : quizzes) {
+                    writeQuiz(generator, quiz);
+                }
+                generator.flush();
+                afterId = quizzes.get(quizzes.size() - 1).getId();
+                releaseExportBatch();
+            }
+        }
+    }
+
+    // One JSON object per line; anything after it on the line is an error too
+    private static QuizDTO parse(ObjectReader quizReader, String line) throws IOException {
+        try (JsonParser parser = quizReader.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Each line must hold one quiz object");
+            }
+            QuizDTO quiz = quizReader.readValue(parser);
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Each line must hold one quiz object");
+            }
+            return quiz;
+        }
+    }
+
+    private void validate(QuizDTO quiz, Map<Long, Boolean> knownCategories) {
+        quizValidator.validateForImport(quiz);
+        if (quiz.getCategoryId() != null
+                && !knownCategories.computeIfAbsent(quiz.getCategoryId(), categoryRepository::existsById)) {
+            throw new IllegalArgumentException("Category not found with id: " + quiz.getCategoryId());
+        }
+        if (quiz.getQuestions() == null) {
+            return;
+        }
+        for (QuestionDTO question : quiz.getQuestions()) {
+            answerOptionValidator.validateOptionsOfNewQuestion(question.getAnswerOptions());
+            applyQuestionDefaults(question);
+        }
+    }
+
+    // Same defaults as QuestionMapper.toEntity
+    private static void applyQuestionDefaults(QuestionDTO question) {
+        if (question.getPoints() == null) {
+            question.setPoints(1);
+        }
+        String level = question.getDifficultyLevel();
+        if (level == null || "NORMAL".equalsIgnoreCase(level)) {
+            question.setDifficultyLevel(Question.DifficultyLevel.MEDIUM.name());
+        } else {
+            question.setDifficultyLevel(level.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private void store(Chunk chunk, QuizImportResultDTO result) {
+        if (chunk.quizzes.isEmpty()) {
+            return;
+        }
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                quizRepository.batchInsertQuizzes(chunk.quizzes);
+                for (QuizDTO quiz : chunk.quizzes) {
+                    outboxWriter.append(new DomainEvent.QuizCreated(quiz.getId(), quiz.getTitle(),
+                            quiz.getCourseCode(), quiz.isPublished()));
+                }
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Import of lines {}-{} failed: {}", chunk.firstLine, chunk.lastLine, e.getMessage());
+            reject(result, chunk.quizzes.size(), "lines " + chunk.firstLine + "-" + chunk.lastLine
+                    + ": not imported, the database rejected them: " + e.getMostSpecificCause().getMessage());
+            return;
+        }
+
+        result.setQuizzesImported(result.getQuizzesImported() + chunk.quizzes.size());
+        result.setQuestionsImported(result.getQuestionsImported() + chunk.questions);
+        result.setAnswerOptionsImported(result.getAnswerOptionsImported() + chunk.answerOptions);
+        quizCache.evictQuiz(null);
+        searchEngine.quizzesChanged(chunk.quizzes.stream().map(QuizDTO::getId).toList());
+    }
+
+    private static void reject(QuizImportResultDTO result, int lines, String error) {
+        result.setLinesRejected(result.getLinesRejected() + lines);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+
+    private List<Quiz> loadExportBatch(Long categoryId, Long afterId) {
+        PageRequest batch = PageRequest.of(0, EXPORT_BATCH_SIZE);
+        List<Long> ids = categoryId != null
+                ? quizRepository.findIdsByCategoryIdAfter(categoryId, afterId, batch)
+                : quizRepository.findIdsAfter(afterId, batch);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Quiz> quizzes = quizRepository.findWithQuestionsByIdIn(ids);
+        questionRepository.fetchAnswerOptionsByQuizIds(ids);
+        return quizzes;
+    }
+
+    // Only a bound EntityManager outside a transaction keeps the page; inside one the caller's changes must survive
+    private void releaseExportBatch() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.clear();
+        }
+    }
+
+    // The fields QuizDTO reads back on import; ids, timestamps and nulls are left out
+    private static void writeQuiz(JsonGenerator generator, Quiz quiz) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", quiz.getTitle());
+        writeOptionalString(generator, "description", quiz.getDescription());
+        writeOptionalString(generator, "courseCode", quiz.getCourseCode());
+        generator.writeBooleanField("published", quiz.isPublished());
+        if (quiz.getCategory() != null) {
+            generator.writeNumberField("categoryId", quiz.getCategory().getId());
+        }
+
+        generator.writeArrayFieldStart("questions");
+        List<Question> questions = new ArrayList<>(quiz.getQuestions() != null ? quiz.getQuestions() : List.of());
+        questions.sort(Comparator.comparing(Question::getId));
+        for (Question question : questions) {
+            generator.writeStartObject();
+            generator.writeStringField("questionText", question.getQuestionText());
+            if (question.getDifficultyLevel() != null) {
+                generator.writeStringField("difficultyLevel", question.getDifficultyLevel().name());
+            }
+            generator.writeNumberField("points", question.getPoints());
+
+            generator.writeArrayFieldStart("answerOptions");
+            List<AnswerOption> options = new ArrayList<>(question.getAnswerOptions() != null ? question.getAnswerOptions() : List.of());
+            options.sort(Comparator.comparing(AnswerOption::getId));
+            for (AnswerOption option : options) {
+                generator.writeStartObject();
+                generator.writeStringField("text", option.getText());
+                generator.writeBooleanField("isCorrect", Boolean.TRUE.equals(option.getIsCorrect()));
+                writeOptionalString(generator, "explanation", option.getExplanation());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeOptionalString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Parsed and validated quizzes waiting to be stored together.
+     */
+    private static final class Chunk {
+
+        private final List<QuizDTO> quizzes = new ArrayList<>();
+        private int questions;
+        private int answerOptions;
+        private int firstLine;
+        private int lastLine;
+
+        void add(QuizDTO quiz, int line) {
+            if (quizzes.isEmpty()) {
+                firstLine = line;
+            }
+            lastLine = line;
+            quizzes.add(quiz);
+            if (quiz.getQuestions() != null) {
+                questions += quiz.getQuestions().size();
+                for (QuestionDTO question : quiz.getQuestions()) {
+                    answerOptions += question.getAnswerOptions() != null ? question.getAnswerOptions().size() : 0;
+                }
+            }
+        }
+    }
+}
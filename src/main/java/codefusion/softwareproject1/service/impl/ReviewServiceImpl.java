@@ -1,20 +1,30 @@
 package codefusion.softwareproject1.service.impl;
 
 import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import codefusion.softwareproject1.dto.RatingSummaryDTO;
 import codefusion.softwareproject1.dto.ReviewDTO;
 import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizRatingSummary;
 import codefusion.softwareproject1.entity.Review;
 import codefusion.softwareproject1.exception.ResourceNotFoundException;
 import codefusion.softwareproject1.exception.UnauthorizedActionException;
+import codefusion.softwareproject1.repo.QuizRatingSummaryRepo;
 import codefusion.softwareproject1.repo.QuizRepo;
 import codefusion.softwareproject1.repo.ReviewRepo;
 import codefusion.softwareproject1.service.ReviewService;
 import codefusion.softwareproject1.service.mapper.ReviewMapper;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,15 +32,23 @@ import java.util.stream.Collectors;
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
     private final ReviewRepo reviewRepository;
     private final QuizRepo quizRepository;     // Ensure this is injected if needed (e.g. for quiz.isPublished check)
+    private final QuizRatingSummaryRepo ratingSummaryRepository;
     private final ReviewMapper reviewMapper;
+    private final OutboxWriter outboxWriter;
 
     @Autowired
-    public ReviewServiceImpl(ReviewRepo reviewRepository, QuizRepo quizRepository, ReviewMapper reviewMapper) {
+    public ReviewServiceImpl(ReviewRepo reviewRepository, QuizRepo quizRepository,
+                             QuizRatingSummaryRepo ratingSummaryRepository, ReviewMapper reviewMapper,
+                             OutboxWriter outboxWriter) {
         this.reviewRepository = reviewRepository;
         this.quizRepository = quizRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
         this.reviewMapper = reviewMapper;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -45,6 +63,8 @@ public class ReviewServiceImpl implements ReviewService {
 
         Review review = reviewMapper.createDtoToEntity(createReviewDTO); // Call to mapper
         Review savedReview = reviewRepository.save(review); // Call to repository
+        applyRating(quiz.getId(), savedReview.getRating(), 1);
+        outboxWriter.append(new DomainEvent.ReviewCreated(savedReview.getId(), quiz.getId(), savedReview.getRating()));
         return reviewMapper.toDto(savedReview); // Call to mapper
     }
 
@@ -58,6 +78,23 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(reviewMapper::toDto) // Method reference for mapper
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewDTO> getReviewsPageByQuizId(Long quizId, String cursor, Integer size) {
+        if (!quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", "id", quizId);
+        }
+        int pageSize = KeysetPagination.pageSize(size);
+        KeysetPagination.CreatedAtCursor after = KeysetPagination.decodeCreatedAtAndId(cursor);
+        List<Review> reviews = after == null
+                ? reviewRepository.findFirstPageByQuizId(quizId, KeysetPagination.probe(pageSize))
+                : reviewRepository.findPageByQuizIdBefore(quizId, after.getCreatedAt(), after.getId(), KeysetPagination.probe(pageSize));
+
+        return KeysetPagination.toPage(reviews, pageSize,
+                review -> KeysetPagination.encodeCreatedAtAndId(review.getCreatedAt(), review.getId()),
+                page -> page.stream().map(reviewMapper::toDto).collect(Collectors.toList()));
+    }
     
     @Override
     @Transactional(readOnly = true)
@@ -70,19 +107,37 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(reviewMapper::toDto) // Method reference for mapper
                 .collect(Collectors.toList());
 
-        double averageRating = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+        RatingSummaryDTO summary = toSummaryDto(quizId, ratingSummaryRepository.findById(quizId).orElse(null));
         
         Map<String, Object> response = new HashMap<>();
         response.put("reviews", reviewDTOs);
-        response.put("totalReviews", reviewDTOs.size());
-        response.put("averageRating", Math.round(averageRating * 10.0) / 10.0);
+        response.put("totalReviews", summary.getTotalReviews());
+        response.put("averageRating", summary.getAverageRating());
         
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RatingSummaryDTO getRatingSummaryByQuizId(Long quizId) {
+        if (!quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", "id", quizId);
+        }
+        return toSummaryDto(quizId, ratingSummaryRepository.findById(quizId).orElse(null));
+    }
+
+    @Override
+    @Transactional
+    public int reconcileRatingSummaries() {
+        ratingSummaryRepository.insertMissingSummaries();
+        ratingSummaryRepository.lockAllSummaries();
+        int corrected = ratingSummaryRepository.updateDriftedSummaries();
+        if (corrected > 0) {
+            logger.warn("Rating summaries of {} quizzes drifted from their reviews, corrected them", corrected);
+        }
+        return corrected;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ReviewDTO getReviewById(Long reviewId) {
@@ -102,8 +157,15 @@ public class ReviewServiceImpl implements ReviewService {
             throw new UnauthorizedActionException("Cannot edit a review for a quiz that is no longer published.");
         }
 
+        Integer previousRating = review.getRating();
         reviewMapper.updateEntityFromCreateDto(createReviewDTO, review); // Call to mapper
         Review updatedReview = reviewRepository.save(review); // Call to repository
+        if (!updatedReview.getRating().equals(previousRating)) {
+            applyRating(updatedReview.getQuiz().getId(), previousRating, -1);
+            applyRating(updatedReview.getQuiz().getId(), updatedReview.getRating(), 1);
+        }
+        outboxWriter.append(new DomainEvent.ReviewUpdated(reviewId, updatedReview.getQuiz().getId(),
+                updatedReview.getRating(), previousRating));
         return reviewMapper.toDto(updatedReview); // Call to mapper
     }
 
@@ -115,5 +177,32 @@ public class ReviewServiceImpl implements ReviewService {
         
         
         reviewRepository.delete(review); // Call to repository
+        applyRating(review.getQuiz().getId(), review.getRating(), -1);
+        outboxWriter.append(new DomainEvent.ReviewDeleted(reviewId, review.getQuiz().getId(), review.getRating()));
+    }
+
+    private void applyRating(Long quizId, Integer rating, int delta) {
+        if (rating == null) {
+            return;
+        }
+        // First review of the quiz, or a quiz reviewed before summaries existed; when a concurrent review
+        // creates the row first the insert is a no-op and the rating is applied to that row.
+        // Reconciliation folds in older reviews
+        if (ratingSummaryRepository.applyRating(quizId, rating, delta) == 0 && delta > 0
+                && ratingSummaryRepository.insertIfAbsent(quizId, rating) == 0) {
+            ratingSummaryRepository.applyRating(quizId, rating, delta);
+        }
+    }
+
+    private RatingSummaryDTO toSummaryDto(Long quizId, QuizRatingSummary summary) {
+        long[] histogram = summary != null ? summary.getHistogram() : new long[6];
+        long totalReviews = summary != null ? summary.getReviewCount() : 0;
+        double averageRating = totalReviews > 0 ? (double) summary.getRatingSum() / totalReviews : 0.0;
+
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int stars = 1; stars <= 5; stars++) {
+            distribution.put(stars, histogram[stars]);
+        }
+        return new RatingSummaryDTO(quizId, totalReviews, Math.round(averageRating * 10.0) / 10.0, distribution);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package codefusion.softwareproject1.service.impl;
 
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
 import codefusion.softwareproject1.dto.TeacherDTO;
 import codefusion.softwareproject1.entity.Teacher;
@@ -9,6 +10,7 @@ import codefusion.softwareproject1.repo.TeacherRepo;
 import codefusion.softwareproject1.service.TeacherService;
 import codefusion.softwareproject1.service.mapper.QuizMapper;
 import codefusion.softwareproject1.service.mapper.TeacherMapper;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,6 +59,17 @@ public class TeacherServiceImpl implements TeacherService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TeacherDTO> getTeachersPage(String cursor, Integer size) {
+        int pageSize = KeysetPagination.pageSize(size);
+        List<Teacher> teachers = teacherRepository.findByIdGreaterThanOrderByIdAsc(
+                KeysetPagination.decodeId(cursor), KeysetPagination.probe(pageSize));
+        return KeysetPagination.toPage(teachers, pageSize,
+                teacher -> KeysetPagination.encodeId(teacher.getId()),
+                page -> page.stream().map(teacherMapper::toDto).collect(Collectors.toList()));
+    }
+    
     @Override
     @Transactional
     public TeacherDTO createTeacher(TeacherDTO teacherDTO) {
@@ -0,0 +1,43 @@
+package codefusion.softwareproject1.service.job;
+
+import codefusion.softwareproject1.service.LeaderboardService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the leaderboards changed since the last run, and once more on
+ * shutdown, so a restart only replays the attempts completed in between.
+ */
+@Component
+public class LeaderboardSnapshotJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardSnapshotJob.class);
+
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardSnapshotJob(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.snapshot-interval:PT5M}")
+    public void snapshot() {
+        try {
+            int saved = leaderboardService.saveSnapshots();
+            if (saved > 0) {
+                logger.debug("Saved {} leaderboard snapshots", saved);
+            }
+        } catch (Exception e) {
+            logger.error("Leaderboard snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+}
@@ -0,0 +1,49 @@
+package codefusion.softwareproject1.service.job;
+
+import codefusion.softwareproject1.service.QuestionResultCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the question result counters from the StudentAnswer history
+ * on a nightly schedule to repair any drift. The V9 migration counts the
+ * answers that predate the counters; a rebuild at startup is opt-in, as it
+ * holds every counter row lock, and so blocks answer submissions, while it runs.
+ */
+@Component
+public class QuestionResultCounterRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionResultCounterRebuildJob.class);
+
+    private final QuestionResultCounterService counterService;
+    private final boolean rebuildOnStartup;
+
+    @Autowired
+    public QuestionResultCounterRebuildJob(QuestionResultCounterService counterService,
+                                           @Value("${quiz.results.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.counterService = counterService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${quiz.results.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        try {
+            counterService.rebuildAllCounters();
+        } catch (Exception e) {
+            logger.error("Rebuilding question result counters failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package codefusion.softwareproject1.service.job;
+
+import codefusion.softwareproject1.service.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks the incrementally maintained rating summaries against the reviews
+ * and corrects any that drifted. Runs once at startup, which also backfills
+ * quizzes reviewed before summaries existed, and then nightly.
+ */
+@Component
+public class RatingSummaryConsistencyJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingSummaryConsistencyJob.class);
+
+    private final ReviewService reviewService;
+    private final boolean checkOnStartup;
+
+    @Autowired
+    public RatingSummaryConsistencyJob(ReviewService reviewService,
+                                       @Value("${quiz.reviews.reconcile-on-startup:true}") boolean checkOnStartup) {
+        this.reviewService = reviewService;
+        this.checkOnStartup = checkOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        if (checkOnStartup) {
+            check();
+        }
+    }
+
+    @Scheduled(cron = "${quiz.reviews.reconcile-cron:0 30 3 * * *}")
+    public void check() {
+        try {
+            int corrected = reviewService.reconcileRatingSummaries();
+            logger.info("Rating summary consistency check corrected {} quizzes", corrected);
+        } catch (Exception e) {
+            logger.error("Rating summary consistency check failed: {}", e.getMessage());
+        }
+    }
+}
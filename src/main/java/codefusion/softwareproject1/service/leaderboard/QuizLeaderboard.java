@@ -0,0 +1,108 @@
+package codefusion.softwareproject1.service.leaderboard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Leaderboard of one quiz: the best attempts, bounded to a fixed capacity, and
+ * the number of completed attempts per score. The score counts make the rank of
+ * any attempt, in the top entries or not, a sum over the distinct higher scores.
+ * Writers are serialized; readers see the skip lists without locking.
+ */
+public class QuizLeaderboard {
+
+    /**
+     * Best score first; ties go to the earlier completion, then the lower attempt id.
+     */
+    public static final Comparator<Entry> ORDER = Comparator.comparing(Entry::score, Comparator.reverseOrder())
+            .thenComparing(Entry::completedAt)
+            .thenComparingLong(Entry::attemptId);
+
+    private final long quizId;
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> topEntries = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentSkipListMap<Float, Long> scoreCounts = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    public QuizLeaderboard(long quizId, int capacity) {
+        this.quizId = quizId;
+        this.capacity = capacity;
+    }
+
+    public long getQuizId() {
+        return quizId;
+    }
+
+    /**
+     * Counts a completed attempt and keeps it if it ranks among the best entries.
+     */
+    public synchronized void add(Entry entry) {
+        scoreCounts.merge(entry.score(), 1L, Long::sum);
+        offer(entry);
+    }
+
+    /**
+     * Restores a snapshot: the best entries and the score counts they were taken with.
+     */
+    public synchronized void restore(List<Entry> entries, Map<Float, Long> counts) {
+        scoreCounts.putAll(counts);
+        entries.forEach(this::offer);
+    }
+
+    private void offer(Entry entry) {
+        topEntries.add(entry);
+        if (topEntries.size() > capacity) {
+            topEntries.pollLast();
+        }
+    }
+
+    /**
+     * Best entries first, at most limit of them.
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(Math.min(limit, capacity));
+        for (Entry entry : topEntries) {
+            if (entries.size() == limit) {
+                break;
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Competition rank of a score: one more than the number of attempts that scored higher.
+     */
+    public long rankOf(float score) {
+        long higher = 0;
+        for (long count : scoreCounts.headMap(score, false).values()) {
+            higher += count;
+        }
+        return higher + 1;
+    }
+
+    public long attemptCount() {
+        long total = 0;
+        for (long count : scoreCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Consistent copy of the board for persisting.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(List.copyOf(topEntries), Map.copyOf(scoreCounts));
+    }
+
+    public record Entry(long attemptId, float score, LocalDateTime completedAt) {
+    }
+
+    public record Snapshot(List<Entry> entries, Map<Float, Long> scoreCounts) {
+    }
+}
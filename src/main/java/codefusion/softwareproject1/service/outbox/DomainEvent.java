@@ -0,0 +1,74 @@
+package codefusion.softwareproject1.service.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain events the services record in the transactional outbox. The record's
+ * simple name is stored as the event type and its fields as the JSON payload.
+ */
+public sealed interface DomainEvent {
+
+    String QUIZ = "Quiz";
+    String REVIEW = "Review";
+    String QUIZ_ATTEMPT = "QuizAttempt";
+
+    String aggregateType();
+
+    long aggregateId();
+
+    record QuizCreated(long quizId, String title, String courseCode, boolean published) implements DomainEvent {
+        public String aggregateType() { return QUIZ; }
+        public long aggregateId() { return quizId; }
+    }
+
+    record QuizUpdated(long quizId, String title, String courseCode, boolean published) implements DomainEvent {
+        public String aggregateType() { return QUIZ; }
+        public long aggregateId() { return quizId; }
+    }
+
+    record QuizPublished(long quizId) implements DomainEvent {
+        public String aggregateType() { return QUIZ; }
+        public long aggregateId() { return quizId; }
+    }
+
+    record QuizUnpublished(long quizId) implements DomainEvent {
+        public String aggregateType() { return QUIZ; }
+        public long aggregateId() { return quizId; }
+    }
+
+    record QuizDeleted(long quizId) implements DomainEvent {
+        public String aggregateType() { return QUIZ; }
+        public long aggregateId() { return quizId; }
+    }
+
+    record ReviewCreated(long reviewId, long quizId, Integer rating) implements DomainEvent {
+        public String aggregateType() { return REVIEW; }
+        public long aggregateId() { return reviewId; }
+    }
+
+    /**
+     * @param previousRating the rating before the update, so consumers can adjust aggregates
+     */
+    record ReviewUpdated(long reviewId, long quizId, Integer rating, Integer previousRating) implements DomainEvent {
+        public String aggregateType() { return REVIEW; }
+        public long aggregateId() { return reviewId; }
+    }
+
+    record ReviewDeleted(long reviewId, long quizId, Integer rating) implements DomainEvent {
+        public String aggregateType() { return REVIEW; }
+        public long aggregateId() { return reviewId; }
+    }
+
+    record AttemptStarted(long attemptId, long quizId) implements DomainEvent {
+        public String aggregateType() { return QUIZ_ATTEMPT; }
+        public long aggregateId() { return attemptId; }
+    }
+
+    /**
+     * @param score percentage of the possible points
+     */
+    record AttemptCompleted(long attemptId, long quizId, float score, LocalDateTime completedAt) implements DomainEvent {
+        public String aggregateType() { return QUIZ_ATTEMPT; }
+        public long aggregateId() { return attemptId; }
+    }
+}
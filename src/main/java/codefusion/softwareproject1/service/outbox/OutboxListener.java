@@ -0,0 +1,16 @@
+package codefusion.softwareproject1.service.outbox;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * In-process consumer of outbox events; every bean implementing it is called
+ * by OutboxRelay with each batch, in id order. Runs inside the relay's
+ * transaction: throwing rolls the batch back and it is delivered again on the
+ * next poll, so handling must be idempotent.
+ */
+public interface OutboxListener {
+
+    void onEvents(List<OutboxEvent> events);
+}
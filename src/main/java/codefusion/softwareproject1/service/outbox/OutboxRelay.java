@@ -0,0 +1,206 @@
+package codefusion.softwareproject1.service.outbox;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.repo.OutboxEventRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox: every poll-interval it takes the oldest batch-size events,
+ * hands them to the OutboxListener beans and the OutboxSink, if there is one,
+ * and deletes them, all in one transaction, repeating until the outbox is empty.
+ * Without any listener or sink the relay leaves the events in place, so none is
+ * deleted before a consumer has seen it.
+ * <p>
+ * A failing batch is rolled back and each of its events counts a failed attempt.
+ * The relay then holds back for retry-backoff, doubled with every attempt up to
+ * max-retry-backoff, and retries those events one at a time, so an event that
+ * keeps failing is dead-lettered after max-attempts without dragging the rest of
+ * its batch along. Dead-lettered events stay in the table and are skipped.
+ * Delivery is at least once and, dead-lettered events aside, in id order per
+ * node. Batches are locked with SKIP LOCKED, so relays on several nodes can
+ * drain the same table, at the cost of that order across nodes.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final List<OutboxListener> listeners;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Counter delivered;
+    private final Counter failedBatches;
+    private final Counter deadLettered;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepo outboxEventRepo,
+                       ObjectProvider<OutboxListener> listeners,
+                       ObjectProvider<OutboxSink> sink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${quiz.outbox.enabled:true}") boolean enabled,
+                       @Value("${quiz.outbox.batch-size:200}") int batchSize,
+                       @Value("${quiz.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${quiz.outbox.retry-backoff:PT1S}") Duration retryBackoff,
+                       @Value("${quiz.outbox.max-retry-backoff:PT10M}") Duration maxRetryBackoff) {
+        this.outboxEventRepo = outboxEventRepo;
+        this.listeners = listeners.orderedStream().toList();
+        this.sink = sink.getIfAvailable();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.delivered = Counter.builder("quiz.outbox.events.delivered")
+                .description("Outbox events handed to the listeners and the sink")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("quiz.outbox.batches.failed")
+                .description("Outbox batches rolled back to be retried")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("quiz.outbox.events.dead_lettered")
+                .description("Outbox events given up on after max-attempts failed deliveries")
+                .register(meterRegistry);
+        if (enabled && !hasConsumers()) {
+            logger.warn("No OutboxListener or OutboxSink is configured, outbox events are kept until one is");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int events = drain();
+            if (events > 0) {
+                logger.debug("Relayed {} outbox events", events);
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay failed, the batch is retried after a backoff", e);
+        }
+    }
+
+    /**
+     * Delivers batches until the outbox is drained or its oldest event is
+     * waiting out a retry backoff. A failed batch has its attempt recorded
+     * before the exception is rethrown.
+     *
+     * @return the number of events delivered
+     */
+    public int drain() {
+        if (!hasConsumers()) {
+            return 0;
+        }
+        int total = 0;
+        while (true) {
+            List<OutboxEvent> attempted = new ArrayList<>();
+            Relayed relayed;
+            try {
+                relayed = transactionTemplate.execute(status -> relayBatch(attempted));
+            } catch (RuntimeException e) {
+                failedBatches.increment();
+                recordFailedAttempt(attempted, e);
+                throw e;
+            }
+            total += relayed.events();
+            if (!relayed.more()) {
+                return total;
+            }
+        }
+    }
+
+    private Relayed relayBatch(List<OutboxEvent> attempted) {
+        List<OutboxEvent> batch = outboxEventRepo.findNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new Relayed(0, false);
+        }
+        OutboxEvent head = batch.get(0);
+        if (head.getNextAttemptAt() != null && head.getNextAttemptAt().isAfter(LocalDateTime.now())) {
+            // Backing off; the events behind it wait too, to keep their order
+            return new Relayed(0, false);
+        }
+        // An event that failed before is retried on its own, fresh ones together up to the next retried one
+        List<OutboxEvent> events = head.getAttempts() > 0
+                ? batch.subList(0, 1)
+                : batch.stream().takeWhile(event -> event.getAttempts() == 0).toList();
+        attempted.addAll(events);
+
+        for (OutboxListener listener : listeners) {
+            listener.onEvents(events);
+        }
+        if (sink != null) {
+            try {
+                sink.send(events);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink rejected " + events.size() + " events", e);
+            }
+        }
+        outboxEventRepo.deleteByIdIn(events.stream().map(OutboxEvent::getId).toList());
+        delivered.increment(events.size());
+        return new Relayed(events.size(), events.size() < batch.size() || batch.size() == batchSize);
+    }
+
+    private void recordFailedAttempt(List<OutboxEvent> attempted, RuntimeException failure) {
+        if (attempted.isEmpty()) {
+            return;
+        }
+        List<Long> ids = attempted.stream().map(OutboxEvent::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextAttemptAt = now.plus(backoffAfter(attempted.get(0).getAttempts() + 1));
+        String error = NestedExceptionUtils.getMostSpecificCause(failure).toString();
+        try {
+            Integer dead = transactionTemplate.execute(status -> {
+                outboxEventRepo.recordFailedAttempt(ids, nextAttemptAt, error);
+                return outboxEventRepo.deadLetter(ids, maxAttempts, now);
+            });
+            if (dead > 0) {
+                deadLettered.increment(dead);
+                logger.error("Dead-lettered {} of outbox events {} after {} failed deliveries",
+                        dead, ids, maxAttempts, failure);
+            }
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private Duration backoffAfter(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private boolean hasConsumers() {
+        return !listeners.isEmpty() || sink != null;
+    }
+
+    /**
+     * Events delivered by one batch, and whether more may be waiting behind them.
+     */
+    private record Relayed(int events, boolean more) {
+    }
+}
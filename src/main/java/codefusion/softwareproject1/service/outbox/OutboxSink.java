@@ -0,0 +1,17 @@
+package codefusion.softwareproject1.service.outbox;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Optional destination outside the application, such as a message broker, that
+ * OutboxRelay forwards each batch to after the in-process listeners. At most one
+ * bean may implement it. A batch is only removed from the outbox once send has
+ * returned, so an implementation must block until the destination has accepted
+ * it, and throw otherwise; delivery is at least once.
+ */
+public interface OutboxSink {
+
+    void send(List<OutboxEvent> events) throws Exception;
+}
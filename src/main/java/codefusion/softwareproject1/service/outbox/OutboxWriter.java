@@ -0,0 +1,47 @@
+package codefusion.softwareproject1.service.outbox;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.repo.OutboxEventRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records domain events in the outbox table. Requires the transaction of the
+ * entity change, so the event is stored if and only if the change commits;
+ * consumers hear of it through OutboxRelay, never from the writing thread.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxWriter(OutboxEventRepo outboxEventRepo, ObjectMapper objectMapper) {
+        this.outboxEventRepo = outboxEventRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queues the event for insert with the rest of the transaction's writes.
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), e);
+        }
+        outboxEventRepo.save(new OutboxEvent(null, event.aggregateType(), event.aggregateId(),
+                event.getClass().getSimpleName(), payload, LocalDateTime.now(), 0, null, null, null));
+    }
+}
@@ -0,0 +1,69 @@
+package codefusion.softwareproject1.service.outbox;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Posts each outbox batch as a JSON array to quiz.outbox.sink.url, for instance
+ * a message broker's HTTP bridge. Active only when that property is set. The
+ * batch counts as accepted on any 2xx response; anything else, or no response
+ * within the timeout, throws, so the relay retries it.
+ */
+@Component
+@ConditionalOnProperty("quiz.outbox.sink.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final URI url;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public WebhookOutboxSink(RestClient.Builder restClientBuilder,
+                             ObjectMapper objectMapper,
+                             @Value("${quiz.outbox.sink.url}") URI url,
+                             @Value("${quiz.outbox.sink.timeout:PT10S}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.url = url;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void send(List<OutboxEvent> events) throws JsonProcessingException {
+        List<Message> messages = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            messages.add(new Message(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                    event.getEventType(), event.getCreatedAt(), objectMapper.readTree(event.getPayload())));
+        }
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(messages)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    /**
+     * One event as posted; the id lets the receiver drop redeliveries.
+     */
+    record Message(long id, String aggregateType, long aggregateId, String eventType,
+                   LocalDateTime createdAt, JsonNode payload) {
+    }
+}
@@ -0,0 +1,197 @@
+package codefusion.softwareproject1.service.pagination;
+
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset (cursor) pagination.
+ * Cursors are opaque URL-safe tokens encoding the sort key of the last item
+ * of the previous page, so each page is an indexed range scan instead of an
+ * ever-growing OFFSET.
+ */
+public final class KeysetPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String ID_PREFIX = "id:";
+    private static final String CREATED_AT_PREFIX = "ts:";
+    private static final String RANK_PREFIX = "rk:";
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Clamps the requested page size to [1, MAX_PAGE_SIZE], using DEFAULT_PAGE_SIZE when absent.
+     */
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Fetches one row more than the page size so we know whether another page exists.
+     */
+    public static Pageable probe(int pageSize) {
+        return PageRequest.ofSize(pageSize + 1);
+    }
+
+    /**
+     * Trims the probe row and builds the page, deriving the next cursor from the last item.
+     */
+    public static <R, T> CursorPageDTO<T> toPage(List<R> rows, int pageSize,
+                                                 Function<R, String> cursorOf, Function<List<R>, List<T>> mapper) {
+        boolean hasMore = rows.size() > pageSize;
+        List<R> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPageDTO<>(mapper.apply(pageRows), nextCursor, hasMore);
+    }
+
+    public static String encodeId(Long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    /**
+     * Decodes an id cursor. A missing cursor means "start from the beginning".
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String value = decode(cursor, ID_PREFIX);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static String encodeCreatedAtAndId(LocalDateTime createdAt, Long id) {
+        return encode(CREATED_AT_PREFIX + createdAt + "|" + id);
+    }
+
+    /**
+     * Decodes a (createdAt, id) cursor, or returns null when no cursor was given.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static CreatedAtCursor decodeCreatedAtAndId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value = decode(cursor, CREATED_AT_PREFIX);
+        int separator = value.lastIndexOf('|');
+        if (separator < 0) {
+            throw invalidCursor();
+        }
+        try {
+            return new CreatedAtCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static String encodeRankAndId(float rank, Long id) {
+        return encode(RANK_PREFIX + rank + "|" + id);
+    }
+
+    /**
+     * Decodes a (rank, id) cursor of a ranked search, or returns null when no cursor was given.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static RankCursor decodeRankAndId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value = decode(cursor, RANK_PREFIX);
+        int separator = value.lastIndexOf('|');
+        if (separator < 0) {
+            throw invalidCursor();
+        }
+        try {
+            return new RankCursor(
+                    Float.parseFloat(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor, String expectedPrefix) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+        if (!raw.startsWith(expectedPrefix)) {
+            throw invalidCursor();
+        }
+        return raw.substring(expectedPrefix.length());
+    }
+
+    private static IllegalArgumentException invalidCursor() {
+        return new IllegalArgumentException("Invalid page cursor");
+    }
+
+    /**
+     * Decoded position for listings ordered by createdAt desc, id desc.
+     */
+    public static final class CreatedAtCursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        public CreatedAtCursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    /**
+     * Decoded position for search results ordered by rank desc, id asc.
+     */
+    public static final class RankCursor {
+        private final float rank;
+        private final Long id;
+
+        public RankCursor(float rank, Long id) {
+            this.rank = rank;
+            this.id = id;
+        }
+
+        public float getRank() {
+            return rank;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
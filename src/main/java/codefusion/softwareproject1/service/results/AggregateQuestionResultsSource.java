@@ -0,0 +1,56 @@
+package codefusion.softwareproject1.service.results;
+
+import codefusion.softwareproject1.dto.QuestionAnswerCountDTO;
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lets the database group the quiz's answers by question, so only one row per
+ * answered question crosses the wire instead of every StudentAnswer entity.
+ */
+@Component
+@ConditionalOnProperty(name = QuestionResultsSource.STRATEGY_PROPERTY, havingValue = "sql")
+public class AggregateQuestionResultsSource implements QuestionResultsSource {
+
+    private final QuestionRepo questionRepository;
+    private final StudentAnswerRepo studentAnswerRepository;
+
+    @Autowired
+    public AggregateQuestionResultsSource(QuestionRepo questionRepository, StudentAnswerRepo studentAnswerRepository) {
+        this.questionRepository = questionRepository;
+        this.studentAnswerRepository = studentAnswerRepository;
+    }
+
+    @Override
+    public List<QuestionResultDTO> loadResults(Long quizId) {
+        Map<Long, QuestionAnswerCountDTO> countsByQuestionId = studentAnswerRepository.countAnswersByQuestionForQuiz(quizId).stream()
+                .collect(Collectors.toMap(QuestionAnswerCountDTO::getQuestionId, Function.identity()));
+
+        return questionRepository.findByQuizId(quizId).stream()
+                .sorted(Comparator.comparing(Question::getId))
+                .map(question -> {
+                    QuestionAnswerCountDTO counts = countsByQuestionId.get(question.getId());
+                    long totalAnswers = counts != null ? counts.getTotalAnswers() : 0;
+                    long correctAnswers = counts != null ? counts.getCorrectAnswers() : 0;
+                    return new QuestionResultDTO(
+                            question.getId(),
+                            question.getQuestionText(),
+                            question.getDifficultyLevel() != null ? question.getDifficultyLevel().name() : "N/A",
+                            totalAnswers,
+                            correctAnswers,
+                            totalAnswers - correctAnswers);
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,30 @@
+package codefusion.softwareproject1.service.results;
+
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.repo.QuestionResultCounterRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reads the incrementally maintained question result counters: one indexed
+ * read regardless of how many answers were submitted.
+ */
+@Component
+@ConditionalOnProperty(name = QuestionResultsSource.STRATEGY_PROPERTY, havingValue = "counters", matchIfMissing = true)
+public class CounterQuestionResultsSource implements QuestionResultsSource {
+
+    private final QuestionResultCounterRepo counterRepository;
+
+    @Autowired
+    public CounterQuestionResultsSource(QuestionResultCounterRepo counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    @Override
+    public List<QuestionResultDTO> loadResults(Long quizId) {
+        return counterRepository.findResultsByQuizId(quizId);
+    }
+}
@@ -0,0 +1,70 @@
+package codefusion.softwareproject1.service.results;
+
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Original results path: loads every StudentAnswer of the quiz's questions and
+ * groups them in Java. Kept selectable as a baseline for comparison.
+ */
+@Component
+@ConditionalOnProperty(name = QuestionResultsSource.STRATEGY_PROPERTY, havingValue = "java")
+public class InMemoryQuestionResultsSource implements QuestionResultsSource {
+
+    private final QuestionRepo questionRepository;
+    private final StudentAnswerRepo studentAnswerRepository;
+
+    @Autowired
+    public InMemoryQuestionResultsSource(QuestionRepo questionRepository, StudentAnswerRepo studentAnswerRepository) {
+        this.questionRepository = questionRepository;
+        this.studentAnswerRepository = studentAnswerRepository;
+    }
+
+    @Override
+    public List<QuestionResultDTO> loadResults(Long quizId) {
+        List<Question> questionsInQuiz = new ArrayList<>(questionRepository.findByQuizId(quizId));
+        if (questionsInQuiz.isEmpty()) {
+            return new ArrayList<>();
+        }
+        questionsInQuiz.sort(Comparator.comparing(Question::getId));
+
+        List<Long> questionIdsInQuiz = questionsInQuiz.stream().map(Question::getId).collect(Collectors.toList());
+
+        List<StudentAnswer> relevantStudentAnswers = studentAnswerRepository.findByQuestionIdIn(questionIdsInQuiz);
+
+        Map<Long, List<StudentAnswer>> answersByQuestionId = relevantStudentAnswers.stream()
+            .filter(sa -> sa.getAttempt().getQuiz().getId().equals(quizId))
+            .collect(Collectors.groupingBy(sa -> sa.getQuestion().getId()));
+
+        List<QuestionResultDTO> questionResults = new ArrayList<>();
+        for (Question question : questionsInQuiz) {
+            List<StudentAnswer> answersForThisQuestion = answersByQuestionId.getOrDefault(question.getId(), new ArrayList<>());
+
+            long totalAnswers = answersForThisQuestion.size();
+            long correctAnswers = answersForThisQuestion.stream().filter(StudentAnswer::isCorrect).count();
+            long wrongAnswers = totalAnswers - correctAnswers;
+
+            questionResults.add(new QuestionResultDTO(
+                    question.getId(),
+                    question.getQuestionText(),
+                    question.getDifficultyLevel() != null ? question.getDifficultyLevel().name() : "N/A",
+                    totalAnswers,
+                    correctAnswers,
+                    wrongAnswers
+            ));
+        }
+        return questionResults;
+    }
+}
@@ -0,0 +1,20 @@
+package codefusion.softwareproject1.service.results;
+
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+
+import java.util.List;
+
+/**
+ * Computes the per-question answer statistics of a quiz.
+ * The implementation is chosen with the quiz.results.strategy property:
+ * counters (default), sql or java.
+ */
+public interface QuestionResultsSource {
+
+    String STRATEGY_PROPERTY = "quiz.results.strategy";
+
+    /**
+     * Returns one entry per question of the quiz, ordered by question id.
+     */
+    List<QuestionResultDTO> loadResults(Long quizId);
+}
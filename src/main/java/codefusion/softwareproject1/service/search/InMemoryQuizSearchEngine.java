@@ -0,0 +1,139 @@
+package codefusion.softwareproject1.service.search;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves searches from a QuizSearchIndex held by the application, so a quiz
+ * search runs no query; the V3 migration and its search_vector triggers stay
+ * in place regardless. The index is built at startup in
+ * batches of quiz ids, each loaded with its questions and then released, and
+ * afterwards follows the changes the services report: once the change is
+ * committed, the affected quizzes are read again in a fresh transaction and
+ * re-indexed, or dropped if they no longer exist.
+ */
+@Component
+@ConditionalOnProperty(name = QuizSearchEngine.ENGINE_PROPERTY, havingValue = "memory")
+public class InMemoryQuizSearchEngine implements QuizSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryQuizSearchEngine.class);
+
+    private final QuizRepo quizRepository;
+    private final TransactionTemplate readTransaction;
+    private final int batchSize;
+    private final QuizSearchIndex index = new QuizSearchIndex();
+
+    @Autowired
+    public InMemoryQuizSearchEngine(QuizRepo quizRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${quiz.search.index-batch-size:500}") int batchSize) {
+        this.quizRepository = quizRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Never join the transaction whose commit triggered a re-index: its persistence context may be stale
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void build() {
+        long start = System.nanoTime();
+        Long afterId = 0L;
+        while (afterId != null) {
+            Long lastId = afterId;
+            afterId = readTransaction.execute(status -> {
+                List<Long> ids = quizRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                quizRepository.findWithQuestionsByIdIn(ids).forEach(index::put);
+                return ids.get(ids.size() - 1);
+            });
+        }
+        logger.info("Indexed {} quizzes ({} terms) for search in {} ms",
+                index.size(), index.termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public List<QuizSearchResultDTO> search(List<String> terms, Long categoryId, boolean publishedOnly,
+                                            KeysetPagination.RankCursor after, int limit) {
+        return index.search(terms, categoryId, publishedOnly, after, limit);
+    }
+
+    @Override
+    public void quizChanged(Long quizId) {
+        if (quizId != null) {
+            afterCommit(() -> reindex(Set.of(quizId)));
+        }
+    }
+
+    @Override
+    public void quizzesChanged(Collection<Long> quizIds) {
+        if (!quizIds.isEmpty()) {
+            List<Long> ids = List.copyOf(quizIds);
+            afterCommit(() -> reindex(ids));
+        }
+    }
+
+    @Override
+    public void categoryChanged(Long categoryId) {
+        if (categoryId != null) {
+            afterCommit(() -> reindex(index.quizIdsInCategory(categoryId)));
+        }
+    }
+
+    private void reindex(Collection<Long> quizIds) {
+        if (quizIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(quizIds);
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                for (Quiz quiz : quizRepository.findWithQuestionsByIdIn(quizIds)) {
+                    index.put(quiz);
+                    missing.remove(quiz.getId());
+                }
+            });
+        } catch (RuntimeException e) {
+            // The change itself is committed; the quizzes stay searchable by their old text until the next change
+            logger.warn("Could not re-index quizzes {} for search: {}", quizIds, e.getMessage());
+            return;
+        }
+        missing.forEach(index::remove);
+        logger.debug("Re-indexed quizzes {} for search", quizIds);
+    }
+
+    // Outside a transaction the change is already committed
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package codefusion.softwareproject1.service.search;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Searches the quizzes.search_vector column that the V3 migration's triggers
+ * keep current, so changes need no notification.
+ */
+@Component
+@ConditionalOnProperty(name = QuizSearchEngine.ENGINE_PROPERTY, havingValue = "postgres", matchIfMissing = true)
+public class PostgresQuizSearchEngine implements QuizSearchEngine {
+
+    private final QuizRepo quizRepository;
+
+    @Autowired
+    public PostgresQuizSearchEngine(QuizRepo quizRepository) {
+        this.quizRepository = quizRepository;
+    }
+
+    @Override
+    public List<QuizSearchResultDTO> search(List<String> terms, Long categoryId, boolean publishedOnly,
+                                            KeysetPagination.RankCursor after, int limit) {
+        return quizRepository.searchQuizzes(SearchTerms.toPrefixTsQuery(terms), categoryId, publishedOnly, after, limit);
+    }
+}
@@ -0,0 +1,47 @@
+package codefusion.softwareproject1.service.search;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Answers quiz searches for QuizServiceImpl.
+ * The implementation is chosen with the quiz.search.engine property:
+ * postgres (default) or memory. The services report every quiz, question and
+ * category change, so an engine that keeps its own copy of the text can follow.
+ */
+public interface QuizSearchEngine {
+
+    String ENGINE_PROPERTY = "quiz.search.engine";
+
+    /**
+     * Quizzes matching every term as a prefix, best rank first and then by id.
+     *
+     * @param terms parsed search terms, see SearchTerms
+     * @param categoryId restricts the search to one category when not null
+     * @param after the last result of the previous page, or null for the first page
+     */
+    List<QuizSearchResultDTO> search(List<String> terms, Long categoryId, boolean publishedOnly,
+                                     KeysetPagination.RankCursor after, int limit);
+
+    /**
+     * The quiz, or one of its questions, was created, changed or deleted.
+     */
+    default void quizChanged(Long quizId) {
+    }
+
+    /**
+     * Several quizzes changed at once, e.g. in a bulk import.
+     */
+    default void quizzesChanged(Collection<Long> quizIds) {
+        quizIds.forEach(this::quizChanged);
+    }
+
+    /**
+     * The category was renamed or deleted.
+     */
+    default void categoryChanged(Long categoryId) {
+    }
+}
@@ -0,0 +1,344 @@
+package codefusion.softwareproject1.service.search;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index of quiz and question text, held in memory.
+ * Terms live in a sorted dictionary, so the expansions of a prefix are one
+ * range of it. Each quiz gets a dense slot, and each term points to postings:
+ * the slots of the quizzes that contain it, sorted, next to the weight of the
+ * fields it occurs in. A search walks the postings of its most selective term
+ * only, then checks the remaining terms against the sorted terms each
+ * candidate quiz keeps, so broad prefixes cost little next to a narrow one.
+ * A quiz scores, per search term, the best weight among the indexed terms the
+ * term is a prefix of, a term's weight being the sum of the V3 migration's
+ * weights of the fields it occurs in. With s the sum over the search terms,
+ * the rank is s / (s + 1). That borrows the field weights and normalization
+ * of the postgres engine's ts_rank_cd(..., 32) but not its cover density:
+ * repeated occurrences and the distance between the matched terms do not
+ * count, so the two engines agree on which quizzes match, not always on
+ * their order.
+ * Searches share a read lock; put and remove take the write lock.
+ */
+public class QuizSearchIndex {
+
+    static final float TITLE_WEIGHT = 1.0f;       // A: title, course code
+    static final float DESCRIPTION_WEIGHT = 0.4f; // B: description, category name
+    static final float QUESTION_WEIGHT = 0.2f;    // C: question text
+
+    private static final Comparator<Hit> RANK_ORDER = Comparator
+            .comparing(Hit::rank, Comparator.reverseOrder())
+            .thenComparing(Hit::quizId);
+
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<Long, Integer> slotsByQuizId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private Document[] documents = new Document[64];
+    private int slotCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes the quiz with its category and questions, replacing what was indexed for it before.
+     */
+    public void put(Quiz quiz) {
+        Map<String, Float> termWeights = termWeights(quiz);
+        lock.writeLock().lock();
+        try {
+            removeDocument(quiz.getId());
+            int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            if (slot == documents.length) {
+                documents = Arrays.copyOf(documents, slot * 2);
+            }
+            String[] terms = new String[termWeights.size()];
+            float[] weights = new float[termWeights.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> termWeight : termWeights.entrySet()) {
+                String term = termWeight.getKey();
+                Map.Entry<String, Postings> entry = dictionary.ceilingEntry(term);
+                if (entry == null || !entry.getKey().equals(term)) {
+                    dictionary.put(term, new Postings());
+                    entry = dictionary.ceilingEntry(term);
+                }
+                entry.getValue().put(slot, termWeight.getValue());
+                terms[i] = entry.getKey(); // Shares the dictionary's copy of the term
+                weights[i++] = termWeight.getValue();
+            }
+            documents[slot] = Document.of(quiz, terms, weights);
+            slotsByQuizId.put(quiz.getId(), slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long quizId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(quizId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quizzes in which every term is the prefix of some indexed term, best rank
+     * first and then by id, paged with the same cursor as
+     * QuizSearchRepo.searchQuizzes.
+     *
+     * @param terms parsed search terms, see SearchTerms
+     * @param categoryId restricts the search to one category when not null
+     * @param after the last result of the previous page, or null for the first page
+     */
+    public List<QuizSearchResultDTO> search(List<String> terms, Long categoryId, boolean publishedOnly,
+                                            KeysetPagination.RankCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> byVolume = new ArrayList<>(terms);
+            byVolume.sort(Comparator.comparingLong(this::postingsVolume));
+
+            // Candidates from the narrowest term; a quiz reached through several expansions keeps its best weight
+            String driver = byVolume.get(0);
+            float[] weights = new float[slotCount];
+            int[] candidates = new int[slotCount];
+            int candidateCount = 0;
+            for (Postings postings : expansions(driver)) {
+                for (int i = 0; i < postings.size; i++) {
+                    int slot = postings.slots[i];
+                    if (weights[slot] < 0) {
+                        continue;
+                    }
+                    if (weights[slot] == 0) {
+                        if (!documents[slot].matches(categoryId, publishedOnly)) {
+                            weights[slot] = -1; // Filtered out
+                            continue;
+                        }
+                        candidates[candidateCount++] = slot;
+                    }
+                    weights[slot] = Math.max(weights[slot], postings.weights[i]);
+                }
+            }
+
+            // Best results last, so the worst kept hit is at the head
+            PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(limit, candidateCount)) + 1, RANK_ORDER.reversed());
+            candidates:
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                Document document = documents[slot];
+                float score = weights[slot];
+                for (int term = 1; term < byVolume.size(); term++) {
+                    float weight = document.prefixWeight(byVolume.get(term));
+                    if (weight == 0) {
+                        continue candidates;
+                    }
+                    score += weight;
+                }
+                Hit hit = new Hit(slot, document.quizId(), score / (score + 1));
+                if (after == null || hit.isAfter(after)) {
+                    best.add(hit);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(RANK_ORDER);
+            List<QuizSearchResultDTO> results = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                results.add(documents[hit.slot()].toResult(hit.rank()));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the indexed quizzes of a category, to re-index after the category changes.
+     */
+    public List<Long> quizIdsInCategory(Long categoryId) {
+        lock.readLock().lock();
+        try {
+            return slotsByQuizId.values().stream()
+                    .map(slot -> documents[slot])
+                    .filter(document -> categoryId.equals(document.categoryId()))
+                    .map(Document::quizId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByQuizId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Postings> expansions(String prefix) {
+        return dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    private long postingsVolume(String prefix) {
+        long volume = 0;
+        for (Postings postings : expansions(prefix)) {
+            volume += postings.size;
+        }
+        return volume;
+    }
+
+    private void removeDocument(Long quizId) {
+        Integer slot = slotsByQuizId.remove(quizId);
+        if (slot == null) {
+            return;
+        }
+        for (String term : documents[slot].terms()) {
+            Postings postings = dictionary.get(term);
+            if (postings != null && postings.remove(slot) && postings.size == 0) {
+                dictionary.remove(term);
+            }
+        }
+        documents[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    // Summed weight of the fields each term occurs in; a field counts once however often the term repeats
+    private static Map<String, Float> termWeights(Quiz quiz) {
+        Map<String, Float> weights = new TreeMap<>();
+        Set<String> titleTerms = new HashSet<>(SearchTerms.tokenize(quiz.getTitle()));
+        titleTerms.addAll(SearchTerms.tokenize(quiz.getCourseCode()));
+        addField(weights, titleTerms, TITLE_WEIGHT);
+
+        Set<String> descriptionTerms = new HashSet<>(SearchTerms.tokenize(quiz.getDescription()));
+        if (quiz.getCategory() != null) {
+            descriptionTerms.addAll(SearchTerms.tokenize(quiz.getCategory().getName()));
+        }
+        addField(weights, descriptionTerms, DESCRIPTION_WEIGHT);
+
+        Set<String> questionTerms = new HashSet<>();
+        if (quiz.getQuestions() != null) {
+            for (Question question : quiz.getQuestions()) {
+                questionTerms.addAll(SearchTerms.tokenize(question.getQuestionText()));
+            }
+        }
+        addField(weights, questionTerms, QUESTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addField(Map<String, Float> weights, Set<String> terms, float weight) {
+        for (String term : terms) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    /**
+     * Slots of the quizzes containing one term, ascending, with their weights in a parallel array.
+     * Slots are mostly handed out in order, so inserts usually append.
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[2];
+        private float[] weights = new float[2];
+        private int size;
+
+        void put(int slot, float weight) {
+            int index = size > 0 && slots[size - 1] < slot ? -(size + 1) : Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+            int insertAt = -(index + 1);
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+
+    /**
+     * What a result shows of an indexed quiz, and its terms, sorted, with their weights.
+     */
+    private record Document(Long quizId, String title, String description, String courseCode, boolean published,
+                            Long categoryId, String categoryName, String[] terms, float[] weights) {
+
+        static Document of(Quiz quiz, String[] terms, float[] weights) {
+            return new Document(quiz.getId(), quiz.getTitle(), quiz.getDescription(), quiz.getCourseCode(),
+                    quiz.isPublished(),
+                    quiz.getCategory() != null ? quiz.getCategory().getId() : null,
+                    quiz.getCategory() != null ? quiz.getCategory().getName() : null,
+                    terms, weights);
+        }
+
+        // Best weight among the terms starting with the prefix, 0 if there is none
+        float prefixWeight(String prefix) {
+            int index = Arrays.binarySearch(terms, prefix);
+            float best = 0;
+            for (int i = index >= 0 ? index : -(index + 1); i < terms.length && terms[i].startsWith(prefix); i++) {
+                best = Math.max(best, weights[i]);
+            }
+            return best;
+        }
+
+        boolean matches(Long category, boolean publishedOnly) {
+            return (!publishedOnly || published) && (category == null || category.equals(categoryId));
+        }
+
+        QuizSearchResultDTO toResult(float rank) {
+            return new QuizSearchResultDTO(quizId, title, description, courseCode, published, categoryId, categoryName, rank);
+        }
+    }
+
+    private record Hit(int slot, Long quizId, float rank) {
+
+        boolean isAfter(KeysetPagination.RankCursor cursor) {
+            return rank < cursor.getRank() || (rank == cursor.getRank() && quizId > cursor.getId());
+        }
+    }
+}
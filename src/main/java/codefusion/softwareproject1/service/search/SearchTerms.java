@@ -0,0 +1,75 @@
+package codefusion.softwareproject1.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits free search text into lowercase terms of letters and digits, and
+ * turns them into a PostgreSQL tsquery in which every term is a prefix and
+ * all terms must match. Anything else in the input is dropped, so user text
+ * never reaches to_tsquery as operators. The in-memory index tokenizes quiz
+ * text the same way, so both engines agree on what a term is.
+ */
+public final class SearchTerms {
+
+    public static final int MAX_TERMS = 10;
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private SearchTerms() {
+    }
+
+    /**
+     * The distinct terms of the text in input order, at most MAX_TERMS of them.
+     *
+     * @throws IllegalArgumentException if the text contains no letters or digits
+     */
+    public static List<String> parse(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : tokenize(text)) {
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+            terms.add(term);
+        }
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search text must contain at least one letter or digit.");
+        }
+        return terms;
+    }
+
+    /**
+     * Every distinct term of the text in input order; empty for null or blank text.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text != null) {
+            Matcher matcher = TERM.matcher(text);
+            while (matcher.find()) {
+                terms.add(matcher.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * The terms of the text as a prefix tsquery, e.g. "Java basics" becomes "java:* & basics:*".
+     *
+     * @throws IllegalArgumentException if the text contains no letters or digits
+     */
+    public static String toPrefixTsQuery(String text) {
+        return toPrefixTsQuery(parse(text));
+    }
+
+    /**
+     * Already parsed terms as a prefix tsquery.
+     */
+    public static String toPrefixTsQuery(List<String> terms) {
+        return String.join(" & ", terms.stream().map(term -> term + ":*").toList());
+    }
+}
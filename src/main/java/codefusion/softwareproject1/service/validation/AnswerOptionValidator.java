@@ -1,5 +1,6 @@
 package codefusion.softwareproject1.service.validation;
 
+import codefusion.softwareproject1.dto.AnswerOptionDTO;
 import codefusion.softwareproject1.entity.AnswerOption;
 import codefusion.softwareproject1.repo.AnswerOptionRepo;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,9 @@ public class AnswerOptionValidator {
     
     private static final int MAX_ANSWER_OPTIONS_PER_QUESTION = 4;
     
+    // answer_option.option_text and explanation are VARCHAR(255)
+    private static final int MAX_TEXT_LENGTH = 255;
+    
     private final AnswerOptionRepo answerOptionRepository;
     
     @Autowired
@@ -59,4 +63,39 @@ public class AnswerOptionValidator {
             }
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Validates the answer options of a question that is created together with them,
+     * as in a bulk import: the option limit applies and, if there are options, one must be correct.
+     * 
+     * @param answerOptions the options of the new question, may be null
+     * @throws ResponseStatusException if validation fails
+     */
+    public void validateOptionsOfNewQuestion(List<AnswerOptionDTO> answerOptions) {
+        if (answerOptions == null || answerOptions.isEmpty()) {
+            return;
+        }
+        if (answerOptions.size() > MAX_ANSWER_OPTIONS_PER_QUESTION) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A question can have at most " + MAX_ANSWER_OPTIONS_PER_QUESTION + " answer options");
+        }
+        
+        boolean anyCorrect = false;
+        for (AnswerOptionDTO option : answerOptions) {
+            if (option == null || option.getText() == null || option.getText().trim().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Answer option text cannot be empty");
+            }
+            if (option.getText().length() > MAX_TEXT_LENGTH
+                    || (option.getExplanation() != null && option.getExplanation().length() > MAX_TEXT_LENGTH)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Answer option text and explanation cannot exceed " + MAX_TEXT_LENGTH + " characters");
+            }
+            anyCorrect |= Boolean.TRUE.equals(option.getIsCorrect());
+        }
+        
+        if (!anyCorrect) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A question with answer options needs at least one correct answer");
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package codefusion.softwareproject1.service.validation;
 
+import codefusion.softwareproject1.dto.QuestionDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.entity.Question;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 /**
  * Validator for Quiz data following Single Responsibility Principle.
  * Centralizes all validation logic for quizzes.
@@ -10,6 +14,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class QuizValidator {
 
+    // question.question_text is a VARCHAR(255)
+    private static final int MAX_QUESTION_TEXT_LENGTH = 255;
+
     /**
      * Validates a quiz DTO for creation operation.
      * 
@@ -43,6 +50,56 @@ public class QuizValidator {
         validateCommon(quizDTO);
     }
     
+    /**
+     * Validates a quiz DTO of a bulk import, including its nested questions.
+     * Answer options are left to AnswerOptionValidator.
+     * 
+     * @param quizDTO The quiz DTO to validate
+     * @throws IllegalArgumentException if validation fails
+     */
+    public void validateForImport(QuizDTO quizDTO) {
+        validateForCreate(quizDTO);
+        
+        if (quizDTO.getCourseCode() != null && quizDTO.getCourseCode().length() > 50) {
+            throw new IllegalArgumentException("Course code cannot exceed 50 characters");
+        }
+        
+        if (quizDTO.getQuestions() == null) {
+            return;
+        }
+        for (QuestionDTO questionDTO : quizDTO.getQuestions()) {
+            if (questionDTO == null) {
+                throw new IllegalArgumentException("Question data cannot be null");
+            }
+            validateQuestion(questionDTO);
+        }
+    }
+    
+    private void validateQuestion(QuestionDTO questionDTO) {
+        String text = questionDTO.getQuestionText();
+        if (text == null || text.trim().length() < 5) {
+            throw new IllegalArgumentException("Question text must be at least 5 characters long");
+        }
+        
+        if (text.length() > MAX_QUESTION_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Question text cannot exceed " + MAX_QUESTION_TEXT_LENGTH + " characters");
+        }
+        
+        if (questionDTO.getPoints() != null && questionDTO.getPoints() < 1) {
+            throw new IllegalArgumentException("Question points must be at least 1");
+        }
+        
+        // QuestionMapper accepts NORMAL as an alias of MEDIUM
+        String level = questionDTO.getDifficultyLevel();
+        if (level != null && !"NORMAL".equalsIgnoreCase(level)) {
+            try {
+                Question.DifficultyLevel.valueOf(level.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown difficulty level: " + level);
+            }
+        }
+    }
+    
     /**
      * Common validation logic for both create and update operations.
      * 
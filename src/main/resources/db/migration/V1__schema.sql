@@ -0,0 +1,137 @@
+-- Schema of the JPA entities, previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Every statement is idempotent so this migration also adopts databases that ddl-auto
+-- already created (baseline-version=0): it only adds the tables and columns they lack.
+
+CREATE TABLE IF NOT EXISTS teacher (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS student (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    email VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS category (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    teacher_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS quizzes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    published BOOLEAN NOT NULL,
+    course_code VARCHAR(50),
+    teacher_id BIGINT REFERENCES teacher (id),
+    category_id BIGINT REFERENCES category (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS question (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_text VARCHAR(255) NOT NULL,
+    points INTEGER NOT NULL,
+    difficulty_level VARCHAR(255) CHECK (difficulty_level IN ('EASY', 'MEDIUM', 'HARD')),
+    quiz_id BIGINT NOT NULL REFERENCES quizzes (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS answer_option (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    option_text VARCHAR(255) NOT NULL,
+    is_correct BOOLEAN NOT NULL,
+    question_id BIGINT REFERENCES question (id),
+    explanation VARCHAR(255),
+    version INTEGER,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS quiz_attempt (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    quiz_id BIGINT NOT NULL REFERENCES quizzes (id),
+    attempt_date TIMESTAMP(6) NOT NULL,
+    score REAL,
+    completed_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS student_answer (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    attempt_id BIGINT NOT NULL REFERENCES quiz_attempt (id),
+    question_id BIGINT NOT NULL REFERENCES question (id),
+    chosen_answer_id BIGINT NOT NULL REFERENCES answer_option (id),
+    is_correct BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS review (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    quiz_id BIGINT NOT NULL REFERENCES quizzes (id),
+    student_nickname VARCHAR(100) NOT NULL,
+    rating INTEGER NOT NULL,
+    review_text TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS quiz_review (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    right_answers INTEGER NOT NULL,
+    wrong_answers INTEGER NOT NULL,
+    student_id BIGINT REFERENCES student (id),
+    quiz_id BIGINT REFERENCES quizzes (id)
+);
+
+CREATE TABLE IF NOT EXISTS question_result_counter (
+    question_id BIGINT PRIMARY KEY,
+    total_answers BIGINT NOT NULL,
+    correct_answers BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS quiz_rating_summary (
+    quiz_id BIGINT PRIMARY KEY,
+    review_count BIGINT NOT NULL,
+    rating_sum BIGINT NOT NULL,
+    one_star BIGINT NOT NULL,
+    two_stars BIGINT NOT NULL,
+    three_stars BIGINT NOT NULL,
+    four_stars BIGINT NOT NULL,
+    five_stars BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS leaderboard_snapshot (
+    quiz_id BIGINT PRIMARY KEY,
+    score_counts TEXT NOT NULL,
+    snapshot_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS leaderboard_entry (
+    attempt_id BIGINT PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    score REAL NOT NULL,
+    completed_at TIMESTAMP(6) NOT NULL
+);
+
+-- Columns added to existing tables after they were first created by ddl-auto
+ALTER TABLE category ADD COLUMN IF NOT EXISTS teacher_id BIGINT;
+ALTER TABLE quiz_attempt ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP(6);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint c
+                   JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+                   WHERE c.conrelid = 'category'::regclass AND c.contype = 'f' AND a.attname = 'teacher_id') THEN
+        ALTER TABLE category ADD CONSTRAINT fk_category_teacher FOREIGN KEY (teacher_id) REFERENCES teacher (id);
+    END IF;
+END $$;
@@ -0,0 +1,38 @@
+-- Indexes for the access paths of the repository queries; PostgreSQL does not index
+-- foreign keys by itself. RepositoryIndexUsageTest checks the plans against them.
+
+-- Published catalog and its keyset pages: WHERE published [AND category_id = ?] AND id > ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_quizzes_published_id ON quizzes (id) WHERE published;
+CREATE INDEX IF NOT EXISTS idx_quizzes_published_category_id ON quizzes (category_id, id) WHERE published;
+
+-- Quizzes of a category (category leaderboard, category deletes) and of a teacher
+CREATE INDEX IF NOT EXISTS idx_quizzes_category_id ON quizzes (category_id);
+CREATE INDEX IF NOT EXISTS idx_quizzes_teacher_id ON quizzes (teacher_id);
+CREATE INDEX IF NOT EXISTS idx_category_teacher_id ON category (teacher_id);
+
+-- Questions of a quiz in id order (catalog graph, answer keys, results)
+CREATE INDEX IF NOT EXISTS idx_question_quiz_id ON question (quiz_id, id);
+
+-- Options of a question
+CREATE INDEX IF NOT EXISTS idx_answer_option_question_id ON answer_option (question_id);
+
+-- Answers of an attempt, checked per question, and answers per question for result counters
+CREATE INDEX IF NOT EXISTS idx_student_answer_attempt_question ON student_answer (attempt_id, question_id);
+CREATE INDEX IF NOT EXISTS idx_student_answer_question ON student_answer (question_id) INCLUDE (is_correct);
+CREATE INDEX IF NOT EXISTS idx_student_answer_chosen_answer ON student_answer (chosen_answer_id);
+
+-- Newest-first review pages of a quiz: WHERE quiz_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_review_quiz_created ON review (quiz_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_quiz_review_quiz_id ON quiz_review (quiz_id);
+CREATE INDEX IF NOT EXISTS idx_quiz_review_student_id ON quiz_review (student_id);
+
+-- Attempts of a quiz; completed attempts by score for leaderboard rebuilds and by
+-- completion time for the replay after the last leaderboard snapshot
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_quiz_id ON quiz_attempt (quiz_id);
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_quiz_score ON quiz_attempt (quiz_id, score DESC, completed_at, id)
+    WHERE completed_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_completed_at ON quiz_attempt (completed_at)
+    WHERE completed_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_leaderboard_entry_quiz ON leaderboard_entry (quiz_id);
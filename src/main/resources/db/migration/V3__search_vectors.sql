@@ -0,0 +1,88 @@
+-- Full-text search documents, maintained by triggers so every write path keeps them
+-- current. The 'simple' configuration lowercases without stemming, which suits the
+-- mixed-language course material; SearchTerms queries every word as a prefix.
+
+ALTER TABLE quizzes ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+ALTER TABLE category ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- Quiz document: title and course code weigh most, then category name and description,
+-- then the text of all questions
+CREATE OR REPLACE FUNCTION quiz_search_document(p_quiz_id BIGINT, p_title TEXT, p_course_code TEXT,
+                                                p_description TEXT, p_category_id BIGINT)
+RETURNS TSVECTOR LANGUAGE sql STABLE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(p_course_code, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce((SELECT c.name FROM category c WHERE c.id = p_category_id), '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(p_description, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(
+               (SELECT string_agg(q.question_text, ' ') FROM question q WHERE q.quiz_id = p_quiz_id), '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION quizzes_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := quiz_search_document(NEW.id, NEW.title, NEW.course_code, NEW.description, NEW.category_id);
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS quizzes_search_vector ON quizzes;
+CREATE TRIGGER quizzes_search_vector
+    BEFORE INSERT OR UPDATE OF title, course_code, description, category_id ON quizzes
+    FOR EACH ROW EXECUTE FUNCTION quizzes_search_vector();
+
+-- Questions and category names live in other tables: refresh the quizzes they belong to
+CREATE OR REPLACE FUNCTION refresh_quiz_search_vector(p_quiz_id BIGINT) RETURNS VOID LANGUAGE sql AS $$
+    UPDATE quizzes
+    SET search_vector = quiz_search_document(id, title, course_code, description, category_id)
+    WHERE id = p_quiz_id
+$$;
+
+CREATE OR REPLACE FUNCTION question_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM refresh_quiz_search_vector(OLD.quiz_id);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.quiz_id IS DISTINCT FROM OLD.quiz_id) THEN
+        PERFORM refresh_quiz_search_vector(NEW.quiz_id);
+    END IF;
+    RETURN NULL;
+END $$;
+
+DROP TRIGGER IF EXISTS question_search_vector ON question;
+CREATE TRIGGER question_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF question_text, quiz_id ON question
+    FOR EACH ROW EXECUTE FUNCTION question_search_vector();
+
+-- Category document: name, then description
+CREATE OR REPLACE FUNCTION category_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS category_search_vector ON category;
+CREATE TRIGGER category_search_vector
+    BEFORE INSERT OR UPDATE OF name, description ON category
+    FOR EACH ROW EXECUTE FUNCTION category_search_vector();
+
+CREATE OR REPLACE FUNCTION category_quizzes_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE quizzes
+    SET search_vector = quiz_search_document(id, title, course_code, description, category_id)
+    WHERE category_id = NEW.id;
+    RETURN NULL;
+END $$;
+
+DROP TRIGGER IF EXISTS category_quizzes_search_vector ON category;
+CREATE TRIGGER category_quizzes_search_vector
+    AFTER UPDATE OF name ON category
+    FOR EACH ROW WHEN (NEW.name IS DISTINCT FROM OLD.name)
+    EXECUTE FUNCTION category_quizzes_search_vector();
+
+-- Backfill existing rows
+UPDATE category SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+UPDATE quizzes SET search_vector = quiz_search_document(id, title, course_code, description, category_id);
+
+CREATE INDEX IF NOT EXISTS idx_quizzes_search_vector ON quizzes USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_category_search_vector ON category USING GIN (search_vector);
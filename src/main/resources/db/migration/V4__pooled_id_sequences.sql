@@ -0,0 +1,36 @@
+-- Pooled id sequences for the entities written in bulk, so Hibernate can batch their
+-- inserts (IDENTITY ids make it insert row by row). Hibernate takes one nextval per
+-- block of 50 ids and, with the pooled-lo optimizer, hands out the value and the 49
+-- after it, so every sequence increments by the allocationSize of its @SequenceGenerator.
+-- Each sequence starts after the ids already taken and replaces the identity as the
+-- column default; a row inserted without an id still gets a fresh one.
+
+ALTER TABLE quizzes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS quizzes_seq INCREMENT BY 50 OWNED BY quizzes.id;
+SELECT setval('quizzes_seq', COALESCE((SELECT MAX(id) FROM quizzes), 0) + 1, false);
+ALTER TABLE quizzes ALTER COLUMN id SET DEFAULT nextval('quizzes_seq');
+
+ALTER TABLE question ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS question_seq INCREMENT BY 50 OWNED BY question.id;
+SELECT setval('question_seq', COALESCE((SELECT MAX(id) FROM question), 0) + 1, false);
+ALTER TABLE question ALTER COLUMN id SET DEFAULT nextval('question_seq');
+
+ALTER TABLE answer_option ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS answer_option_seq INCREMENT BY 50 OWNED BY answer_option.id;
+SELECT setval('answer_option_seq', COALESCE((SELECT MAX(id) FROM answer_option), 0) + 1, false);
+ALTER TABLE answer_option ALTER COLUMN id SET DEFAULT nextval('answer_option_seq');
+
+ALTER TABLE quiz_attempt ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS quiz_attempt_seq INCREMENT BY 50 OWNED BY quiz_attempt.id;
+SELECT setval('quiz_attempt_seq', COALESCE((SELECT MAX(id) FROM quiz_attempt), 0) + 1, false);
+ALTER TABLE quiz_attempt ALTER COLUMN id SET DEFAULT nextval('quiz_attempt_seq');
+
+ALTER TABLE student_answer ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS student_answer_seq INCREMENT BY 50 OWNED BY student_answer.id;
+SELECT setval('student_answer_seq', COALESCE((SELECT MAX(id) FROM student_answer), 0) + 1, false);
+ALTER TABLE student_answer ALTER COLUMN id SET DEFAULT nextval('student_answer_seq');
+
+ALTER TABLE review ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS review_seq INCREMENT BY 50 OWNED BY review.id;
+SELECT setval('review_seq', COALESCE((SELECT MAX(id) FROM review), 0) + 1, false);
+ALTER TABLE review ALTER COLUMN id SET DEFAULT nextval('review_seq');
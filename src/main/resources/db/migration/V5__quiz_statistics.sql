@@ -0,0 +1,33 @@
+-- Per-quiz statistics kept by the analytics pipeline (see QuizStatisticsAggregator).
+-- Rows are only ever incremented; they carry no foreign keys, so analytics writes
+-- never contend with the entity tables, and reads join them to the live questions.
+
+CREATE TABLE IF NOT EXISTS quiz_statistics (
+    quiz_id BIGINT PRIMARY KEY,
+    completed_attempts BIGINT NOT NULL,
+    score_sum DOUBLE PRECISION NOT NULL,
+    score_square_sum DOUBLE PRECISION NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS question_statistics (
+    question_id BIGINT PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    answers BIGINT NOT NULL,
+    correct_answers BIGINT NOT NULL,
+    timed_answers BIGINT NOT NULL,
+    time_sum_millis BIGINT NOT NULL,
+    scored_answers BIGINT NOT NULL,
+    scored_correct BIGINT NOT NULL,
+    score_sum DOUBLE PRECISION NOT NULL,
+    score_square_sum DOUBLE PRECISION NOT NULL,
+    correct_score_sum DOUBLE PRECISION NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS answer_option_statistics (
+    answer_option_id BIGINT PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    times_chosen BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_question_statistics_quiz_id ON question_statistics (quiz_id);
+CREATE INDEX IF NOT EXISTS idx_answer_option_statistics_quiz_id ON answer_option_statistics (quiz_id);
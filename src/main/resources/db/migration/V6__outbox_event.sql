@@ -0,0 +1,17 @@
+-- Transactional outbox (see OutboxWriter and OutboxRelay). Services insert an event in the
+-- transaction of the change it describes; the relay reads the oldest rows in id order,
+-- hands them to the listeners and deletes them, so the table only holds the backlog.
+-- Ids come from a pooled sequence like the other bulk-written tables (V4).
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id BIGINT PRIMARY KEY DEFAULT nextval('outbox_event_seq'),
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+ALTER SEQUENCE outbox_event_seq OWNED BY outbox_event.id;
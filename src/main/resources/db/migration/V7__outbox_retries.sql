@@ -0,0 +1,11 @@
+-- Outbox retries (see OutboxRelay): a batch that fails counts an attempt on each of its events and
+-- holds the relay back until next_attempt_at; after quiz.outbox.max-attempts an event is dead-lettered,
+-- kept with its last error for inspection, and skipped so the events behind it are delivered.
+
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS last_error TEXT;
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP(6);
+
+-- Pending events in relay order: WHERE dead_lettered_at IS NULL ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending_id ON outbox_event (id) WHERE dead_lettered_at IS NULL;
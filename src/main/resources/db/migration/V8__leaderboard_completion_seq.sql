@@ -0,0 +1,20 @@
+-- Leaderboard snapshots against a database sequence instead of the clock (see LeaderboardServiceImpl):
+-- every completion takes the next quiz_attempt_completion_seq value as it is applied to its leaderboard,
+-- and a snapshot records the value up to which it holds every completion. A restart replays the
+-- attempts numbered after it, plus the completed ones that were never numbered.
+
+CREATE SEQUENCE IF NOT EXISTS quiz_attempt_completion_seq;
+ALTER TABLE quiz_attempt ADD COLUMN IF NOT EXISTS completion_seq BIGINT;
+
+-- Replay after the last snapshot: WHERE completion_seq > ? ORDER BY completion_seq
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_completion_seq ON quiz_attempt (completion_seq)
+    WHERE completion_seq IS NOT NULL;
+-- Completions that never reached a leaderboard: WHERE completed_at IS NOT NULL AND completion_seq IS NULL
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_unsequenced ON quiz_attempt (id)
+    WHERE completed_at IS NOT NULL AND completion_seq IS NULL;
+
+-- Snapshots taken against the clock cannot be placed in the sequence; the boards are rebuilt from
+-- quiz_attempt once, which numbers the completed attempts
+DELETE FROM leaderboard_entry;
+DELETE FROM leaderboard_snapshot;
+ALTER TABLE leaderboard_snapshot ADD COLUMN IF NOT EXISTS completion_seq BIGINT NOT NULL;
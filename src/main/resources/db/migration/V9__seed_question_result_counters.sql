@@ -0,0 +1,10 @@
+-- Counts the existing student_answer history into question_result_counter once, so a first deploy
+-- starts with complete counters without a rebuild at every startup (see QuestionResultCounterRebuildJob).
+-- Counters that submissions already created are left to the nightly rebuild.
+
+INSERT INTO question_result_counter (question_id, total_answers, correct_answers)
+SELECT q.id, count(sa.id), coalesce(sum(CASE WHEN sa.is_correct THEN 1 ELSE 0 END), 0)
+FROM question q
+LEFT JOIN student_answer sa ON sa.question_id = q.id
+GROUP BY q.id
+ON CONFLICT (question_id) DO NOTHING;
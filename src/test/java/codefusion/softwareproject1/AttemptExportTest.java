@@ -0,0 +1,138 @@
+package codefusion.softwareproject1;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.AttemptExportService;
+import codefusion.softwareproject1.service.QuizAttemptService;
+
+/**
+ * Exports the stored answers of completed attempts as CSV, one row per answer,
+ * and attempts without stored answers as a single row.
+ */
+@SpringBootTest
+class AttemptExportTest {
+
+    private static final String HEADER = "attempt_id,quiz_id,course_code,attempt_date,completed_at,score,"
+            + "answer_id,question_id,question_text,chosen_answer_id,chosen_answer_text,correct,answered_at";
+
+    @Autowired
+    private AttemptExportService attemptExportService;
+
+    @Autowired
+    private QuizAttemptService quizAttemptService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Test
+    void exportsOneRowPerStoredAnswerOfEveryAttempt() throws Exception {
+        String courseCode = "EXP-" + System.nanoTime();
+        Quiz quiz = seedQuiz(courseCode, "What is 1 + 1?", "Which is \"right\", A or B?");
+        Question first = quiz.getQuestions().get(0);
+        Question second = quiz.getQuestions().get(1);
+
+        Long completedId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+        quizAttemptService.submitStudentAnswer(completedId, first.getId(),
+                new AnswerSubmissionDTO(first.getAnswerOptions().get(0).getId()), 1L);
+        quizAttemptService.submitStudentAnswer(completedId, second.getId(),
+                new AnswerSubmissionDTO(second.getAnswerOptions().get(1).getId()), 1L);
+        quizAttemptService.completeQuizAttempt(completedId);
+        Long unansweredId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+
+        List<String> lines = export(quiz.getId(), null);
+
+        assertEquals(4, lines.size());
+        assertEquals(HEADER, lines.get(0));
+        String[] firstAnswer = lines.get(1).split(",", -1);
+        assertEquals(String.valueOf(completedId), firstAnswer[0]);
+        assertEquals(String.valueOf(quiz.getId()), firstAnswer[1]);
+        assertEquals(courseCode, firstAnswer[2]);
+        assertEquals(String.valueOf(first.getId()), firstAnswer[7]);
+        assertEquals("What is 1 + 1?", firstAnswer[8]);
+        assertEquals("true", firstAnswer[11]);
+        assertTrue(lines.get(2).contains(",\"Which is \"\"right\"\", A or B?\","), lines.get(2));
+        assertTrue(lines.get(2).contains(",false,"), lines.get(2));
+
+        String[] unanswered = lines.get(3).split(",", -1);
+        assertEquals(13, unanswered.length);
+        assertEquals(String.valueOf(unansweredId), unanswered[0]);
+        for (int field = 4; field < unanswered.length; field++) {
+            assertEquals("", unanswered[field], "field " + field + " of an attempt without answers");
+        }
+    }
+
+    @Test
+    void exportsEveryQuizOfACourse() throws Exception {
+        String courseCode = "EXP-" + System.nanoTime();
+        for (int i = 0; i < 2; i++) {
+            Quiz quiz = seedQuiz(courseCode, "Question of quiz " + i);
+            Question question = quiz.getQuestions().get(0);
+            Long attemptId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+            quizAttemptService.submitStudentAnswer(attemptId, question.getId(),
+                    new AnswerSubmissionDTO(question.getAnswerOptions().get(0).getId()), 1L);
+            quizAttemptService.completeQuizAttempt(attemptId);
+        }
+
+        assertEquals("attempts-" + courseCode + ".csv", attemptExportService.exportFileName(null, courseCode));
+        List<String> lines = export(null, courseCode);
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).contains("Question of quiz 0"));
+        assertTrue(lines.get(2).contains("Question of quiz 1"));
+    }
+
+    @Test
+    void rejectsAnUnclearOrUnknownScope() {
+        assertThrows(IllegalArgumentException.class, () -> attemptExportService.exportFileName(null, null));
+        assertThrows(IllegalArgumentException.class, () -> attemptExportService.exportFileName(1L, "CS101"));
+        assertThrows(ResourceNotFoundException.class, () -> attemptExportService.exportFileName(999_999L, null));
+        assertThrows(ResourceNotFoundException.class, () -> attemptExportService.exportFileName(null, "NO-SUCH-COURSE"));
+    }
+
+    private List<String> export(Long quizId, String courseCode) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attemptExportService.exportAttemptAnswers(quizId, courseCode, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private Quiz seedQuiz(String courseCode, String... questionTexts) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Export quiz");
+        quiz.setCourseCode(courseCode);
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        for (String text : questionTexts) {
+            Question question = new Question();
+            question.setQuestionText(text);
+            question.setPoints(1);
+            question.setQuiz(quiz);
+            question.setAnswerOptions(new ArrayList<>());
+            for (int o = 0; o < 2; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quizRepo.save(quiz);
+    }
+}
@@ -0,0 +1,70 @@
+package codefusion.softwareproject1;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.service.attempt.AttemptJournal;
+
+class AttemptJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverReturnsAnswersLoggedAfterTheLastFlushOfOpenAttempts() throws Exception {
+        Path path = directory.resolve("journal.log");
+        AttemptJournal journal = new AttemptJournal(path.toString(), false);
+        journal.compact(Map.of());
+
+        journal.opened(1L, 5L);
+        journal.answered(answer(1L, 10L, 100L, true));
+        journal.flushed(1L);
+        journal.answered(answer(1L, 11L, 110L, false));
+        journal.opened(2L, 5L);
+        journal.answered(answer(2L, 10L, 101L, false));
+        journal.completed(2L);
+        journal.close();
+        // A record torn by a crash is skipped
+        Files.writeString(path, "A 1 12", StandardOpenOption.APPEND);
+
+        Map<Long, AttemptJournal.RecoveredAttempt> recovered = new AttemptJournal(path.toString(), false).recover();
+
+        assertEquals(1, recovered.size());
+        AttemptJournal.RecoveredAttempt attempt = recovered.get(1L);
+        assertEquals(5L, attempt.quizId());
+        assertEquals(1, attempt.pendingAnswers().size());
+        StudentAnswerDTO pending = attempt.pendingAnswers().get(0);
+        assertEquals(11L, pending.getQuestionId());
+        assertEquals(110L, pending.getChosenAnswerId());
+        assertEquals(false, pending.isCorrect());
+    }
+
+    @Test
+    void compactDropsEverythingButOpenSessions() throws Exception {
+        Path path = directory.resolve("journal.log");
+        AttemptJournal journal = new AttemptJournal(path.toString(), false);
+        journal.compact(Map.of());
+        journal.opened(1L, 5L);
+        journal.completed(1L);
+        journal.close();
+
+        AttemptJournal restarted = new AttemptJournal(path.toString(), false);
+        assertTrue(restarted.recover().isEmpty());
+        restarted.compact(Map.of());
+        restarted.close();
+
+        assertEquals("", Files.readString(path));
+    }
+
+    private static StudentAnswerDTO answer(long attemptId, long questionId, long optionId, boolean correct) {
+        return new StudentAnswerDTO(null, attemptId, questionId, null, optionId, null, correct);
+    }
+}
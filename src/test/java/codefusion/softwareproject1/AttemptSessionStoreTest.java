@@ -0,0 +1,106 @@
+package codefusion.softwareproject1;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.util.unit.DataSize;
+
+import codefusion.softwareproject1.dto.StudentAnswerDTO;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.exception.QuizException;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.attempt.AttemptJournal;
+import codefusion.softwareproject1.service.attempt.AttemptSession;
+import codefusion.softwareproject1.service.attempt.AttemptSessionStore;
+import codefusion.softwareproject1.service.attempt.AttemptSessionWriter;
+
+/**
+ * A session pushed out of the store whose answers cannot be written stays
+ * available with its answers instead of being reloaded without them, and the
+ * journal keeps the answers of every open session across compactions.
+ */
+class AttemptSessionStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private AttemptSessionStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.flushAll();
+    }
+
+    @Test
+    void keepsAnEvictedSessionWhoseWriteFailed() {
+        QuizAttemptRepo quizAttemptRepo = mock(QuizAttemptRepo.class);
+        AttemptSessionWriter writer = mock(AttemptSessionWriter.class);
+        doThrow(new IllegalStateException("database down")).when(writer).flush(any());
+        AttemptJournal journal = new AttemptJournal(directory.resolve("journal.log").toString(), false);
+        journal.compact(Map.of());
+        store = new AttemptSessionStore(quizAttemptRepo, mock(StudentAnswerRepo.class), writer, journal, 1, Duration.ofHours(1), DataSize.ofMegabytes(64));
+
+        for (long attemptId = 1; attemptId <= 3; attemptId++) {
+            store.open(attemptId, 5L);
+            store.record(attemptId, List.of(new StudentAnswerDTO(null, attemptId, 10L, null, 100L, null, true)));
+        }
+
+        ArgumentCaptor<AttemptSession> evicted = ArgumentCaptor.forClass(AttemptSession.class);
+        verify(writer, timeout(5_000).atLeastOnce()).flush(evicted.capture());
+        AttemptSession session = evicted.getValue();
+
+        assertSame(session, store.get(session.getAttemptId()));
+        verify(quizAttemptRepo, never()).findById(anyLong());
+        assertThrows(QuizException.class, () -> store.record(session.getAttemptId(),
+                List.of(new StudentAnswerDTO(null, session.getAttemptId(), 10L, null, 101L, null, false))));
+    }
+
+    @Test
+    void journalKeepsAnswersOfLoadedSessionsThroughCompaction() {
+        QuizAttemptRepo quizAttemptRepo = mock(QuizAttemptRepo.class);
+        Quiz quiz = new Quiz();
+        quiz.setId(5L);
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(7L);
+        attempt.setQuiz(quiz);
+        when(quizAttemptRepo.findById(7L)).thenReturn(Optional.of(attempt));
+        Path path = directory.resolve("journal.log");
+        AttemptJournal journal = new AttemptJournal(path.toString(), false);
+        journal.compact(Map.of());
+        // Compacts on every call
+        store = new AttemptSessionStore(quizAttemptRepo, mock(StudentAnswerRepo.class), mock(AttemptSessionWriter.class),
+                journal, 10, Duration.ofHours(1), DataSize.ofBytes(0));
+
+        // Not opened by this node, so loaded from the database
+        store.record(7L, List.of(new StudentAnswerDTO(null, 7L, 10L, null, 100L, null, true)));
+        store.open(8L, 5L);
+        store.record(8L, List.of(new StudentAnswerDTO(null, 8L, 10L, null, 101L, null, false)));
+        store.compactJournal();
+        store.record(7L, List.of(new StudentAnswerDTO(null, 7L, 11L, null, 110L, null, false)));
+
+        Map<Long, AttemptJournal.RecoveredAttempt> recovered = new AttemptJournal(path.toString(), false).recover();
+        assertEquals(2, recovered.get(7L).pendingAnswers().size());
+        assertEquals(5L, recovered.get(7L).quizId());
+        assertEquals(1, recovered.get(8L).pendingAnswers().size());
+    }
+}
@@ -0,0 +1,42 @@
+package codefusion.softwareproject1;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import codefusion.softwareproject1.dto.AnswerOptionKeyDTO;
+import codefusion.softwareproject1.service.grading.CompiledAnswerKey;
+
+class CompiledAnswerKeyTest {
+
+    @Test
+    void compiledKeyResolvesOptionsRegardlessOfInputOrder() {
+        CompiledAnswerKey key = CompiledAnswerKey.compile(7L, List.of(
+                new AnswerOptionKeyDTO(30L, 2L, 7L, false, "C", "Q2"),
+                new AnswerOptionKeyDTO(10L, 1L, 7L, true, "A", "Q1"),
+                new AnswerOptionKeyDTO(20L, 1L, 7L, null, "B", "Q1")));
+
+        assertEquals(3, key.size());
+
+        int correctOption = key.indexOf(10L);
+        assertEquals(1L, key.questionIdAt(correctOption));
+        assertTrue(key.isCorrectAt(correctOption));
+        assertEquals("A", key.optionTextAt(correctOption));
+        assertEquals("Q1", key.questionTextAt(correctOption));
+
+        assertFalse(key.isCorrectAt(key.indexOf(20L)));
+        assertEquals(2L, key.questionIdAt(key.indexOf(30L)));
+    }
+
+    @Test
+    void unknownOptionIsNotFound() {
+        CompiledAnswerKey key = CompiledAnswerKey.compile(7L, List.of(
+                new AnswerOptionKeyDTO(10L, 1L, 7L, true, "A", "Q1")));
+
+        assertEquals(-1, key.indexOf(11L));
+        assertEquals(-1, CompiledAnswerKey.compile(8L, List.of()).indexOf(10L));
+    }
+}
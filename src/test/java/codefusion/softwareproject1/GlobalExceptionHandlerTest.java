@@ -0,0 +1,32 @@
+package codefusion.softwareproject1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import codefusion.softwareproject1.exception.ErrorResponse;
+import codefusion.softwareproject1.exception.GlobalExceptionHandler;
+import codefusion.softwareproject1.exception.QuizException;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void quizExceptionIsABadRequest() {
+        // Arrange
+        QuizException exception = new QuizException("Question with ID 3 was already answered in attempt ID 7");
+
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleQuizException(exception,
+                new ServletWebRequest(new MockHttpServletRequest()));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals(exception.getMessage(), response.getBody().getMessage());
+    }
+}
@@ -0,0 +1,169 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.entity.Review;
+import codefusion.softwareproject1.entity.StudentAnswer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares insert throughput of the six sequence-mapped entities written row by
+ * row, as they were with IDENTITY ids, and in JDBC batches of the configured
+ * hibernate.jdbc.batch_size. Each quiz is persisted with its questions and
+ * answer options, one attempt answering every question and one review.
+ * Skipped by default; run with
+ * mvn test -Dtest=InsertBatchingBenchmarkTest -Dquiz.insert.benchmark=true
+ * and optionally -Dquiz.insert.benchmark.quizzes=N (default 500).
+ * On the in-memory H2 database a round trip costs next to nothing; for numbers
+ * that reflect a networked database, point -Dspring.datasource.url (with
+ * username, password, driver-class-name and spring.jpa.database-platform) at
+ * a scratch PostgreSQL database.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "quiz.insert.benchmark", matches = "true")
+class InsertBatchingBenchmarkTest {
+
+    private static final int QUESTIONS = 10;
+    private static final int OPTIONS_PER_QUESTION = 4;
+    private static final int ROWS_PER_QUIZ = 1 + QUESTIONS * (1 + OPTIONS_PER_QUESTION) + 1 + QUESTIONS + 1;
+    private static final int FLUSH_EVERY = 20;
+    private static final int RUNS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int jdbcBatchSize;
+
+    @Test
+    void compareRowByRowAndBatchedInserts() {
+        int quizzes = Integer.getInteger("quiz.insert.benchmark.quizzes", 500);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        Map<String, Integer> batchSizes = new LinkedHashMap<>();
+        batchSizes.put("row by row", 1);
+        batchSizes.put("batched", jdbcBatchSize);
+
+        // Warm up both paths, then alternate them so neither benefits from running last
+        batchSizes.values().forEach(batchSize -> insert(batchSize, FLUSH_EVERY));
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (int run = 0; run < RUNS; run++) {
+            for (Map.Entry<String, Integer> mode : batchSizes.entrySet()) {
+                statistics.clear();
+                long nanos = insert(mode.getValue(), quizzes);
+                long[] total = totals.computeIfAbsent(mode.getKey(), name -> new long[2]);
+                total[0] += nanos;
+                total[1] += statistics.getPrepareStatementCount();
+            }
+        }
+
+        long rows = (long) quizzes * ROWS_PER_QUIZ;
+        System.out.printf("inserts: %d quizzes, %d rows per run, averaged over %d runs%n", quizzes, rows, RUNS);
+        System.out.printf("%-12s %10s %12s %10s %12s%n", "mode", "batch", "statements", "ms", "rows/s");
+        totals.forEach((mode, total) -> {
+            double millis = total[0] / 1_000_000.0 / RUNS;
+            System.out.printf("%-12s %10d %12d %10.1f %12.0f%n",
+                    mode, batchSizes.get(mode), total[1] / RUNS, millis, rows / (millis / 1000));
+        });
+
+        assertTrue(totals.get("batched")[1] < totals.get("row by row")[1],
+                "Batching did not reduce the number of insert statements");
+    }
+
+    /**
+     * Persists the quizzes in one transaction with the given JDBC batch size,
+     * flushing and clearing the persistence context every FLUSH_EVERY quizzes.
+     * Returns the elapsed nanoseconds.
+     */
+    private long insert(int batchSize, int quizzes) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        transaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < quizzes; i++) {
+                persistQuiz(i, now);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return System.nanoTime() - start;
+    }
+
+    private void persistQuiz(int index, LocalDateTime now) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Insert benchmark quiz " + index);
+        quiz.setPublished(true);
+        quiz.setCreatedAt(now);
+        quiz.setQuestions(new ArrayList<>());
+        for (int q = 0; q < QUESTIONS; q++) {
+            Question question = new Question();
+            question.setQuestionText("Question " + q);
+            question.setQuiz(quiz);
+            question.setAnswerOptions(new ArrayList<>());
+            for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        entityManager.persist(quiz);
+
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setQuiz(quiz);
+        attempt.setAttemptDate(now);
+        entityManager.persist(attempt);
+        for (Question question : quiz.getQuestions()) {
+            AnswerOption chosen = question.getAnswerOptions().get(index % OPTIONS_PER_QUESTION);
+            StudentAnswer answer = new StudentAnswer();
+            answer.setAttempt(attempt);
+            answer.setQuestion(question);
+            answer.setChosenAnswer(chosen);
+            answer.setCorrect(chosen.getIsCorrect());
+            answer.setCreatedAt(now);
+            entityManager.persist(answer);
+        }
+
+        Review review = new Review();
+        review.setQuiz(quiz);
+        review.setStudentNickname("student" + index);
+        review.setRating(index % 5 + 1);
+        review.setReviewText("Generated review from the insert benchmark");
+        review.setCreatedAt(now);
+        entityManager.persist(review);
+    }
+}
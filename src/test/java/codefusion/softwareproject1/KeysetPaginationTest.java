@@ -0,0 +1,82 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+
+class KeysetPaginationTest {
+
+    @Test
+    void pageSizeIsDefaultedAndClamped() {
+        assertEquals(KeysetPagination.DEFAULT_PAGE_SIZE, KeysetPagination.pageSize(null));
+        assertEquals(1, KeysetPagination.pageSize(0));
+        assertEquals(KeysetPagination.MAX_PAGE_SIZE, KeysetPagination.pageSize(10_000));
+        assertEquals(15, KeysetPagination.pageSize(15));
+    }
+
+    @Test
+    void idCursorRoundTrips() {
+        String cursor = KeysetPagination.encodeId(42L);
+
+        assertEquals(42L, KeysetPagination.decodeId(cursor));
+        assertEquals(0L, KeysetPagination.decodeId(null));
+    }
+
+    @Test
+    void createdAtCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123456000);
+        String cursor = KeysetPagination.encodeCreatedAtAndId(createdAt, 7L);
+
+        KeysetPagination.CreatedAtCursor decoded = KeysetPagination.decodeCreatedAtAndId(cursor);
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(7L, decoded.getId());
+        assertNull(KeysetPagination.decodeCreatedAtAndId(""));
+    }
+
+    @Test
+    void rankCursorRoundTrips() {
+        String cursor = KeysetPagination.encodeRankAndId(0.0759f, 12L);
+
+        KeysetPagination.RankCursor decoded = KeysetPagination.decodeRankAndId(cursor);
+
+        assertEquals(0.0759f, decoded.getRank());
+        assertEquals(12L, decoded.getId());
+        assertNull(KeysetPagination.decodeRankAndId(null));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decodeRankAndId(KeysetPagination.encodeId(12L)));
+    }
+
+    @Test
+    void malformedOrMismatchedCursorIsRejected() {
+        String idCursor = KeysetPagination.encodeId(1L);
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decodeId("not-a-cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decodeCreatedAtAndId(idCursor));
+    }
+
+    @Test
+    void toPageTrimsProbeRowAndSetsNextCursor() {
+        CursorPageDTO<Long> page = KeysetPagination.toPage(List.of(1L, 2L, 3L), 2,
+                KeysetPagination::encodeId, Function.identity());
+
+        assertEquals(List.of(1L, 2L), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(2L, KeysetPagination.decodeId(page.getNextCursor()));
+
+        CursorPageDTO<Long> lastPage = KeysetPagination.toPage(List.of(3L), 2,
+                KeysetPagination::encodeId, Function.identity());
+
+        assertFalse(lastPage.isHasMore());
+        assertNull(lastPage.getNextCursor());
+    }
+}
@@ -0,0 +1,131 @@
+package codefusion.softwareproject1;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codefusion.softwareproject1.dto.LeaderboardEntryDTO;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.repo.LeaderboardEntryRepo;
+import codefusion.softwareproject1.repo.LeaderboardSnapshotRepo;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.LeaderboardService;
+import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.impl.LeaderboardServiceImpl;
+
+/**
+ * A restarted leaderboard, loaded from the snapshots, counts every completed
+ * attempt exactly once, whatever their completion times say.
+ */
+@SpringBootTest
+class LeaderboardSnapshotTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private QuizAttemptRepo quizAttemptRepo;
+
+    @Autowired
+    private LeaderboardSnapshotRepo leaderboardSnapshotRepo;
+
+    @Autowired
+    private LeaderboardEntryRepo leaderboardEntryRepo;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void restartReplaysEveryCompletionMissingFromTheSnapshot() {
+        Quiz quiz = seedQuiz();
+        LocalDateTime now = LocalDateTime.now();
+        record(complete(quiz, 60f, now.minusMinutes(10)));
+        leaderboardService.saveSnapshots();
+
+        // Completed before the snapshot was taken, but applied to the board after it
+        record(complete(quiz, 90f, now.minusMinutes(20)));
+        // Committed, but the application stopped before the board saw it
+        complete(quiz, 75f, now.minusMinutes(5));
+
+        LeaderboardService restarted = beanFactory.createBean(LeaderboardServiceImpl.class);
+
+        List<LeaderboardEntryDTO> top = restarted.getQuizLeaderboard(quiz.getId(), 10);
+        assertEquals(List.of(90f, 75f, 60f), top.stream().map(LeaderboardEntryDTO::getScore).toList());
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(LeaderboardEntryDTO::getRank).toList());
+        assertEquals(3, restarted.getAttemptRank(top.get(2).getAttemptId()).getCompletedAttempts());
+    }
+
+    @Test
+    void rolledBackCompletionsNeitherReachTheBoardNorHoldUpSnapshots() {
+        Quiz quiz = seedQuiz();
+        QuizAttempt attempt = complete(quiz, 70f, LocalDateTime.now());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            leaderboardService.recordCompletion(quiz.getId(), attempt.getId(), attempt.getScore(), attempt.getCompletedAt());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(leaderboardService.getQuizLeaderboard(quiz.getId(), 10).isEmpty());
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> leaderboardService.saveSnapshots());
+    }
+
+    @Test
+    void deletingAQuizDropsItsSnapshot() {
+        Quiz quiz = seedQuiz();
+        QuizAttempt attempt = complete(quiz, 80f, LocalDateTime.now());
+        record(attempt);
+        leaderboardService.saveSnapshots();
+        assertTrue(leaderboardSnapshotRepo.existsById(quiz.getId()));
+
+        quizAttemptRepo.delete(attempt);
+        quizService.deleteQuiz(quiz.getId());
+
+        assertTrue(leaderboardSnapshotRepo.findById(quiz.getId()).isEmpty());
+        assertTrue(leaderboardEntryRepo.findById(attempt.getId()).isEmpty());
+    }
+
+    // Completions are numbered in the transaction that completes the attempt
+    private void record(QuizAttempt attempt) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> leaderboardService.recordCompletion(
+                attempt.getQuiz().getId(), attempt.getId(), attempt.getScore(), attempt.getCompletedAt()));
+    }
+
+    private QuizAttempt complete(Quiz quiz, float score, LocalDateTime completedAt) {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setQuiz(quiz);
+        attempt.setScore(score);
+        attempt.setCompletedAt(completedAt);
+        return quizAttemptRepo.save(attempt);
+    }
+
+    private Quiz seedQuiz() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Ranked quiz");
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        return quizRepo.save(quiz);
+    }
+}
@@ -0,0 +1,153 @@
+package codefusion.softwareproject1;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.repo.OutboxEventRepo;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxListener;
+import codefusion.softwareproject1.service.outbox.OutboxRelay;
+import codefusion.softwareproject1.service.outbox.OutboxSink;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Throughput of the outbox drain loop: the same backlog of events is written
+ * and then relayed to a counting listener with several batch sizes, reporting
+ * events per second and JDBC statements per drain. Skipped by default; run with
+ * mvn test -Dtest=OutboxDrainBenchmarkTest -Dquiz.outbox.benchmark=true
+ * and optionally -Dquiz.outbox.benchmark.events=N (default 20000).
+ * As with InsertBatchingBenchmarkTest, point -Dspring.datasource.url at a
+ * scratch PostgreSQL database for numbers that include network round trips.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "quiz.outbox.benchmark", matches = "true")
+class OutboxDrainBenchmarkTest {
+
+    private static final int[] BATCH_SIZES = {50, 200, 1000};
+    private static final int APPENDS_PER_TRANSACTION = 500;
+    private static final int RUNS = 3;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CountingListener listener;
+
+    @Test
+    void compareDrainThroughputByBatchSize() {
+        int events = Integer.getInteger("quiz.outbox.benchmark.events", 20_000);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        outboxEventRepo.deleteAllInBatch();
+
+        // Warm up every batch size on a small backlog, then alternate them
+        for (int batchSize : BATCH_SIZES) {
+            append(batchSize * 2);
+            relay(batchSize).drain();
+        }
+        Map<Integer, long[]> totals = new LinkedHashMap<>();
+        long appendNanos = 0;
+        for (int run = 0; run < RUNS; run++) {
+            for (int batchSize : BATCH_SIZES) {
+                appendNanos += append(events);
+                listener.delivered.set(0);
+                statistics.clear();
+
+                long start = System.nanoTime();
+                int drained = relay(batchSize).drain();
+                long nanos = System.nanoTime() - start;
+
+                assertEquals(events, drained);
+                assertEquals(events, listener.delivered.get());
+                long[] total = totals.computeIfAbsent(batchSize, size -> new long[2]);
+                total[0] += nanos;
+                total[1] += statistics.getPrepareStatementCount();
+            }
+        }
+
+        double appendMillis = appendNanos / 1_000_000.0 / (RUNS * BATCH_SIZES.length);
+        System.out.printf("outbox: %d events per drain, averaged over %d runs%n", events, RUNS);
+        System.out.printf("append: %.1f ms, %.0f events/s in transactions of %d%n",
+                appendMillis, events / (appendMillis / 1000), APPENDS_PER_TRANSACTION);
+        System.out.printf("%-8s %12s %10s %12s%n", "batch", "statements", "ms", "events/s");
+        totals.forEach((batchSize, total) -> {
+            double millis = total[0] / 1_000_000.0 / RUNS;
+            System.out.printf("%-8d %12d %10.1f %12.0f%n", batchSize, total[1] / RUNS, millis, events / (millis / 1000));
+        });
+        assertEquals(0, outboxEventRepo.count());
+    }
+
+    /**
+     * Writes the events through the outbox writer, APPENDS_PER_TRANSACTION per
+     * transaction. Returns the elapsed nanoseconds.
+     */
+    private long append(int events) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        for (int first = 0; first < events; first += APPENDS_PER_TRANSACTION) {
+            int from = first;
+            transaction.executeWithoutResult(status -> {
+                for (int i = from; i < Math.min(from + APPENDS_PER_TRANSACTION, events); i++) {
+                    outboxWriter.append(new DomainEvent.ReviewCreated(i, i % 100, i % 5 + 1));
+                }
+            });
+        }
+        return System.nanoTime() - start;
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(outboxEventRepo, applicationContext.getBeanProvider(OutboxListener.class),
+                applicationContext.getBeanProvider(OutboxSink.class), transactionManager,
+                new SimpleMeterRegistry(), true, batchSize, 10, Duration.ofSeconds(1), Duration.ofMinutes(10));
+    }
+
+    static class CountingListener implements OutboxListener {
+
+        final AtomicLong delivered = new AtomicLong();
+
+        @Override
+        public void onEvents(List<OutboxEvent> events) {
+            delivered.addAndGet(events.size());
+        }
+    }
+
+    @TestConfiguration
+    static class Counting {
+
+        @Bean
+        CountingListener countingListener() {
+            return new CountingListener();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package codefusion.softwareproject1;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.ReviewDTO;
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.exception.UnauthorizedActionException;
+import codefusion.softwareproject1.repo.OutboxEventRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizTransferService;
+import codefusion.softwareproject1.service.ReviewService;
+import codefusion.softwareproject1.service.outbox.DomainEvent;
+import codefusion.softwareproject1.service.outbox.OutboxListener;
+import codefusion.softwareproject1.service.outbox.OutboxRelay;
+import codefusion.softwareproject1.service.outbox.OutboxWriter;
+
+/**
+ * Domain events are stored with the change that caused them and reach the
+ * listeners through the relay, which the test drives instead of the schedule.
+ */
+@SpringBootTest
+class OutboxRelayTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private QuizTransferService quizTransferService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void drainEarlierEvents() {
+        listener.failOn = null;
+        outboxRelay.drain();
+        listener.events.clear();
+    }
+
+    @Test
+    void relaysTheEventOfACommittedChangeOnce() {
+        ReviewDTO review = reviewService.createReview(review(seedQuiz(true)));
+        assertTrue(outboxEventRepo.count() > 0, "the event is stored with the review");
+
+        outboxRelay.drain();
+
+        List<OutboxEvent> created = listener.eventsOf(DomainEvent.REVIEW, review.getId());
+        assertEquals(1, created.size());
+        assertEquals("ReviewCreated", created.get(0).getEventType());
+        assertTrue(created.get(0).getPayload().contains("\"rating\":4"), created.get(0).getPayload());
+        assertEquals(0, outboxEventRepo.count());
+        assertEquals(0, outboxRelay.drain());
+    }
+
+    @Test
+    void storesEventsOnlyWithinACommittedTransaction() {
+        Quiz quiz = seedQuiz(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxWriter.append(new DomainEvent.QuizDeleted(quiz.getId()));
+            status.setRollbackOnly();
+        });
+        assertEquals(0, outboxEventRepo.count());
+
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxWriter.append(new DomainEvent.QuizDeleted(quiz.getId())));
+        assertThrows(UnauthorizedActionException.class, () -> reviewService.createReview(review(seedQuiz(false))));
+        assertEquals(0, outboxEventRepo.count());
+    }
+
+    @Test
+    void redeliversABatchAListenerFailedOn() {
+        ReviewDTO review = reviewService.createReview(review(seedQuiz(true)));
+        listener.failNext = true;
+
+        assertThrows(IllegalStateException.class, () -> outboxRelay.drain());
+        assertTrue(outboxEventRepo.count() > 0, "the failed batch stays in the outbox");
+
+        outboxRelay.drain();
+        assertFalse(listener.eventsOf(DomainEvent.REVIEW, review.getId()).isEmpty());
+        assertEquals(0, outboxEventRepo.count());
+    }
+
+    @Test
+    void deadLettersAnEventThatKeepsFailingAndDeliversTheRest() {
+        ReviewDTO poison = reviewService.createReview(review(seedQuiz(true)));
+        ReviewDTO healthy = reviewService.createReview(review(seedQuiz(true)));
+        listener.failOn = poison.getId();
+
+        // The first failure counts against both events, the retries against the poison one alone
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            assertThrows(IllegalStateException.class, () -> outboxRelay.drain());
+        }
+        outboxRelay.drain();
+
+        assertEquals(1, listener.eventsOf(DomainEvent.REVIEW, healthy.getId()).size());
+        assertTrue(listener.eventsOf(DomainEvent.REVIEW, poison.getId()).isEmpty());
+        OutboxEvent deadLettered = outboxEventRepo.findAll().get(0);
+        assertEquals(poison.getId(), deadLettered.getAggregateId());
+        assertEquals(3, deadLettered.getAttempts());
+        assertNotNull(deadLettered.getDeadLetteredAt());
+        assertTrue(deadLettered.getLastError().contains("Listener failed"), deadLettered.getLastError());
+        assertEquals(0, outboxRelay.drain());
+        outboxEventRepo.delete(deadLettered);
+    }
+
+    @Test
+    void importedQuizzesAnnounceThemselves() throws Exception {
+        String title = "Imported through the outbox " + System.nanoTime();
+        quizTransferService.importQuizzes(new ByteArrayInputStream(
+                ("{\"title\":\"" + title + "\",\"published\":false,\"questions\":[]}").getBytes(StandardCharsets.UTF_8)));
+
+        outboxRelay.drain();
+
+        assertTrue(listener.events.stream().anyMatch(event -> event.getEventType().equals("QuizCreated")
+                && event.getPayload().contains(title)), "QuizCreated of the imported quiz");
+    }
+
+    private CreateReviewDTO review(Quiz quiz) {
+        return new CreateReviewDTO(quiz.getId(), "outbox-student", 4, "Relayed through the outbox");
+    }
+
+    private Quiz seedQuiz(boolean published) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Outbox quiz");
+        quiz.setPublished(published);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        return quizRepo.save(quiz);
+    }
+
+    static class RecordingListener implements OutboxListener {
+
+        final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        volatile boolean failNext;
+        volatile Long failOn; // Review whose event fails every batch holding it
+
+        @Override
+        public void onEvents(List<OutboxEvent> batch) {
+            if (failNext || batch.stream().anyMatch(event -> event.getAggregateType().equals(DomainEvent.REVIEW)
+                    && event.getAggregateId().equals(failOn))) {
+                failNext = false;
+                throw new IllegalStateException("Listener failed");
+            }
+            events.addAll(batch);
+        }
+
+        List<OutboxEvent> eventsOf(String aggregateType, Long aggregateId) {
+            return events.stream()
+                    .filter(event -> event.getAggregateType().equals(aggregateType) && event.getAggregateId().equals(aggregateId))
+                    .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class Listening {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
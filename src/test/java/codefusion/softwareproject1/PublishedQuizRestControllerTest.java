@@ -5,19 +5,27 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import codefusion.softwareproject1.controllers.PublishedQuizRestController;
+import codefusion.softwareproject1.dto.CursorPageDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.cache.ETagged;
 
 class PublishedQuizRestControllerTest {
 
@@ -33,17 +41,18 @@ class PublishedQuizRestControllerTest {
     @Test
     void getPublishedQuizzesReturnsEmptyListWhenNoQuizzesExist() {
         // Arrange
-        when(quizService.getPublishedQuizzes()).thenReturn(Collections.emptyList());
+        when(quizService.getPublishedQuizzesETag()).thenReturn("published-quizzes-1");
+        when(quizService.getPublishedQuizzesWithETag()).thenReturn(new ETagged<>("published-quizzes-1", Collections.emptyList()));
 
         // Act
-        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes();
+        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes(new ServletWebRequest(new MockHttpServletRequest()));
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
 
-        verify(quizService, times(1)).getPublishedQuizzes();
+        verify(quizService, times(1)).getPublishedQuizzesWithETag();
     }
 
     @Test
@@ -54,17 +63,84 @@ class PublishedQuizRestControllerTest {
         quiz1.setTitle("Sample Quiz");
 
         List<QuizDTO> quizList = List.of(quiz1);
-        when(quizService.getPublishedQuizzes()).thenReturn(quizList);
+        when(quizService.getPublishedQuizzesETag()).thenReturn("published-quizzes-1");
+        when(quizService.getPublishedQuizzesWithETag()).thenReturn(new ETagged<>("published-quizzes-1", quizList));
 
         // Act
-        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes();
+        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes(new ServletWebRequest(new MockHttpServletRequest()));
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
         assertEquals("Sample Quiz", response.getBody().get(0).getTitle());
+        assertEquals("\"published-quizzes-1\"", response.getHeaders().getETag());
 
-        verify(quizService, times(1)).getPublishedQuizzes();
+        verify(quizService, times(1)).getPublishedQuizzesWithETag();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPublishedQuizzesReturnsNotModifiedWhenETagMatches() {
+        // Arrange
+        when(quizService.getPublishedQuizzesETag()).thenReturn("published-quizzes-1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/published-quizzes");
+        request.addHeader("If-None-Match", "\"published-quizzes-1\"");
+
+        // Act
+        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes(new ServletWebRequest(request));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"published-quizzes-1\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(quizService, never()).getPublishedQuizzesWithETag();
+    }
+
+    @Test
+    void getPublishedQuizzesSendsTheETagOfTheBodyWhenItChangedSinceTheCheck() {
+        // Arrange
+        when(quizService.getPublishedQuizzesETag()).thenReturn("published-quizzes-1");
+        when(quizService.getPublishedQuizzesWithETag()).thenReturn(new ETagged<>("published-quizzes-2", List.of(new QuizDTO())));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/published-quizzes");
+        request.addHeader("If-None-Match", "\"published-quizzes-0\"");
+
+        // Act
+        ResponseEntity<List<QuizDTO>> response = publishedQuizRestController.getPublishedQuizzes(new ServletWebRequest(request));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"published-quizzes-2\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getPublishedQuizSummariesReturnsOkEvenWhenEmpty() {
+        // Arrange
+        when(quizService.getPublishedQuizSummaries()).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<QuizSummaryDTO>> response = publishedQuizRestController.getPublishedQuizSummaries();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isEmpty());
+
+        verify(quizService, times(1)).getPublishedQuizSummaries();
+    }
+
+    @Test
+    void searchPublishedQuizzesOnlySearchesPublishedQuizzes() {
+        // Arrange
+        QuizSearchResultDTO result = new QuizSearchResultDTO(1L, "Java basics", null, "SWD4TA020", true, 2L, "Programming", 0.5f);
+        CursorPageDTO<QuizSearchResultDTO> page = new CursorPageDTO<>(List.of(result), null, false);
+        when(quizService.searchQuizzes("java", 2L, true, null, 10)).thenReturn(page);
+
+        // Act
+        ResponseEntity<CursorPageDTO<QuizSearchResultDTO>> response = publishedQuizRestController.searchPublishedQuizzes("java", 2L, null, 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(quizService, times(1)).searchQuizzes("java", 2L, true, null, 10);
+    }
+}
@@ -1,12 +1,15 @@
 package codefusion.softwareproject1;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -14,29 +17,43 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import codefusion.softwareproject1.controllers.QuizAttemptRestController;
 import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.AttemptRankDTO;
+import codefusion.softwareproject1.dto.LeaderboardEntryDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
 import codefusion.softwareproject1.dto.QuizAttemptDTO;
 import codefusion.softwareproject1.dto.QuizResultDTO;
+import codefusion.softwareproject1.dto.QuizStatisticsDTO;
+import codefusion.softwareproject1.dto.QuizSubmissionResultDTO;
 import codefusion.softwareproject1.dto.StudentAnswerDTO;
-import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.exception.ResourceNotFoundException;
+import codefusion.softwareproject1.service.AttemptExportService;
+import codefusion.softwareproject1.service.LeaderboardService;
 import codefusion.softwareproject1.service.QuizAttemptService;
-import codefusion.softwareproject1.service.mapper.StudentAnswerMapper;
+import codefusion.softwareproject1.service.QuizStatisticsService;
 
 class QuizAttemptRestControllerTest {
 
     private QuizAttemptService quizAttemptService;
-    private StudentAnswerMapper studentAnswerMapper;
+    private LeaderboardService leaderboardService;
+    private AttemptExportService attemptExportService;
+    private QuizStatisticsService quizStatisticsService;
     private QuizAttemptRestController quizAttemptRestController;
 
     @BeforeEach
     void setUp() {
         quizAttemptService = mock(QuizAttemptService.class);
-        studentAnswerMapper = mock(StudentAnswerMapper.class);
-        quizAttemptRestController = new QuizAttemptRestController(quizAttemptService, studentAnswerMapper);
+        leaderboardService = mock(LeaderboardService.class);
+        attemptExportService = mock(AttemptExportService.class);
+        quizStatisticsService = mock(QuizStatisticsService.class);
+        quizAttemptRestController = new QuizAttemptRestController(quizAttemptService, leaderboardService,
+                attemptExportService, quizStatisticsService);
     }
 
     @Test
@@ -74,11 +91,9 @@ class QuizAttemptRestControllerTest {
         Long attemptId = 1L;
         Long questionId = 10L;
         AnswerSubmissionDTO submissionDTO = new AnswerSubmissionDTO();
-        StudentAnswer studentAnswer = new StudentAnswer();
         StudentAnswerDTO responseDto = new StudentAnswerDTO();
 
-        when(quizAttemptService.submitStudentAnswer(eq(attemptId), eq(questionId), eq(submissionDTO), anyLong())).thenReturn(studentAnswer);
-        when(studentAnswerMapper.toDto(studentAnswer)).thenReturn(responseDto);
+        when(quizAttemptService.submitStudentAnswer(eq(attemptId), eq(questionId), eq(submissionDTO), anyLong())).thenReturn(responseDto);
 
         // Act
         ResponseEntity<StudentAnswerDTO> response = quizAttemptRestController.submitAnswer(attemptId, questionId, submissionDTO);
@@ -87,7 +102,41 @@ class QuizAttemptRestControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         verify(quizAttemptService, times(1)).submitStudentAnswer(eq(attemptId), eq(questionId), eq(submissionDTO), anyLong());
-        verify(studentAnswerMapper, times(1)).toDto(studentAnswer);
+    }
+
+    @Test
+    void submitAnswersReturnsOkWithGradedResult() {
+        // Arrange
+        Long attemptId = 1L;
+        QuizAnswerSubmissionDTO submissionDTO = new QuizAnswerSubmissionDTO(5L, 2L, Map.of(10L, 100L, 11L, 110L));
+        QuizSubmissionResultDTO resultDTO = new QuizSubmissionResultDTO(attemptId, 5L, 2, 1L, Collections.emptyList());
+        when(quizAttemptService.submitStudentAnswers(attemptId, submissionDTO)).thenReturn(resultDTO);
+
+        // Act
+        ResponseEntity<QuizSubmissionResultDTO> response = quizAttemptRestController.submitAnswers(attemptId, submissionDTO);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resultDTO, response.getBody());
+        verify(quizAttemptService, times(1)).submitStudentAnswers(attemptId, submissionDTO);
+    }
+
+    @Test
+    void completeQuizAttemptReturnsOkWithScore() {
+        // Arrange
+        Long attemptId = 1L;
+        QuizAttemptDTO attemptDTO = new QuizAttemptDTO();
+        attemptDTO.setId(attemptId);
+        attemptDTO.setScore(75f);
+        when(quizAttemptService.completeQuizAttempt(attemptId)).thenReturn(attemptDTO);
+
+        // Act
+        ResponseEntity<QuizAttemptDTO> response = quizAttemptRestController.completeQuizAttempt(attemptId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(75f, response.getBody().getScore());
+        verify(quizAttemptService, times(1)).completeQuizAttempt(attemptId);
     }
 
     @Test
@@ -105,4 +154,110 @@ class QuizAttemptRestControllerTest {
         assertNotNull(response.getBody());
         verify(quizAttemptService, times(1)).getQuizResults(quizId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void rebuildQuizResultsReturnsOkWithRefreshedResults() {
+        // Arrange
+        Long quizId = 5L;
+        QuizResultDTO resultDTO = new QuizResultDTO(quizId, "Quiz", Collections.emptyList());
+        when(quizAttemptService.rebuildQuizResults(quizId)).thenReturn(resultDTO);
+
+        // Act
+        ResponseEntity<QuizResultDTO> response = quizAttemptRestController.rebuildQuizResults(quizId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resultDTO, response.getBody());
+        verify(quizAttemptService, times(1)).rebuildQuizResults(quizId);
+    }
+
+    @Test
+    void getQuizLeaderboardReturnsOkWithEntries() {
+        // Arrange
+        Long quizId = 5L;
+        List<LeaderboardEntryDTO> entries = List.of(new LeaderboardEntryDTO(1, 7L, quizId, 100f, null));
+        when(leaderboardService.getQuizLeaderboard(quizId, 50)).thenReturn(entries);
+
+        // Act
+        ResponseEntity<List<LeaderboardEntryDTO>> response = quizAttemptRestController.getQuizLeaderboard(quizId, 50);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(entries, response.getBody());
+        verify(leaderboardService, times(1)).getQuizLeaderboard(quizId, 50);
+    }
+
+    @Test
+    void getCategoryLeaderboardReturnsOkWithEntries() {
+        // Arrange
+        Long categoryId = 3L;
+        when(leaderboardService.getCategoryLeaderboard(categoryId, null)).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<LeaderboardEntryDTO>> response = quizAttemptRestController.getCategoryLeaderboard(categoryId, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        verify(leaderboardService, times(1)).getCategoryLeaderboard(categoryId, null);
+    }
+
+    @Test
+    void getAttemptRankReturnsOkWithRank() {
+        // Arrange
+        Long attemptId = 7L;
+        AttemptRankDTO rankDTO = new AttemptRankDTO(attemptId, 5L, 80f, 3, 12);
+        when(leaderboardService.getAttemptRank(attemptId)).thenReturn(rankDTO);
+
+        // Act
+        ResponseEntity<AttemptRankDTO> response = quizAttemptRestController.getAttemptRank(attemptId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, response.getBody().getRank());
+        verify(leaderboardService, times(1)).getAttemptRank(attemptId);
+    }
+
+    @Test
+    void getQuizStatisticsReturnsOkWithStatistics() {
+        // Arrange
+        Long quizId = 4L;
+        QuizStatisticsDTO statisticsDTO = new QuizStatisticsDTO(quizId, "Quiz", 2L, 75.0, 25.0, Collections.emptyList());
+        when(quizStatisticsService.getQuizStatistics(quizId)).thenReturn(statisticsDTO);
+
+        // Act
+        ResponseEntity<QuizStatisticsDTO> response = quizAttemptRestController.getQuizStatistics(quizId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2L, response.getBody().getCompletedAttempts());
+        verify(quizStatisticsService, times(1)).getQuizStatistics(quizId);
+    }
+
+    @Test
+    void exportAttemptAnswersStreamsCsvAttachment() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(attemptExportService.exportFileName(null, "CS101")).thenReturn("attempts-CS101.csv");
+
+        // Act
+        quizAttemptRestController.exportAttemptAnswers(null, "CS101", response);
+
+        // Assert
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        assertEquals("attachment; filename=\"attempts-CS101.csv\"", response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        verify(attemptExportService, times(1)).exportAttemptAnswers(eq(null), eq("CS101"), any());
+    }
+
+    @Test
+    void exportAttemptAnswersFailsBeforeWritingWhenQuizIsUnknown() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(attemptExportService.exportFileName(9L, null)).thenThrow(new ResourceNotFoundException("Quiz", "id", 9L));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> quizAttemptRestController.exportAttemptAnswers(9L, null, response));
+        assertEquals(null, response.getContentType());
+        verify(attemptExportService, never()).exportAttemptAnswers(any(), any(), any());
+    }
+}
@@ -0,0 +1,130 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.QuizAnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.QuizAttemptDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.exception.GlobalExceptionHandler;
+import codefusion.softwareproject1.exception.QuizException;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizAttemptService;
+
+/**
+ * Completion scores an attempt by question points from the stored answers,
+ * and closes it for further submissions.
+ */
+@SpringBootTest
+class QuizAttemptScoringTest {
+
+    @Autowired
+    private QuizAttemptService quizAttemptService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private QuizAttemptRepo quizAttemptRepo;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Test
+    void completionStoresPointsWeightedScoreAndClosesAttempt() {
+        // Questions worth 1, 2 and 3 points; option 0 is correct
+        Quiz quiz = seedQuiz(1, 2, 3);
+        Question easy = quiz.getQuestions().get(0);
+        Question medium = quiz.getQuestions().get(1);
+        Question hard = quiz.getQuestions().get(2);
+
+        Long attemptId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+        quizAttemptService.submitStudentAnswer(attemptId, easy.getId(),
+                new AnswerSubmissionDTO(easy.getAnswerOptions().get(0).getId()), 1L);
+        quizAttemptService.submitStudentAnswers(attemptId, new QuizAnswerSubmissionDTO(quiz.getId(), 1L, Map.of(
+                medium.getId(), medium.getAnswerOptions().get(1).getId(),
+                hard.getId(), hard.getAnswerOptions().get(0).getId())));
+
+        QuizAttemptDTO completed = quizAttemptService.completeQuizAttempt(attemptId);
+
+        assertEquals("COMPLETED", completed.getStatus());
+        assertNotNull(completed.getCompletedAt());
+        assertEquals(4L, completed.getEarnedPoints());
+        assertEquals(6L, completed.getPossiblePoints());
+        assertEquals(2L, completed.getCorrectAnswers());
+        assertEquals(400f / 6, completed.getScore(), 0.01f);
+        assertEquals(completed.getScore(), quizAttemptRepo.findById(attemptId).orElseThrow().getScore());
+
+        assertThrows(QuizException.class, () -> quizAttemptService.submitStudentAnswer(attemptId, medium.getId(),
+                new AnswerSubmissionDTO(medium.getAnswerOptions().get(0).getId()), 1L));
+        assertThrows(QuizException.class, () -> quizAttemptService.completeQuizAttempt(attemptId));
+    }
+
+    @Test
+    void answeringTheSameQuestionTwiceIsRejected() {
+        Quiz quiz = seedQuiz(1);
+        Question question = quiz.getQuestions().get(0);
+        Long attemptId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+
+        quizAttemptService.submitStudentAnswer(attemptId, question.getId(),
+                new AnswerSubmissionDTO(question.getAnswerOptions().get(1).getId()), 1L);
+
+        assertThrows(QuizException.class, () -> quizAttemptService.submitStudentAnswer(attemptId, question.getId(),
+                new AnswerSubmissionDTO(question.getAnswerOptions().get(0).getId()), 1L));
+        assertEquals(0f, quizAttemptService.completeQuizAttempt(attemptId).getScore());
+    }
+
+    @Test
+    void conflictingSubmissionsAndRepeatedCompletionAreBadRequests() {
+        Quiz quiz = seedQuiz(1);
+        Question question = quiz.getQuestions().get(0);
+        Long attemptId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+
+        QuizException mismatch = assertThrows(QuizException.class, () -> quizAttemptService.submitStudentAnswers(attemptId,
+                new QuizAnswerSubmissionDTO(quiz.getId() + 1, 1L, Map.of(question.getId(), question.getAnswerOptions().get(0).getId()))));
+        quizAttemptService.completeQuizAttempt(attemptId);
+        QuizException repeated = assertThrows(QuizException.class, () -> quizAttemptService.completeQuizAttempt(attemptId));
+
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        assertEquals(HttpStatus.BAD_REQUEST, exceptionHandler.handleQuizException(mismatch, request).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, exceptionHandler.handleQuizException(repeated, request).getStatusCode());
+    }
+
+    private Quiz seedQuiz(int... points) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Scoring quiz");
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        for (int q = 0; q < points.length; q++) {
+            Question question = new Question();
+            question.setQuestionText("Question " + q);
+            question.setPoints(points[q]);
+            question.setQuiz(quiz);
+            question.setAnswerOptions(new ArrayList<>());
+            for (int o = 0; o < 2; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quizRepo.save(quiz);
+    }
+}
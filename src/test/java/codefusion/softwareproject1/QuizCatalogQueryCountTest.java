@@ -0,0 +1,196 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Category;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.metrics.QueryCountFilter;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.cache.QuizCache;
+
+/**
+ * Guards the catalog read path against N+1 regressions: the number of
+ * statements issued per request, as reported in the X-Query-Count header,
+ * must not grow with the number of quizzes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QuizCatalogQueryCountTest {
+
+    // One statement computes the ETag; the graph takes two more, plus the fingerprint of its own snapshot
+    private static final int MAX_CATALOG_QUERIES = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+
+    @Autowired
+    private QuizCache quizCache;
+
+    @Autowired
+    private QuizService quizService;
+
+    @BeforeEach
+    void setUp() {
+        quizRepo.deleteAll();
+        categoryRepo.deleteAll();
+    }
+
+    @Test
+    void getAllQuizzesUsesConstantNumberOfQueries() throws Exception {
+        seedQuizzes(3);
+        long smallCatalog = countQueries("/api/quizzes", 3);
+
+        seedQuizzes(17);
+        long largeCatalog = countQueries("/api/quizzes", 20);
+
+        assertEquals(smallCatalog, largeCatalog);
+        assertTrue(largeCatalog <= MAX_CATALOG_QUERIES, "Expected at most " + MAX_CATALOG_QUERIES + " queries but was " + largeCatalog);
+    }
+
+    @Test
+    void getPublishedQuizzesUsesConstantNumberOfQueries() throws Exception {
+        seedQuizzes(3);
+        long smallCatalog = countQueries("/api/published-quizzes", 3);
+
+        seedQuizzes(17);
+        long largeCatalog = countQueries("/api/published-quizzes", 20);
+
+        assertEquals(smallCatalog, largeCatalog);
+        assertTrue(largeCatalog <= MAX_CATALOG_QUERIES, "Expected at most " + MAX_CATALOG_QUERIES + " queries but was " + largeCatalog);
+    }
+
+    @Test
+    void publishedQuizzesAreServedFromCacheUntilEvicted() throws Exception {
+        seedQuizzes(3);
+        assertTrue(countQueries("/api/published-quizzes", 3) > 0);
+
+        assertEquals(0, countCachedQueries("/api/published-quizzes", 3));
+
+        quizCache.evictQuiz(null);
+        assertTrue(countCachedQueries("/api/published-quizzes", 3) > 0);
+    }
+
+    @Test
+    void notModifiedResponsesDoNotLoadTheQuizzes() throws Exception {
+        seedQuizzes(3);
+        countQueries("/api/quizzes", 3);
+        for (String url : List.of("/api/quizzes", "/api/published-quizzes")) {
+            String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get(url).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(QueryCountFilter.HEADER, "0"));
+        }
+    }
+
+    @Test
+    void quizChangesReplaceTheCachedETagAndBody() throws Exception {
+        seedQuizzes(1);
+        countQueries("/api/published-quizzes", 1);
+        String etag = mockMvc.perform(get("/api/published-quizzes")).andReturn().getResponse().getHeader("ETag");
+
+        Quiz quiz = quizRepo.findAll().get(0);
+        QuizDTO changes = quizService.getQuizById(quiz.getId());
+        changes.setTitle("Renamed");
+        quizService.updateQuiz(quiz.getId(), changes);
+
+        String renamedETag = mockMvc.perform(get("/api/published-quizzes").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Renamed"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, renamedETag);
+    }
+
+    @Test
+    void cachedQuizzesCannotBeChangedByCallers() {
+        seedQuizzes(1);
+        quizCache.evictAll();
+
+        List<QuizDTO> loaded = quizService.getPublishedQuizzes();
+        loaded.get(0).setTitle("Changed by the first caller");
+        loaded.get(0).getQuestions().clear();
+
+        List<QuizDTO> cached = quizService.getPublishedQuizzes();
+        cached.get(0).getQuestions().get(0).getAnswerOptions().get(0).setText("Changed by the second caller");
+
+        QuizDTO quiz = quizService.getPublishedQuizzes().get(0);
+        assertEquals("Quiz 0", quiz.getTitle());
+        assertEquals(3, quiz.getQuestions().size());
+        assertEquals("Option 0", quiz.getQuestions().get(0).getAnswerOptions().get(0).getText());
+    }
+
+    private long countQueries(String url, int expectedQuizzes) throws Exception {
+        // Measure the database path, not the quiz cache
+        quizCache.evictAll();
+        return countCachedQueries(url, expectedQuizzes);
+    }
+
+    private long countCachedQueries(String url, int expectedQuizzes) throws Exception {
+        String queries = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryCountFilter.HEADER))
+                .andExpect(jsonPath("$", hasSize(expectedQuizzes)))
+                .andExpect(jsonPath("$[0].questions", hasSize(3)))
+                .andExpect(jsonPath("$[0].questions[0].answerOptions", hasSize(4)))
+                .andReturn().getResponse().getHeader(QueryCountFilter.HEADER);
+        return Long.parseLong(queries);
+    }
+
+    private void seedQuizzes(int count) {
+        Category category = new Category();
+        category.setName("Category " + System.nanoTime());
+        category = categoryRepo.save(category);
+
+        for (int i = 0; i < count; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setTitle("Quiz " + i);
+            quiz.setPublished(true);
+            quiz.setCategory(category);
+            quiz.setCreatedAt(LocalDateTime.now());
+            quiz.setQuestions(new ArrayList<>());
+
+            for (int q = 0; q < 3; q++) {
+                Question question = new Question();
+                question.setQuestionText("Question " + q);
+                question.setQuiz(quiz);
+                question.setAnswerOptions(new ArrayList<>());
+                for (int o = 0; o < 4; o++) {
+                    AnswerOption option = new AnswerOption();
+                    option.setText("Option " + o);
+                    option.setIsCorrect(o == 0);
+                    question.addAnswerOption(option);
+                }
+                quiz.getQuestions().add(question);
+            }
+            quizRepo.save(quiz);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import codefusion.softwareproject1.service.leaderboard.QuizLeaderboard;
+
+class QuizLeaderboardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    void keepsOnlyTheBestEntriesButRanksEveryScore() {
+        QuizLeaderboard leaderboard = new QuizLeaderboard(1L, 2);
+        leaderboard.add(entry(1L, 50f, 0));
+        leaderboard.add(entry(2L, 90f, 1));
+        leaderboard.add(entry(3L, 70f, 2));
+        leaderboard.add(entry(4L, 90f, 3));
+
+        List<QuizLeaderboard.Entry> top = leaderboard.top(10);
+        assertEquals(List.of(2L, 4L), top.stream().map(QuizLeaderboard.Entry::attemptId).toList());
+
+        assertEquals(4, leaderboard.attemptCount());
+        assertEquals(1, leaderboard.rankOf(90f));
+        assertEquals(3, leaderboard.rankOf(70f));
+        assertEquals(4, leaderboard.rankOf(50f));
+        assertEquals(5, leaderboard.rankOf(10f));
+    }
+
+    @Test
+    void restoredSnapshotMatchesTheOriginal() {
+        QuizLeaderboard original = new QuizLeaderboard(1L, 3);
+        for (int i = 0; i < 6; i++) {
+            original.add(entry(i, i * 10f, i));
+        }
+        QuizLeaderboard.Snapshot snapshot = original.snapshot();
+
+        QuizLeaderboard restored = new QuizLeaderboard(1L, 3);
+        restored.restore(snapshot.entries(), snapshot.scoreCounts());
+
+        assertEquals(original.top(3), restored.top(3));
+        assertEquals(original.attemptCount(), restored.attemptCount());
+        assertEquals(original.rankOf(15f), restored.rankOf(15f));
+        assertEquals(1, restored.rankOf(50f));
+    }
+
+    private static QuizLeaderboard.Entry entry(long attemptId, float score, int minutes) {
+        return new QuizLeaderboard.Entry(attemptId, score, START.plusMinutes(minutes));
+    }
+}
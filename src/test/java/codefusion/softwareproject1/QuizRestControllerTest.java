@@ -1,5 +1,8 @@
 package codefusion.softwareproject1;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -11,18 +14,26 @@ import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import codefusion.softwareproject1.controllers.QuizRestController;
 import codefusion.softwareproject1.dto.AnswerOptionDTO;
 import codefusion.softwareproject1.dto.QuestionDTO;
 import codefusion.softwareproject1.dto.QuizDTO;
+import codefusion.softwareproject1.dto.QuizImportResultDTO;
+import codefusion.softwareproject1.dto.QuizSummaryDTO;
 import codefusion.softwareproject1.service.AnswerOptionService;
 import codefusion.softwareproject1.service.QuestionService;
 import codefusion.softwareproject1.service.QuizService;
+import codefusion.softwareproject1.service.QuizTransferService;
+import codefusion.softwareproject1.service.cache.ETagged;
 
 class QuizRestControllerTest {
 
@@ -35,6 +46,9 @@ class QuizRestControllerTest {
     @Mock
     private AnswerOptionService answerOptionService;
 
+    @Mock
+    private QuizTransferService quizTransferService;
+
     @InjectMocks
     private QuizRestController quizRestController;
 
@@ -63,12 +77,29 @@ class QuizRestControllerTest {
         QuizDTO quiz1 = new QuizDTO();
         QuizDTO quiz2 = new QuizDTO();
 
-        when(quizService.getAllQuizzes()).thenReturn(Arrays.asList(quiz1, quiz2));
+        when(quizService.getAllQuizzesETag()).thenReturn("quizzes-1");
+        when(quizService.getAllQuizzesWithETag()).thenReturn(new ETagged<>("quizzes-1", Arrays.asList(quiz1, quiz2)));
 
-        ResponseEntity<List<QuizDTO>> response = quizRestController.getAllQuizzes();
+        ResponseEntity<List<QuizDTO>> response = quizRestController.getAllQuizzes(new ServletWebRequest(new MockHttpServletRequest()));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(2, response.getBody().size());
+        assertEquals("\"quizzes-1\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetQuizSummaries() {
+        QuizSummaryDTO summary = new QuizSummaryDTO();
+        summary.setId(1L);
+        summary.setQuestionCount(3L);
+
+        when(quizService.getQuizSummaries()).thenReturn(List.of(summary));
+
+        ResponseEntity<List<QuizSummaryDTO>> response = quizRestController.getQuizSummaries();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(3L, response.getBody().get(0).getQuestionCount());
     }
 
     @Test
@@ -76,9 +107,10 @@ class QuizRestControllerTest {
         QuizDTO quizDTO = new QuizDTO();
         quizDTO.setId(1L);
 
-        when(quizService.getQuizById(1L)).thenReturn(quizDTO);
+        when(quizService.getQuizETag(1L)).thenReturn("quiz-1");
+        when(quizService.getQuizWithETag(1L)).thenReturn(new ETagged<>("quiz-1", quizDTO));
 
-        ResponseEntity<QuizDTO> response = quizRestController.getQuizById(1L);
+        ResponseEntity<QuizDTO> response = quizRestController.getQuizById(1L, new ServletWebRequest(new MockHttpServletRequest()));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1L, response.getBody().getId());
@@ -106,6 +138,30 @@ class QuizRestControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
+    @Test
+    void testImportQuizzes() throws Exception {
+        InputStream body = new ByteArrayInputStream("{\"title\":\"Imported quiz\"}\n".getBytes(StandardCharsets.UTF_8));
+        QuizImportResultDTO result = new QuizImportResultDTO();
+        result.setQuizzesImported(1);
+
+        when(quizTransferService.importQuizzes(body)).thenReturn(result);
+
+        ResponseEntity<QuizImportResultDTO> response = quizRestController.importQuizzes(body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getQuizzesImported());
+    }
+
+    @Test
+    void testExportQuizzesStreamsNdjson() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        quizRestController.exportQuizzes(null, response);
+
+        assertEquals(QuizRestController.NDJSON, response.getContentType());
+        verify(quizTransferService).exportQuizzes(eq(null), any());
+    }
+
     // ========== Question Endpoints ==========
 
     @Test
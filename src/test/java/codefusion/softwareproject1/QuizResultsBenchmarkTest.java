@@ -0,0 +1,170 @@
+package codefusion.softwareproject1;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codefusion.softwareproject1.dto.QuestionResultDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizAttempt;
+import codefusion.softwareproject1.entity.StudentAnswer;
+import codefusion.softwareproject1.repo.EntityIdAllocator;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.QuestionResultCounterRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+import codefusion.softwareproject1.service.QuestionResultCounterService;
+import codefusion.softwareproject1.service.results.AggregateQuestionResultsSource;
+import codefusion.softwareproject1.service.results.CounterQuestionResultsSource;
+import codefusion.softwareproject1.service.results.InMemoryQuestionResultsSource;
+import codefusion.softwareproject1.service.results.QuestionResultsSource;
+
+/**
+ * Compares the quiz results strategies on a seeded dataset.
+ * Skipped by default; run with
+ * mvn test -Dtest=QuizResultsBenchmarkTest -Dquiz.results.benchmark=true
+ * and optionally -Dquiz.results.benchmark.answers=N (default 1,000,000).
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "quiz.results.benchmark", matches = "true")
+class QuizResultsBenchmarkTest {
+
+    private static final int QUESTIONS = 40;
+    private static final int OPTIONS_PER_QUESTION = 4;
+    private static final int RUNS = 5;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private QuestionRepo questionRepo;
+
+    @Autowired
+    private StudentAnswerRepo studentAnswerRepo;
+
+    @Autowired
+    private QuestionResultCounterRepo counterRepo;
+
+    @Autowired
+    private QuestionResultCounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareResultStrategies() {
+        int answers = Integer.getInteger("quiz.results.benchmark.answers", 1_000_000);
+        Long quizId = seed(answers);
+        counterService.rebuildCountersForQuiz(quizId);
+
+        Map<String, QuestionResultsSource> sources = new LinkedHashMap<>();
+        sources.put("counters", new CounterQuestionResultsSource(counterRepo));
+        sources.put("sql", new AggregateQuestionResultsSource(questionRepo, studentAnswerRepo));
+        sources.put("java", new InMemoryQuestionResultsSource(questionRepo, studentAnswerRepo));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<QuestionResultDTO> expected = null;
+        for (Map.Entry<String, QuestionResultsSource> source : sources.entrySet()) {
+            // Warm-up run also checks that every strategy agrees
+            List<QuestionResultDTO> results = readOnly.execute(status -> source.getValue().loadResults(quizId));
+            if (expected == null) {
+                expected = results;
+            }
+            assertEquals(expected, results, source.getKey() + " disagrees with counters");
+
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                readOnly.execute(status -> source.getValue().loadResults(quizId));
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("quiz results [%s] over %,d answers: best of %d = %.1f ms%n",
+                    source.getKey(), answers, RUNS, best / 1_000_000.0);
+        }
+    }
+
+    private Long seed(int answers) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Benchmark quiz");
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        for (int q = 0; q < QUESTIONS; q++) {
+            Question question = new Question();
+            question.setQuestionText("Question " + q);
+            question.setQuiz(quiz);
+            question.setAnswerOptions(new ArrayList<>());
+            for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        Long quizId = quizRepo.save(quiz).getId();
+
+        List<Long[]> options = jdbcTemplate.query(
+                "select o.question_id, o.id, o.is_correct from answer_option o join question q on q.id = o.question_id " +
+                "where q.quiz_id = ? order by o.question_id, o.id",
+                (rs, i) -> new Long[]{rs.getLong(1), rs.getLong(2), rs.getBoolean(3) ? 1L : 0L}, quizId);
+
+        int attempts = Math.max(1, answers / QUESTIONS);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long[] attemptIds = idAllocator.nextIds(QuizAttempt.class, attempts);
+        List<Object[]> attemptRows = new ArrayList<>(attempts);
+        for (long attemptId : attemptIds) {
+            attemptRows.add(new Object[]{attemptId, quizId, now});
+        }
+        jdbcTemplate.batchUpdate("insert into quiz_attempt (id, quiz_id, attempt_date) values (?, ?, ?)", attemptRows);
+
+        List<Object[]> answerRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < answers; i++) {
+            long attemptId = attemptIds[i / QUESTIONS % attemptIds.length];
+            Long[] option = options.get((i % QUESTIONS) * OPTIONS_PER_QUESTION + (i / QUESTIONS) % OPTIONS_PER_QUESTION);
+            answerRows.add(new Object[]{attemptId, option[0], option[1], option[2] == 1L, now, now});
+            if (answerRows.size() == BATCH_SIZE) {
+                insertAnswers(answerRows);
+            }
+        }
+        insertAnswers(answerRows);
+        return quizId;
+    }
+
+    private void insertAnswers(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            long[] ids = idAllocator.nextIds(StudentAnswer.class, rows.size());
+            List<Object[]> identified = new ArrayList<>(rows.size());
+            for (int i = 0; i < ids.length; i++) {
+                Object[] row = rows.get(i);
+                identified.add(new Object[]{ids[i], row[0], row[1], row[2], row[3], row[4], row[5]});
+            }
+            jdbcTemplate.batchUpdate("insert into student_answer (id, attempt_id, question_id, chosen_answer_id, is_correct, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?)", identified);
+            rows.clear();
+        }
+    }
+}
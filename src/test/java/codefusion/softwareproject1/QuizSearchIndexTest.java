@@ -0,0 +1,107 @@
+package codefusion.softwareproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import codefusion.softwareproject1.dto.QuizSearchResultDTO;
+import codefusion.softwareproject1.entity.Category;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.service.pagination.KeysetPagination;
+import codefusion.softwareproject1.service.search.QuizSearchIndex;
+
+class QuizSearchIndexTest {
+
+    @Test
+    void everyTermMustMatchAsAPrefix() {
+        QuizSearchIndex index = new QuizSearchIndex();
+        index.put(quiz(1L, "Java basics", true, 10L, "Variables and loops"));
+        index.put(quiz(2L, "JavaScript promises", true, 10L, "Async code"));
+        index.put(quiz(3L, "Python basics", true, 20L, "Lists"));
+
+        assertEquals(List.of(1L, 2L), ids(index.search(List.of("jav"), null, false, null, 10)));
+        assertEquals(List.of(1L), ids(index.search(List.of("jav", "bas"), null, false, null, 10)));
+        assertTrue(index.search(List.of("ruby"), null, false, null, 10).isEmpty());
+    }
+
+    @Test
+    void titleMatchesRankAboveQuestionMatches() {
+        QuizSearchIndex index = new QuizSearchIndex();
+        index.put(quiz(1L, "Loops", true, 10L, "Which recursion terminates?"));
+        index.put(quiz(2L, "Recursion", true, 10L, "What is a base case?"));
+
+        List<QuizSearchResultDTO> results = index.search(List.of("recursion"), null, false, null, 10);
+        assertEquals(List.of(2L, 1L), ids(results));
+        assertTrue(results.get(0).getRank() > results.get(1).getRank());
+        assertTrue(results.get(0).getRank() < 1f);
+    }
+
+    @Test
+    void filtersByCategoryAndPublishedState() {
+        QuizSearchIndex index = new QuizSearchIndex();
+        index.put(quiz(1L, "Java basics", true, 10L, "Loops"));
+        index.put(quiz(2L, "Java streams", false, 10L, "Collectors"));
+        index.put(quiz(3L, "Java testing", true, 20L, "JUnit"));
+
+        assertEquals(List.of(1L, 3L), ids(index.search(List.of("java"), null, true, null, 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search(List.of("java"), 10L, false, null, 10)));
+        assertEquals(List.of(1L), ids(index.search(List.of("java"), 10L, true, null, 10)));
+    }
+
+    @Test
+    void updatesReplaceAndRemoveIndexedText() {
+        QuizSearchIndex index = new QuizSearchIndex();
+        index.put(quiz(1L, "Java basics", true, 10L, "Loops"));
+        index.put(quiz(1L, "Kotlin basics", true, 10L, "Coroutines"));
+
+        assertTrue(index.search(List.of("java"), null, false, null, 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search(List.of("corout"), null, false, null, 10)));
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    void pagesContinueAfterTheCursor() {
+        QuizSearchIndex index = new QuizSearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(quiz(id, "Java quiz " + id, true, 10L, "Question"));
+        }
+
+        List<QuizSearchResultDTO> first = index.search(List.of("java"), null, false, null, 2);
+        QuizSearchResultDTO last = first.get(first.size() - 1);
+        List<QuizSearchResultDTO> second = index.search(List.of("java"), null, false,
+                new KeysetPagination.RankCursor(last.getRank(), last.getId()), 10);
+
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L, 5L), ids(second));
+    }
+
+    private static Quiz quiz(Long id, String title, boolean published, Long categoryId, String questionText) {
+        Category category = new Category();
+        category.setId(categoryId);
+        category.setName("Programming");
+
+        Quiz quiz = new Quiz();
+        quiz.setId(id);
+        quiz.setTitle(title);
+        quiz.setPublished(published);
+        quiz.setCategory(category);
+        quiz.setQuestions(new ArrayList<>());
+
+        Question question = new Question();
+        question.setQuestionText(questionText);
+        question.setQuiz(quiz);
+        quiz.getQuestions().add(question);
+        return quiz;
+    }
+
+    private static List<Long> ids(List<QuizSearchResultDTO> results) {
+        return results.stream().map(QuizSearchResultDTO::getId).toList();
+    }
+}
@@ -0,0 +1,135 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import codefusion.softwareproject1.dto.AnswerSubmissionDTO;
+import codefusion.softwareproject1.dto.QuestionStatisticsDTO;
+import codefusion.softwareproject1.dto.QuizStatisticsDTO;
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizAttemptService;
+import codefusion.softwareproject1.service.QuizStatisticsService;
+import codefusion.softwareproject1.service.outbox.OutboxRelay;
+
+/**
+ * Answers and completions travel through the analytics queue into the
+ * statistics tables, completions by way of the outbox, which the test drains
+ * itself; it then waits for the consumer to catch up.
+ */
+@SpringBootTest
+class QuizStatisticsPipelineTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private QuizAttemptService quizAttemptService;
+
+    @Autowired
+    private QuizStatisticsService quizStatisticsService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Test
+    void maintainsItemAnalysisOfCompletedAttempts() throws Exception {
+        Quiz quiz = seedQuiz();
+        Question easy = quiz.getQuestions().get(0);
+        Question hard = quiz.getQuestions().get(1);
+
+        // The strong student answers both questions correctly, the weak one only the easy question
+        answerAndComplete(quiz, 0, 0);
+        answerAndComplete(quiz, 0, 1);
+        outboxRelay.drain();
+
+        QuizStatisticsDTO statistics = awaitCompletedAttempts(quiz.getId(), 2);
+
+        assertEquals(75.0, statistics.getAverageScore(), 1e-6);
+        assertEquals(25.0, statistics.getScoreStandardDeviation(), 1e-6);
+
+        QuestionStatisticsDTO easyStatistics = statistics.getQuestions().get(0);
+        assertEquals(easy.getId(), easyStatistics.getQuestionId());
+        assertEquals(2, easyStatistics.getAnswers());
+        assertEquals(1.0, easyStatistics.getDifficulty(), 1e-6);
+        assertNull(easyStatistics.getDiscrimination(), "everyone answered correctly");
+        assertTrue(easyStatistics.getAverageTimeMillis() >= 0);
+
+        QuestionStatisticsDTO hardStatistics = statistics.getQuestions().get(1);
+        assertEquals(hard.getId(), hardStatistics.getQuestionId());
+        assertEquals(0.5, hardStatistics.getDifficulty(), 1e-6);
+        assertEquals(1.0, hardStatistics.getDiscrimination(), 1e-6);
+        assertEquals(1, hardStatistics.getAnswerOptions().get(0).getTimesChosen());
+        assertEquals(0.5, hardStatistics.getAnswerOptions().get(1).getShare(), 1e-6);
+    }
+
+    @Test
+    void reportsAQuizWithoutAttemptsAsEmpty() {
+        Quiz quiz = seedQuiz();
+
+        QuizStatisticsDTO statistics = quizStatisticsService.getQuizStatistics(quiz.getId());
+
+        assertEquals(0, statistics.getCompletedAttempts());
+        assertNull(statistics.getAverageScore());
+        assertEquals(2, statistics.getQuestions().size());
+        assertNull(statistics.getQuestions().get(0).getDifficulty());
+        assertEquals(0, statistics.getQuestions().get(0).getAnswerOptions().get(0).getTimesChosen());
+    }
+
+    private void answerAndComplete(Quiz quiz, int... chosenOptions) {
+        Long attemptId = quizAttemptService.startQuizAttempt(quiz.getId(), 1L).getId();
+        for (int q = 0; q < chosenOptions.length; q++) {
+            Question question = quiz.getQuestions().get(q);
+            quizAttemptService.submitStudentAnswer(attemptId, question.getId(),
+                    new AnswerSubmissionDTO(question.getAnswerOptions().get(chosenOptions[q]).getId()), 1L);
+        }
+        quizAttemptService.completeQuizAttempt(attemptId);
+    }
+
+    private QuizStatisticsDTO awaitCompletedAttempts(Long quizId, long attempts) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            QuizStatisticsDTO statistics = quizStatisticsService.getQuizStatistics(quizId);
+            boolean caughtUp = statistics.getCompletedAttempts() >= attempts
+                    && statistics.getQuestions().stream().allMatch(question -> question.getAnswers() >= attempts);
+            if (caughtUp || System.currentTimeMillis() > deadline) {
+                return statistics;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private Quiz seedQuiz() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Statistics quiz");
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        for (int q = 0; q < 2; q++) {
+            Question question = new Question();
+            question.setQuestionText("Question " + q);
+            question.setPoints(1);
+            question.setQuiz(quiz);
+            question.setAnswerOptions(new ArrayList<>());
+            for (int o = 0; o < 2; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setIsCorrect(o == 0);
+                question.addAnswerOption(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quizRepo.save(quiz);
+    }
+}
@@ -0,0 +1,159 @@
+package codefusion.softwareproject1;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import codefusion.softwareproject1.dto.QuizImportResultDTO;
+import codefusion.softwareproject1.entity.Category;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.QuizTransferService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Imports NDJSON through the JDBC batch path and checks that an export can be
+ * imported again unchanged.
+ */
+@SpringBootTest(properties = "quiz.import.chunk-size=2")
+class QuizTransferTest {
+
+    @Autowired
+    private QuizTransferService quizTransferService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        quizRepo.deleteAll();
+        categoryRepo.deleteAll();
+        Category category = new Category();
+        category.setName("Imported " + System.nanoTime());
+        categoryId = categoryRepo.save(category).getId();
+    }
+
+    @Test
+    void importsValidLinesAndReportsTheOthers() throws Exception {
+        String ndjson = String.join("\n",
+                quiz("Java basics", categoryId, question("What does JVM stand for?", true)),
+                "{not json",
+                quiz("ab", null),
+                "",
+                quiz("Unknown category", 999_999L),
+                quiz("No correct answer", null, question("Which one is right?", false)),
+                quiz("Streams", categoryId, question("What does map return?", true), question("Is a stream reusable?", true)));
+
+        QuizImportResultDTO result = import_(ndjson);
+
+        assertEquals(2, result.getQuizzesImported());
+        assertEquals(3, result.getQuestionsImported());
+        assertEquals(6, result.getAnswerOptionsImported());
+        assertEquals(4, result.getLinesRejected());
+        assertTrue(result.getErrors().get(0).startsWith("line 2:"));
+        assertTrue(result.getErrors().get(1).startsWith("line 3:"));
+        assertTrue(result.getErrors().get(2).startsWith("line 5:"));
+        assertTrue(result.getErrors().get(3).startsWith("line 6:"));
+        assertEquals(2, quizRepo.count());
+    }
+
+    @Test
+    void exportedQuizzesImportAgainUnchanged() throws Exception {
+        import_(String.join("\n",
+                quiz("Java basics", categoryId, question("What does JVM stand for?", true)),
+                quiz("Streams", null, question("What does map return?", true), question("Is a stream reusable?", true)),
+                quiz("Empty quiz", categoryId)));
+
+        String exported = export();
+        assertEquals(3, exported.lines().count());
+
+        quizRepo.deleteAll();
+        QuizImportResultDTO reimport = import_(exported);
+
+        assertEquals(3, reimport.getQuizzesImported());
+        assertEquals(0, reimport.getLinesRejected());
+        assertEquals(exported, export());
+    }
+
+    @Test
+    void exportKeepsOnlyOneBatchInABoundPersistenceContext() throws Exception {
+        quizRepo.saveAll(IntStream.range(0, 250).mapToObj(i -> quiz("Exported " + i)).toList());
+
+        // Bound the way open EntityManager in view binds it for a request
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        List<Integer> managedAtFlush = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                managedAtFlush.add(session.getPersistenceContextInternal().getNumberOfManagedEntities());
+            }
+        };
+        try {
+            quizTransferService.exportQuizzes(null, out);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertEquals(250, out.toString(StandardCharsets.UTF_8).lines().count());
+        // Export batches hold 100 quizzes
+        assertTrue(managedAtFlush.stream().allMatch(managed -> managed <= 100), "managed per batch: " + managedAtFlush);
+    }
+
+    private QuizImportResultDTO import_(String ndjson) throws Exception {
+        return quizTransferService.importQuizzes(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        quizTransferService.exportQuizzes(null, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Quiz quiz(String title) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle(title);
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        return quiz;
+    }
+
+    private static String quiz(String title, Long categoryId, String... questions) {
+        return "{\"title\":\"" + title + "\",\"published\":true"
+                + (categoryId != null ? ",\"categoryId\":" + categoryId : "")
+                + ",\"questions\":[" + String.join(",", questions) + "]}";
+    }
+
+    private static String question(String text, boolean withCorrectAnswer) {
+        return "{\"questionText\":\"" + text + "\",\"difficultyLevel\":\"easy\",\"answerOptions\":["
+                + "{\"text\":\"First\",\"isCorrect\":" + withCorrectAnswer + ",\"explanation\":\"Because\"},"
+                + "{\"text\":\"Second\",\"isCorrect\":false}]}";
+    }
+}
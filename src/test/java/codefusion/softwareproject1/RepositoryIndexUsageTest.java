@@ -0,0 +1,214 @@
+package codefusion.softwareproject1;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import codefusion.softwareproject1.repo.AnswerOptionRepo;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuestionRepo;
+import codefusion.softwareproject1.repo.QuestionResultCounterRepo;
+import codefusion.softwareproject1.repo.QuizAttemptRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.repo.QuizSearchRepoImpl;
+import codefusion.softwareproject1.repo.ReviewRepo;
+import codefusion.softwareproject1.repo.StudentAnswerRepo;
+
+/**
+ * Checks that the hot repository queries can be served by the indexes of the
+ * Flyway migrations. Every statement a repository call issues is captured and
+ * explained with sequential scans disabled, so a Seq Scan still in the plan
+ * means no index covers that access path.
+ * Needs PostgreSQL 16 or later (EXPLAIN GENERIC_PLAN) and is skipped by default; run with
+ * mvn test -Dtest=RepositoryIndexUsageTest -Dquiz.explain.url=jdbc:postgresql://localhost:5432/quiz_explain
+ * and optionally -Dquiz.explain.username / -Dquiz.explain.password (default postgres).
+ * The database is migrated and left in place.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${quiz.explain.url}",
+        "spring.datasource.username=${quiz.explain.username:postgres}",
+        "spring.datasource.password=${quiz.explain.password:postgres}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@EnabledIfSystemProperty(named = "quiz.explain.url", matches = ".+")
+class RepositoryIndexUsageTest {
+
+    private static final long ID = 1L;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+
+    @Autowired
+    private QuestionRepo questionRepo;
+
+    @Autowired
+    private AnswerOptionRepo answerOptionRepo;
+
+    @Autowired
+    private QuizAttemptRepo quizAttemptRepo;
+
+    @Autowired
+    private StudentAnswerRepo studentAnswerRepo;
+
+    @Autowired
+    private ReviewRepo reviewRepo;
+
+    @Autowired
+    private QuestionResultCounterRepo questionResultCounterRepo;
+
+    @Test
+    void hotRepositoryQueriesUseAnIndex() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("QuizRepo.findPublishedIdsAfter", () -> quizRepo.findPublishedIdsAfter(0L, PageRequest.of(0, 20)));
+        queries.put("QuizRepo.findPublishedIdsByCategoryIdAfter", () -> quizRepo.findPublishedIdsByCategoryIdAfter(ID, 0L, PageRequest.of(0, 20)));
+        queries.put("QuizRepo.findIdsByCategoryId", () -> quizRepo.findIdsByCategoryId(ID));
+        queries.put("QuizRepo.findWithQuestionsByIdIn", () -> quizRepo.findWithQuestionsByIdIn(List.of(ID, 2L)));
+        queries.put("QuestionRepo.findByQuizId", () -> questionRepo.findByQuizId(ID));
+        queries.put("QuestionRepo.fetchAnswerOptionsByQuizIds", () -> questionRepo.fetchAnswerOptionsByQuizIds(List.of(ID, 2L)));
+        queries.put("AnswerOptionRepo.findByQuestionId", () -> answerOptionRepo.findByQuestionId(ID));
+        queries.put("AnswerOptionRepo.findKeysByQuizId", () -> answerOptionRepo.findKeysByQuizId(ID));
+        queries.put("StudentAnswerRepo.findByAttemptId", () -> studentAnswerRepo.findByAttemptId(ID));
+        queries.put("StudentAnswerRepo.findAnsweredQuestionIdsByAttemptId", () -> studentAnswerRepo.findAnsweredQuestionIdsByAttemptId(ID));
+        queries.put("StudentAnswerRepo.findByQuestionIdIn", () -> studentAnswerRepo.findByQuestionIdIn(List.of(ID, 2L)));
+        queries.put("StudentAnswerRepo.countAnswersByQuestionForQuiz", () -> studentAnswerRepo.countAnswersByQuestionForQuiz(ID));
+        queries.put("ReviewRepo.findByQuizIdOrderByCreatedAtDesc", () -> reviewRepo.findByQuizIdOrderByCreatedAtDesc(ID));
+        queries.put("ReviewRepo.findFirstPageByQuizId", () -> reviewRepo.findFirstPageByQuizId(ID, PageRequest.of(0, 20)));
+        queries.put("ReviewRepo.findPageByQuizIdBefore", () -> reviewRepo.findPageByQuizIdBefore(ID, LocalDateTime.now(), ID, PageRequest.of(0, 20)));
+        queries.put("QuizAttemptRepo.findWithQuizById", () -> quizAttemptRepo.findWithQuizById(ID));
+        queries.put("QuizAttemptRepo.findScoreById", () -> quizAttemptRepo.findScoreById(ID));
+        queries.put("QuizAttemptRepo.findTopCompletedByQuizId", () -> quizAttemptRepo.findTopCompletedByQuizId(ID, PageRequest.of(0, 100)));
+        queries.put("QuizAttemptRepo.findCompletedAfter", () -> quizAttemptRepo.findCompletedAfter(ID));
+        queries.put("QuestionResultCounterRepo.findResultsByQuizId", () -> questionResultCounterRepo.findResultsByQuizId(ID));
+        queries.put("CategoryRepo.searchByText", () -> categoryRepo.searchByText("java:*", 20));
+
+        // JDBC fragments bypass Hibernate, so their statements are explained directly
+        Map<String, String> jdbcStatements = new LinkedHashMap<>();
+        jdbcStatements.put("QuizRepo.searchQuizzes (published, category, cursor)", QuizSearchRepoImpl.searchSql(true, true, true));
+        jdbcStatements.put("QuizRepo.searchQuizzes (all quizzes)", QuizSearchRepoImpl.searchSql(false, false, false));
+
+        List<String> sequentialScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            statementRecorder.clear();
+            query.run();
+            assertFalse(statementRecorder.statements().isEmpty(), name + " issued no statement");
+            for (String sql : statementRecorder.statements()) {
+                String plan = explain(sql);
+                if (plan.contains("Seq Scan")) {
+                    sequentialScans.add(name + ": " + sql + "\n" + plan);
+                }
+            }
+        });
+
+        jdbcStatements.forEach((name, sql) -> {
+            String plan = explain(sql);
+            if (plan.contains("Seq Scan")) {
+                sequentialScans.add(name + ": " + sql + "\n" + plan);
+            }
+        });
+
+        assertTrue(sequentialScans.isEmpty(), "Queries without a usable index:\n" + String.join("\n\n", sequentialScans));
+    }
+
+    /**
+     * Plans the statement without binding its parameters, on one connection
+     * that has sequential scans disabled.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set enable_seqscan = off");
+                try (ResultSet plan = statement.executeQuery("explain (generic_plan) " + numberParameters(sql))) {
+                    StringBuilder lines = new StringBuilder();
+                    while (plan.next()) {
+                        lines.append(plan.getString(1)).append('\n');
+                    }
+                    return lines.toString();
+                } finally {
+                    statement.execute("reset enable_seqscan");
+                }
+            }
+        });
+    }
+
+    // JDBC placeholders to the $n parameters EXPLAIN GENERIC_PLAN expects
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    static class StatementRecorder implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecording {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder statementRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementRecorder);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package codefusion.softwareproject1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.RatingSummaryDTO;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.entity.QuizRatingSummary;
+import codefusion.softwareproject1.repo.QuizRatingSummaryRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+import codefusion.softwareproject1.service.ReviewService;
+
+/**
+ * Rating summaries follow review changes, and reconciliation rewrites the
+ * ones that drifted from the reviews or were never created.
+ */
+@SpringBootTest
+class ReviewRatingSummaryTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private QuizRatingSummaryRepo ratingSummaryRepo;
+
+    @Test
+    void summaryFollowsReviewChanges() {
+        Long quizId = seedQuiz().getId();
+        reviewService.createReview(review(quizId, 4));
+        reviewService.createReview(review(quizId, 5));
+
+        RatingSummaryDTO summary = reviewService.getRatingSummaryByQuizId(quizId);
+        assertEquals(2, summary.getTotalReviews());
+        assertEquals(4.5, summary.getAverageRating());
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 1L, 5, 1L), summary.getRatingDistribution());
+    }
+
+    @Test
+    void reconciliationRestoresDriftedAndMissingSummaries() {
+        Long drifted = seedQuiz().getId();
+        reviewService.createReview(review(drifted, 3));
+        QuizRatingSummary summary = ratingSummaryRepo.findById(drifted).orElseThrow();
+        summary.setReviewCount(7);
+        summary.setHistogram(new long[]{0, 7, 0, 0, 0, 0});
+        ratingSummaryRepo.save(summary);
+
+        Long missing = seedQuiz().getId();
+        reviewService.createReview(review(missing, 2));
+        ratingSummaryRepo.deleteById(missing);
+
+        assertTrue(reviewService.reconcileRatingSummaries() >= 2);
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 0L, 5, 0L),
+                reviewService.getRatingSummaryByQuizId(drifted).getRatingDistribution());
+        assertEquals(1, reviewService.getRatingSummaryByQuizId(missing).getTotalReviews());
+        assertEquals(0, reviewService.reconcileRatingSummaries());
+    }
+
+    private CreateReviewDTO review(Long quizId, int rating) {
+        return new CreateReviewDTO(quizId, "summary-student", rating, "Counted in the summary");
+    }
+
+    private Quiz seedQuiz() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Rated quiz");
+        quiz.setPublished(true);
+        quiz.setCreatedAt(LocalDateTime.now());
+        quiz.setQuestions(new ArrayList<>());
+        return quizRepo.save(quiz);
+    }
+}
@@ -19,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 
 import codefusion.softwareproject1.controllers.ReviewRestController;
 import codefusion.softwareproject1.dto.CreateReviewDTO;
+import codefusion.softwareproject1.dto.CursorPageDTO;
+import codefusion.softwareproject1.dto.RatingSummaryDTO;
 import codefusion.softwareproject1.dto.ReviewDTO;
 import codefusion.softwareproject1.service.ReviewService;
 
@@ -82,6 +84,34 @@ class ReviewRestControllerTest {
         verify(reviewService, times(1)).getReviewsAndSummaryByQuizId(quizId);
     }
 
+    @Test
+    void getReviewsPageForQuiz_success() {
+        Long quizId = 1L;
+        CursorPageDTO<ReviewDTO> page = new CursorPageDTO<>(java.util.List.of(new ReviewDTO()), "next", true);
+
+        when(reviewService.getReviewsPageByQuizId(quizId, null, 10)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<ReviewDTO>> response = reviewRestController.getReviewsPageForQuiz(quizId, null, 10);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(page, response.getBody());
+        verify(reviewService, times(1)).getReviewsPageByQuizId(quizId, null, 10);
+    }
+
+    @Test
+    void getRatingSummaryForQuiz_success() {
+        Long quizId = 1L;
+        RatingSummaryDTO summary = new RatingSummaryDTO(quizId, 2, 4.5, Map.of(4, 1L, 5, 1L));
+
+        when(reviewService.getRatingSummaryByQuizId(quizId)).thenReturn(summary);
+
+        ResponseEntity<RatingSummaryDTO> response = reviewRestController.getRatingSummaryForQuiz(quizId);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(summary, response.getBody());
+        verify(reviewService, times(1)).getRatingSummaryByQuizId(quizId);
+    }
+
     @Test
     void getReviewById_success() {
         Long reviewId = 5L;
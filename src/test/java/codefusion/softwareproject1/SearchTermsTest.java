@@ -0,0 +1,34 @@
+package codefusion.softwareproject1;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import codefusion.softwareproject1.service.search.SearchTerms;
+
+class SearchTermsTest {
+
+    @Test
+    void termsAreLowercasedDistinctAndStrippedOfOperators() {
+        assertEquals(List.of("java", "basics", "101"), SearchTerms.parse("  Java & basics!|101 (java) "));
+        assertEquals(List.of("äidinkieli"), SearchTerms.parse("Äidinkieli"));
+    }
+
+    @Test
+    void everyTermBecomesARequiredPrefix() {
+        assertEquals("java:* & bas:*", SearchTerms.toPrefixTsQuery("Java bas"));
+    }
+
+    @Test
+    void termCountIsBounded() {
+        assertEquals(SearchTerms.MAX_TERMS, SearchTerms.parse("a b c d e f g h i j k l m").size());
+    }
+
+    @Test
+    void textWithoutWordsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchTerms.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> SearchTerms.toPrefixTsQuery(" :* & ! "));
+    }
+}
@@ -0,0 +1,259 @@
+package codefusion.softwareproject1;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import codefusion.softwareproject1.entity.AnswerOption;
+import codefusion.softwareproject1.entity.Category;
+import codefusion.softwareproject1.entity.Question;
+import codefusion.softwareproject1.entity.Quiz;
+import codefusion.softwareproject1.repo.CategoryRepo;
+import codefusion.softwareproject1.repo.QuizRepo;
+
+/**
+ * Replays student traffic against the full HTTP stack backed by the in-memory
+ * H2 database (PostgreSQL mode) and reports latency percentiles and throughput
+ * per endpoint. Each virtual user loops through a student session: browse the
+ * catalog, start an attempt, answer every question and complete it, then
+ * sometimes check the results or leave a review.
+ * Skipped by default; run with
+ * mvn test -Dtest=StudentTrafficLoadTest -Dquiz.loadtest=true
+ * and optionally -Dquiz.loadtest.users=N (default 50),
+ * -Dquiz.loadtest.seconds=N (default 30) and -Dquiz.loadtest.quizzes=N (default 20).
+ * The connection pool is sized like production; compare platform and virtual
+ * request threads by running once more with -Dspring.threads.virtual.enabled=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.hikari.maximum-pool-size=5")
+@EnabledIfSystemProperty(named = "quiz.loadtest", matches = "true")
+class StudentTrafficLoadTest {
+
+    private static final int QUESTIONS = 10;
+    private static final int OPTIONS_PER_QUESTION = 4;
+    private static final double RESULTS_SHARE = 0.3;
+    private static final double REVIEW_SHARE = 0.2;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private QuizRepo quizRepo;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    @Test
+    void replayStudentTraffic() throws Exception {
+        int users = Integer.getInteger("quiz.loadtest.users", 50);
+        int seconds = Integer.getInteger("quiz.loadtest.seconds", 30);
+        List<Quiz> quizzes = seed(Integer.getInteger("quiz.loadtest.quizzes", 20));
+
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<?>> sessions = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            sessions.add(virtualUsers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    runSession(quizzes.get(ThreadLocalRandom.current().nextInt(quizzes.size())));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> session : sessions) {
+            session.get();
+        }
+        virtualUsers.shutdown();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        report(users, elapsedSeconds);
+
+        long failures = stats.values().stream().mapToLong(EndpointStats::failures).sum();
+        assertTrue(stats.containsKey("submit-answer"), "No answers were submitted");
+        assertEquals(0, failures, "Requests failed under load");
+    }
+
+    private void runSession(Quiz quiz) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        call("published-quizzes", get("/api/published-quizzes"));
+
+        JsonNode attempt = call("start-attempt",
+                post("/api/quiz-attempts/start", Map.of("quizId", quiz.getId(), "studentId", 1L)));
+        if (attempt == null) {
+            return;
+        }
+        long attemptId = attempt.get("id").asLong();
+
+        for (Question question : quiz.getQuestions()) {
+            List<AnswerOption> options = question.getAnswerOptions();
+            AnswerOption chosen = options.get(random.nextInt(options.size()));
+            call("submit-answer", post("/api/quiz-attempts/" + attemptId + "/questions/" + question.getId() + "/submit-answer",
+                    Map.of("answerOptionId", chosen.getId())));
+        }
+        call("complete-attempt", post("/api/quiz-attempts/" + attemptId + "/complete", Map.of()));
+
+        if (random.nextDouble() < RESULTS_SHARE) {
+            call("quiz-results", get("/api/quiz-attempts/quizzes/" + quiz.getId() + "/results"));
+        }
+        if (random.nextDouble() < REVIEW_SHARE) {
+            call("create-review", post("/api/quizzes/" + quiz.getId() + "/reviews", Map.of(
+                    "quizId", quiz.getId(),
+                    "studentNickname", "student" + random.nextInt(10_000),
+                    "rating", random.nextInt(1, 6),
+                    "reviewText", "Generated review from the load test harness")));
+            call("quiz-reviews", get("/api/quizzes/" + quiz.getId() + "/reviews"));
+        }
+    }
+
+    private JsonNode call(String endpoint, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long latency = System.nanoTime() - start;
+
+        boolean success = response.statusCode() / 100 == 2;
+        stats.computeIfAbsent(endpoint, name -> new EndpointStats()).record(latency, success);
+        return success && !response.body().isEmpty() ? objectMapper.readTree(response.body()) : null;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(int users, double elapsedSeconds) {
+        System.out.printf("load test: %d users for %.1f s on %s threads%n", users, elapsedSeconds,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false) ? "virtual" : "platform");
+        System.out.printf("%-18s %9s %9s %10s %10s %10s %9s%n",
+                "endpoint", "requests", "failures", "p50 ms", "p99 ms", "max ms", "req/s");
+        new TreeMap<>(stats).forEach((endpoint, endpointStats) -> {
+            long[] latencies = endpointStats.sortedLatencies();
+            System.out.printf("%-18s %9d %9d %10.2f %10.2f %10.2f %9.1f%n",
+                    endpoint,
+                    latencies.length,
+                    endpointStats.failures(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    percentile(latencies, 1.0),
+                    latencies.length / elapsedSeconds);
+        });
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private List<Quiz> seed(int count) {
+        Category category = new Category();
+        category.setName("Load test " + System.nanoTime());
+        category = categoryRepo.save(category);
+
+        List<Quiz> quizzes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setTitle("Load test quiz " + i);
+            quiz.setPublished(true);
+            quiz.setCategory(category);
+            quiz.setCreatedAt(LocalDateTime.now());
+            quiz.setQuestions(new ArrayList<>());
+            for (int q = 0; q < QUESTIONS; q++) {
+                Question question = new Question();
+                question.setQuestionText("Question " + q);
+                question.setQuiz(quiz);
+                question.setAnswerOptions(new ArrayList<>());
+                for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                    AnswerOption option = new AnswerOption();
+                    option.setText("Option " + o);
+                    option.setIsCorrect(o == 0);
+                    question.addAnswerOption(option);
+                }
+                quiz.getQuestions().add(question);
+            }
+            quizzes.add(quizRepo.save(quiz));
+        }
+        return quizzes;
+    }
+
+    /**
+     * Latencies of one endpoint in nanoseconds, recorded by all virtual users.
+     */
+    private static final class EndpointStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long failures;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                failures++;
+            }
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package codefusion.softwareproject1;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import codefusion.softwareproject1.entity.OutboxEvent;
+import codefusion.softwareproject1.service.outbox.WebhookOutboxSink;
+
+/**
+ * The webhook sink posts a batch as a JSON array and only returns once the
+ * receiver has accepted it.
+ */
+class WebhookOutboxSinkTest {
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(204);
+    private final AtomicReference<String> received = new AtomicReference<>();
+    private WebhookOutboxSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            received.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        sink = new WebhookOutboxSink(RestClient.builder(), objectMapper,
+                URI.create("http://localhost:" + server.getAddress().getPort() + "/events"), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void postsTheBatchWithItsPayloadsInline() throws Exception {
+        sink.send(List.of(event(7L, "{\"quizId\":3}")));
+
+        String body = received.get();
+        assertTrue(body.startsWith("[{\"id\":7,"), body);
+        assertTrue(body.contains("\"eventType\":\"QuizPublished\""), body);
+        assertTrue(body.contains("\"payload\":{\"quizId\":3}"), body);
+    }
+
+    @Test
+    void throwsWhenTheReceiverRejectsTheBatch() {
+        status.set(503);
+
+        HttpServerErrorException rejected = assertThrows(HttpServerErrorException.class,
+                () -> sink.send(List.of(event(8L, "{\"quizId\":4}"))));
+        assertEquals(503, rejected.getStatusCode().value());
+    }
+
+    private static OutboxEvent event(Long id, String payload) {
+        return new OutboxEvent(id, "Quiz", 3L, "QuizPublished", payload, LocalDateTime.now(), 0, null, null, null);
+    }
+}
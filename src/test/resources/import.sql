@@ -0,0 +1,2 @@
+-- Run by Hibernate after it creates the test schema; objects no entity declares, made by the V8 migration in production
+CREATE SEQUENCE IF NOT EXISTS quiz_attempt_completion_seq;